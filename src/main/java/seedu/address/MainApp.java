@@ -9,6 +9,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -22,8 +23,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TbmManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AsyncTbmManagerSaver;
+import seedu.address.storage.BinaryTbmManagerStorage;
+import seedu.address.storage.JournalTbmManagerStorage;
 import seedu.address.storage.JsonTbmManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedTbmManagerStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TbmManagerStorage;
@@ -45,6 +50,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AsyncTbmManagerSaver tbmManagerSaver;
 
     @Override
     public void init() throws Exception {
@@ -56,20 +62,40 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TbmManagerStorage tbmManagerStorage = new JsonTbmManagerStorage(userPrefs.getTbmManagerFilePath());
+        TbmManagerStorage tbmManagerStorage = initTbmManagerStorage(userPrefs);
         storage = new StorageManager(tbmManagerStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
-        model.initialiseTagNoteMap();
         logger.info("=============================[ Initializing TBM ]=============================");
 
-        logic = new LogicManager(model, storage);
+        tbmManagerSaver = new AsyncTbmManagerSaver(storage, model.getTbmManagerVersion());
+        logic = new LogicManager(model, storage, tbmManagerSaver);
 
         ui = new UiManager(logic, this);
     }
 
+    /**
+     * Returns the {@code TbmManagerStorage} for the storage mode selected in {@code userPrefs}.
+     */
+    private TbmManagerStorage initTbmManagerStorage(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        logger.info("Using storage mode : " + storageSettings.getMode());
+        switch (storageSettings.getMode()) {
+        case JOURNAL:
+            return new JournalTbmManagerStorage(userPrefs.getTbmManagerFilePath(),
+                    storageSettings.getJournalCompactionThreshold());
+        case BINARY:
+            return new BinaryTbmManagerStorage(userPrefs.getTbmManagerFilePath());
+        case SHARDED:
+            return new ShardedTbmManagerStorage(userPrefs.getTbmManagerFilePath());
+        default:
+            return new JsonTbmManagerStorage(userPrefs.getTbmManagerFilePath(),
+                    storageSettings.isJsonPrettyPrinted());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample TBM Manager will be used instead if {@code storage}'s TBM Manager is not found,
@@ -176,10 +202,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TBM ] =============================");
+        tbmManagerSaver.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.shutdown();
     }
 }
@@ -0,0 +1,156 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import seedu.address.commons.core.LogSettings.OverflowPolicy;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background thread.
+ * Records wait in a bounded ring buffer, which is drained by a daemon thread in the order the records were published,
+ * so the thread that logs a record never formats or writes it. When the buffer is full, the record is either dropped
+ * and counted, or the logging thread waits for room, according to the {@link OverflowPolicy}.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private final List<Handler> targets;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread drainer;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // Guarded by this handler, and used to wait for the buffer to be drained
+    private long acceptedCount;
+    private long writtenCount;
+    private boolean isClosed;
+
+    /**
+     * Creates a handler that buffers up to {@code capacity} records for {@code targets}, and starts draining them.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.targets = List.copyOf(targets);
+        this.overflowPolicy = overflowPolicy;
+        buffer = new ArrayBlockingQueue<>(capacity);
+        drainer = new Thread(this::drain, "AsyncLogHandler");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The caller is found from the stack of the logging thread, so it has to be found before handing off
+        record.getSourceMethodName();
+
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            acceptedCount++;
+        }
+        if (!enqueue(record)) {
+            droppedCount.incrementAndGet();
+            markWritten();
+        }
+    }
+
+    /**
+     * Waits until every record accepted so far has been written, and then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            boolean isInterrupted = false;
+            while (writtenCount < acceptedCount && drainer.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes every record accepted so far and stops the background thread.
+     * The target handlers are flushed but left open, as they may be shared with other loggers. Records published
+     * afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        flush();
+        drainer.interrupt();
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of records that were discarded because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private boolean enqueue(LogRecord record) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            return buffer.offer(record);
+        }
+        try {
+            buffer.put(record);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (Handler target : targets) {
+                try {
+                    target.publish(record);
+                } catch (RuntimeException e) {
+                    reportError(null, e, ErrorManager.WRITE_FAILURE);
+                }
+            }
+            markWritten();
+        }
+    }
+
+    private synchronized void markWritten() {
+        writtenCount++;
+        notifyAll();
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -16,6 +18,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private LogSettings logSettings = new LogSettings();
 
     /**
      * Return the logger level currently set in the configuration.
@@ -54,6 +57,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the settings for how log records are written.
+     *
+     * @return {@code LogSettings} set.
+     */
+    public LogSettings getLogSettings() {
+        return logSettings;
+    }
+
+    /**
+     * Sets the settings for how log records are written.
+     *
+     * @param logSettings The given {@code LogSettings}.
+     */
+    public void setLogSettings(LogSettings logSettings) {
+        requireNonNull(logSettings);
+        this.logSettings = logSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -66,12 +88,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(logSettings, o.logSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, logSettings);
     }
 
     @Override
@@ -79,6 +102,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nLog Settings : " + logSettings);
         return sb.toString();
     }
 
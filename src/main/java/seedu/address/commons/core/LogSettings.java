@@ -0,0 +1,108 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings for how log records are handed to the console and the log file.
+ * Guarantees: immutable.
+ */
+public class LogSettings implements Serializable {
+
+    /**
+     * What an asynchronous logger does with a record when its buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The record is discarded and counted as dropped, so that logging never waits. */
+        DROP,
+        /** The logging thread waits until there is room in the buffer, so that no record is lost. */
+        BLOCK
+    }
+
+    private static final boolean DEFAULT_ASYNCHRONOUS = false;
+    private static final int DEFAULT_BUFFER_CAPACITY = 1024;
+    private static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP;
+
+    private final boolean asynchronous;
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * Constructs a {@code LogSettings} that logs synchronously.
+     */
+    public LogSettings() {
+        asynchronous = DEFAULT_ASYNCHRONOUS;
+        bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+        overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+    }
+
+    /**
+     * Constructs a {@code LogSettings} with the specified mode of logging, buffer capacity and overflow policy.
+     */
+    public LogSettings(boolean asynchronous, int bufferCapacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        this.asynchronous = asynchronous;
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns whether log records are buffered and written to the console and the log file by a background thread,
+     * instead of by the thread that logs them.
+     *
+     * @return True if logging is asynchronous.
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Returns the number of log records that may wait to be written when logging is asynchronous.
+     *
+     * @return Capacity of the buffer of log records.
+     */
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    /**
+     * Returns what is done with a log record when the buffer is full.
+     *
+     * @return The {@code OverflowPolicy}.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof LogSettings)) { //this handles null as well.
+            return false;
+        }
+
+        LogSettings o = (LogSettings) other;
+
+        return asynchronous == o.asynchronous
+                && bufferCapacity == o.bufferCapacity
+                && overflowPolicy == o.overflowPolicy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(asynchronous, bufferCapacity, overflowPolicy);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Asynchronous : " + asynchronous + "\n");
+        sb.append("Buffer capacity : " + bufferCapacity + "\n");
+        sb.append("Overflow policy : " + overflowPolicy);
+        return sb.toString();
+    }
+}
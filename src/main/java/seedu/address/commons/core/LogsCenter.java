@@ -1,9 +1,15 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,37 +20,85 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  * at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  * file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Loggers are set to the current logging level, so that a message below it is dropped before reaching any handler.
+ * Messages that are costly to build, or that are logged often, should be passed as a {@code Supplier}, such as one
+ * from {@link #lazyFormat(String, Object...)}, which is only called if the message is loggable.<br>
+ * If asynchronous logging is enabled in the {@code config}, loggers hand their records to an {@link AsyncLogHandler}
+ * instead, which writes them to the console and the log file on a background thread until {@link #shutdown()}.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "TBM.log";
     private static Level currentLogLevel = Level.INFO;
+    private static final Set<Logger> loggers = ConcurrentHashMap.newKeySet();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Loggers already obtained from the LogsCenter, and those obtained after this initialization, are set to it.<br>
+     * If asynchronous logging is enabled, every logger obtained from the LogsCenter starts logging asynchronously.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        if (consoleHandler != null) {
+            consoleHandler.setLevel(currentLogLevel);
+        }
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+        }
+        if (asyncHandler != null) {
+            asyncHandler.setLevel(currentLogLevel);
+        }
+        loggers.forEach(trackedLogger -> trackedLogger.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
+
+        LogSettings logSettings = config.getLogSettings();
+        if (logSettings.isAsynchronous() && asyncHandler == null) {
+            startAsyncLogging(logSettings);
+        }
+    }
+
+    /**
+     * Writes out every log record that is waiting to be written and stops asynchronous logging, after which loggers
+     * write their records synchronously again. Does nothing if logging is synchronous.
+     */
+    public static synchronized void shutdown() {
+        if (asyncHandler == null) {
+            return;
+        }
+        AsyncLogHandler stoppedHandler = asyncHandler;
+        asyncHandler = null;
+        loggers.forEach(LogsCenter::setHandlers);
+        stoppedHandler.close();
+
+        long droppedCount = stoppedHandler.getDroppedCount();
+        if (droppedCount > 0) {
+            logger.warning(droppedCount + " log records were dropped because the log buffer was full");
+        }
+    }
+
+    /**
+     * Returns the number of log records dropped so far because the buffer of asynchronous logging was full, or 0 if
+     * logging is synchronous.
+     */
+    public static synchronized long getDroppedLogRecordCount() {
+        return asyncHandler == null ? 0 : asyncHandler.getDroppedCount();
     }
 
     /**
      * Creates a logger with the given name.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
 
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        setHandlers(logger);
+        loggers.add(logger);
 
         return Logger.getLogger(name);
     }
@@ -59,6 +113,49 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Returns a message that is only formatted with {@link String#format(String, Object...)} if it is loggable.
+     */
+    public static Supplier<String> lazyFormat(String format, Object... args) {
+        return () -> String.format(format, args);
+    }
+
+    /**
+     * Starts handing the records of every logger to a new {@code asyncHandler}, which writes them to the console and
+     * the log file.
+     */
+    private static void startAsyncLogging(LogSettings logSettings) {
+        if (logSettings.getBufferCapacity() <= 0) {
+            logger.warning("Log buffer capacity should be positive. Will be logging synchronously");
+            return;
+        }
+        List<Handler> targets = new ArrayList<>();
+        if (consoleHandler != null) {
+            targets.add(consoleHandler);
+        }
+        if (fileHandler != null) {
+            targets.add(fileHandler);
+        }
+        asyncHandler = new AsyncLogHandler(targets, logSettings.getBufferCapacity(), logSettings.getOverflowPolicy());
+        asyncHandler.setLevel(currentLogLevel);
+        loggers.forEach(LogsCenter::setHandlers);
+        logger.info("Logging asynchronously with a buffer of " + logSettings.getBufferCapacity() + " records");
+    }
+
+    /**
+     * Replaces the handlers of {@code logger} with the {@code asyncHandler} if logging is asynchronous, or with the
+     * {@code consoleHandler} and {@code fileHandler} otherwise.
+     */
+    private static void setHandlers(Logger logger) {
+        removeHandlers(logger);
+        if (asyncHandler != null) {
+            logger.addHandler(asyncHandler);
+            return;
+        }
+        addConsoleHandler(logger);
+        addFileHandler(logger);
+    }
+
     /**
      * Adds the {@code consoleHandler} to the {@code logger}. <br>
      * Creates the {@code consoleHandler} if it is null.
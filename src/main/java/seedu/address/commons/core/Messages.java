@@ -6,6 +6,8 @@ package seedu.address.commons.core;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_UNKNOWN_COMMAND_SUGGESTION = MESSAGE_UNKNOWN_COMMAND
+            + ". Did you mean \"%1$s\"?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX = "The client index provided is invalid";
     public static final String MESSAGE_INVALID_COUNTRY_NOTE_DISPLAYED_INDEX =
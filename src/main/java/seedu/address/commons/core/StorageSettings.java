@@ -0,0 +1,112 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings for how TBM data is stored on disk.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * The on-disk layouts that TBM data can be stored in.
+     */
+    public enum Mode {
+        /** The whole TBM Manager is rewritten as a single JSON file on every save. */
+        JSON,
+        /** Mutations are appended to a journal next to a JSON snapshot that is periodically compacted. */
+        JOURNAL,
+        /** The whole TBM Manager is rewritten as a compact binary snapshot on every save. */
+        BINARY,
+        /** Clients are spread over shard files listed by a manifest, and only changed shards are rewritten. */
+        SHARDED
+    }
+
+    private static final Mode DEFAULT_MODE = Mode.JSON;
+    private static final long DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1024 * 1024;
+    private static final boolean DEFAULT_JSON_PRETTY_PRINTED = true;
+
+    private final Mode mode;
+    private final long journalCompactionThreshold;
+    private final boolean jsonPrettyPrinted;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default storage mode, compaction threshold and JSON layout.
+     */
+    public StorageSettings() {
+        mode = DEFAULT_MODE;
+        journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+        jsonPrettyPrinted = DEFAULT_JSON_PRETTY_PRINTED;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified storage mode, compaction threshold and JSON layout.
+     */
+    public StorageSettings(Mode mode, long journalCompactionThreshold, boolean jsonPrettyPrinted) {
+        requireNonNull(mode);
+        this.mode = mode;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.jsonPrettyPrinted = jsonPrettyPrinted;
+    }
+
+    /**
+     * Returns the storage mode.
+     *
+     * @return Storage {@code Mode}.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the size, in bytes, that the journal may grow to before it is compacted into the snapshot.
+     *
+     * @return Journal compaction threshold in bytes.
+     */
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Returns whether the JSON data file is indented when saved.
+     * A data file without indentation is smaller and faster to write, but harder to edit by hand.
+     *
+     * @return True if the JSON data file is indented.
+     */
+    public boolean isJsonPrettyPrinted() {
+        return jsonPrettyPrinted;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StorageSettings)) { //this handles null as well.
+            return false;
+        }
+
+        StorageSettings o = (StorageSettings) other;
+
+        return mode == o.mode
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && jsonPrettyPrinted == o.jsonPrettyPrinted;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, journalCompactionThreshold, jsonPrettyPrinted);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Mode : " + mode + "\n");
+        sb.append("Journal compaction threshold : " + journalCompactionThreshold + "\n");
+        sb.append("JSON pretty printed : " + jsonPrettyPrinted);
+        return sb.toString();
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -11,8 +14,17 @@ import java.nio.file.Paths;
  */
 public class FileUtil {
 
+    /** Files at least this many bytes long are memory-mapped by {@link #openForReading(Path)}. */
+    static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
 
+    /*
+     * Windows does not allow a file to be truncated or replaced while it is mapped, and a mapping is only released
+     * once its buffer is garbage collected, so mapping a data file there would make the next save of it fail.
+     */
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name").startsWith("Windows");
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -72,6 +84,24 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns an input stream over the contents of {@code file}.
+     * Large files are memory-mapped, so that reading them does not copy the whole file into the heap, while small
+     * files are read through a regular stream as mapping them costs more than it saves.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        long size = Files.size(file);
+        if (!IS_MAPPING_SUPPORTED || size < MAPPED_READ_THRESHOLD || size > Integer.MAX_VALUE) {
+            return Files.newInputStream(file);
+        }
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            // The mapping stays valid after the channel is closed
+            return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +110,46 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
 }
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe table of canonical immutable values, so that equal values share a single instance.
+ * The table holds at most about {@code capacity} values, which keeps values made from user input from filling up the
+ * heap. Once it is full, values that are not already in it are created afresh instead of being added.
+ *
+ * @param <K> The type of the keys that values are made from.
+ * @param <V> The type of the values.
+ */
+public class InternTable<K, V> {
+
+    private final Map<K, V> table = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final Function<? super K, ? extends V> factory;
+
+    /**
+     * Creates an empty table of at most about {@code capacity} values, which are made by {@code factory}.
+     */
+    public InternTable(int capacity, Function<? super K, ? extends V> factory) {
+        requireNonNull(factory);
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.capacity = capacity;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, making and adding it if the table is not full.
+     * Any exception thrown by the factory is passed on, and nothing is added.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        V value = table.get(key);
+        if (value != null) {
+            return value;
+        }
+        // Threads that find the table almost full at the same time may each add a value, going over the capacity
+        // by at most the number of such threads.
+        if (table.size() >= capacity) {
+            return factory.apply(key);
+        }
+        return table.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the number of values in the table.
+     */
+    public int size() {
+        return table.size();
+    }
+}
@@ -3,14 +3,21 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -45,7 +52,9 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -91,6 +100,54 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming parser over the JSON file at {@code filePath}.
+     * Values read through the parser are bound the same way as in {@link #readJsonFile(Path, Class)}.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(filePath));
+    }
+
+    /**
+     * Returns a streaming parser over the JSON value that starts {@code offset} bytes into the file at
+     * {@code filePath}, without reading the part of the file before it.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath, long offset) throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            channel.position(offset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return objectMapper.getFactory().createParser(Channels.newInputStream(channel));
+    }
+
+    /**
+     * Returns a streaming generator that writes UTF-8 JSON to the file at {@code filePath}, replacing its contents.
+     * The generator buffers its output and writes it to the file's channel in blocks.
+     * @param filePath cannot be null.
+     * @param prettyPrint whether the output is indented the same way as {@link #toJsonString(Object)}.
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean prettyPrint) throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(Channels.newOutputStream(channel), JsonEncoding.UTF8);
+        if (prettyPrint) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +167,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -65,4 +65,36 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the number of single character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code s} into {@code t}, where no substring is edited more than once.
+     * e.g. 1 for "ad" and "add", and for "veiw" and "view".
+     * @throws NullPointerException if {@code s} or {@code t} is null.
+     */
+    public static int getEditDistance(String s, String t) {
+        requireNonNull(s);
+        requireNonNull(t);
+
+        // distances[i][j] is the distance between the first i characters of s and the first j characters of t
+        int[][] distances = new int[s.length() + 1][t.length() + 1];
+        for (int i = 0; i <= s.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= t.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= s.length(); i++) {
+            for (int j = 1; j <= t.length(); j++) {
+                int substitutionCost = s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(distances[i - 1][j - 1] + substitutionCost,
+                        Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                if (i > 1 && j > 1 && s.charAt(i - 1) == t.charAt(j - 2) && s.charAt(i - 2) == t.charAt(j - 1)) {
+                    distance = Math.min(distance, distances[i - 2][j - 2] + 1);
+                }
+                distances[i][j] = distance;
+            }
+        }
+        return distances[s.length()][t.length()];
+    }
 }
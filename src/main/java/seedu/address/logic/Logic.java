@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message whenever changes made by {@link #execute(String)} could not
+     * be saved after it returned. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Sets the boolean that corresponds to whether the country notes list panel is currently visible.
      */
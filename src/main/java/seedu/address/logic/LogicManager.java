@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTbmManager;
 import seedu.address.model.client.Client;
 import seedu.address.model.note.CountryNote;
+import seedu.address.storage.AsyncTbmManagerSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,15 +34,36 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final MainParser mainParser;
+    private final AsyncTbmManagerSaver saver;
+    private long lastSavedVersion;
+    private Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the TbmManager are saved to {@code storage} before {@link #execute(String)} returns.
      */
     public LogicManager(Model model, Storage storage) {
         requireAllNonNull(model, storage);
         this.model = model;
         this.storage = storage;
+        this.saver = null;
         mainParser = new MainParser(model.getTagNoteMap());
+        // The model starts out with the data that was read from storage
+        lastSavedVersion = model.getTbmManagerVersion();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that hands snapshots of
+     * changes to the TbmManager to {@code saver} instead of saving them before {@link #execute(String)} returns.
+     * Failures to save are reported to the handler set by {@link #setSaveFailureHandler(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, AsyncTbmManagerSaver saver) {
+        requireAllNonNull(model, storage, saver);
+        this.model = model;
+        this.storage = storage;
+        this.saver = saver;
+        mainParser = new MainParser(model.getTagNoteMap());
+        saver.setFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
     }
 
     @Override
@@ -50,15 +74,36 @@ public class LogicManager implements Logic {
         Command command = mainParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveTbmManager(model.getTbmManager());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        long version = model.getTbmManagerVersion();
+        if (saver != null) {
+            if (version != saver.getLastRequestedVersion()) {
+                saver.save(model.getTbmManagerSnapshot(), version);
+            }
+        } else if (version != lastSavedVersion) {
+            try {
+                storage.saveTbmManager(model.getTbmManager());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            lastSavedVersion = version;
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the version of the TbmManager data that was last saved to storage.
+     */
+    public long getLastSavedVersion() {
+        return saver != null ? saver.getLastSavedVersion() : lastSavedVersion;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     @Override
     public void setCountryNotesListPanelIsVisible(boolean isVisible) {
         model.setCountryNotesListPanelIsVisible(isVisible);
@@ -44,7 +44,7 @@ public class ClientDeleteCommand extends Command {
         }
 
         Client clientToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteClient(clientToDelete);
+        model.deleteClient(clientToDelete.getClientId());
         return new CommandResult(String.format(MESSAGE_DELETE_CLIENT_SUCCESS, clientToDelete));
     }
 
@@ -90,7 +90,7 @@ public class ClientEditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
 
-        model.setClient(clientToEdit, editedClient);
+        model.setClient(clientToEdit.getClientId(), editedClient);
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
         return new CommandResult(String.format(MESSAGE_EDIT_CLIENT_SUCCESS, editedClient));
     }
@@ -115,8 +115,8 @@ public class ClientEditCommand extends Command {
         ArrayList<Note> retainedClientNotes = new ArrayList<>(clientToEdit.getClientNotesAsUnmodifiableList());
 
         // Create the new, edited client
-        Client newClient = new Client(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedCountry,
-                updatedTimezone, updatedContractExpiryDate, updatedLastModifiedInstant);
+        Client newClient = new Client(clientToEdit.getClientId(), updatedName, updatedPhone, updatedEmail,
+                updatedAddress, updatedCountry, updatedTimezone, updatedContractExpiryDate, updatedLastModifiedInstant);
         retainedClientNotes.forEach(newClient::addClientNote);
 
         return newClient;
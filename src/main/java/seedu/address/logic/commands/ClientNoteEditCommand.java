@@ -70,14 +70,11 @@ public class ClientNoteEditCommand extends Command {
         Note existingNote = associatedClient.getClientNotesAsUnmodifiableList()
                 .get(targetClientNoteIndex.getZeroBased());
         assert associatedClient.hasClientNote(existingNote) : "attempting to edit client note that doesn't exist";
-        String existingNoteContent = existingNote.getNoteContent();
-        Set<Tag> accumulatedTags = new HashSet<>();
-        Note editedNote;
-        if (parsedNewNote.getNoteContent().equals("")) { // empty string implies only tags have been passed in
-            editedNote = new Note(existingNoteContent);
-        } else {
-            editedNote = parsedNewNote;
+        String editedNoteContent = parsedNewNote.getNoteContent();
+        if (editedNoteContent.equals("")) { // empty string implies only tags have been passed in
+            editedNoteContent = existingNote.getNoteContent();
         }
+        Set<Tag> accumulatedTags = new HashSet<>();
 
         // Add the previous tags, because we want to retain history of tags
         accumulatedTags.addAll(existingNote.getTags());
@@ -88,7 +85,7 @@ public class ClientNoteEditCommand extends Command {
         if (accumulatedTags.size() > 1) {
             accumulatedTags.remove(Tag.UNTAGGED);
         }
-        editedNote.setTags(accumulatedTags);
+        Note editedNote = new Note(editedNoteContent, accumulatedTags);
         if (existingNote.equals(editedNote)) {
             throw new CommandException(MESSAGE_NOT_REAL_EDIT);
         }
@@ -98,7 +95,6 @@ public class ClientNoteEditCommand extends Command {
         }
 
         model.editClientNote(associatedClient, existingNote, editedNote);
-        model.refreshSortedFilteredClientListOrder();
         return new CommandResult(String.format(MESSAGE_EDIT_CLIENT_NOTE_SUCCESS, associatedClient.getName(),
                 existingNote, editedNote));
     }
@@ -15,6 +15,9 @@ import java.util.Optional;
  */
 public class ArgumentMultimap {
 
+    /** The prefix that the preamble is mapped to */
+    static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
     private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
 
@@ -26,9 +29,7 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(argValue);
     }
 
     /**
@@ -55,6 +56,6 @@ public class ArgumentMultimap {
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE_PREFIX).orElse("");
     }
 }
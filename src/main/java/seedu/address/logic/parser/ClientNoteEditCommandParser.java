@@ -49,7 +49,6 @@ public class ClientNoteEditCommandParser implements Parser<ClientNoteEditCommand
         Index targetClientIndex;
         Index targetClientNoteIndex;
         Set<Tag> tags = new HashSet<>();
-        Note newNote = new Note("");
         try {
             String[] splitPreamble = argMultimap.getPreamble().split(" ");
             if (splitPreamble.length != 2) { // args: 1 1 all space delimited ==> 2 elems only
@@ -60,13 +59,13 @@ public class ClientNoteEditCommandParser implements Parser<ClientNoteEditCommand
             if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
                 tags = tagNoteMap.getUniqueTags(argMultimap.getAllValues(PREFIX_TAG));
             }
-            if (argMultimap.getValue(PREFIX_NOTE).isPresent()) {
-                newNote = ParserUtil.parseNote(argMultimap.getValue(PREFIX_NOTE).orElse(""));
-            }
             if (tags.isEmpty()) {
                 tags.add(Tag.UNTAGGED);
             }
-            newNote.setTags(tags);
+            Note newNote = new Note("", tags);
+            if (argMultimap.getValue(PREFIX_NOTE).isPresent()) {
+                newNote = ParserUtil.parseNote(argMultimap.getValue(PREFIX_NOTE).get(), tags);
+            }
             return new ClientNoteEditCommand(targetClientIndex, targetClientNoteIndex, newNote);
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,127 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words, such as {@code client note edit}, to the parsers of their arguments.
+ * The command words are kept in a trie with one level per word, so the command word of a user input is found in a
+ * single scan of the input from left to right. An unknown word is answered with the nearest word known at that point
+ * of the trie, if one is close enough to be a typing mistake.
+ */
+public class CommandRegistry {
+
+    private final Node root = new Node("");
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of {@code commandWord}, whose words are separated by
+     * single spaces. A command word cannot be the start of another command word, as everything after it is taken
+     * to be its arguments.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isEmpty(), "Command word should not be empty");
+
+        Node node = root;
+        for (String word : commandWord.split(" ")) {
+            checkArgument(node.parser == null, "Command word should not start with another command word");
+            String wordPrefix = node == root ? word : node.commandWord + " " + word;
+            node = node.children.computeIfAbsent(word, unused -> new Node(wordPrefix));
+        }
+        checkArgument(node.parser == null && node.children.isEmpty(), "Command word is already registered");
+        node.parser = parser;
+    }
+
+    /**
+     * Parses {@code userInput} into a command, by finding its command word and parsing the rest of the input as the
+     * arguments of the command.
+     *
+     * @throws ParseException If the input has no command word, or its command word is unknown, or its arguments do
+     *     not conform to the expected format.
+     */
+    public Command parse(String userInput) throws ParseException {
+        String input = userInput.trim();
+        Node node = root;
+        int index = 0;
+        while (node.parser == null) {
+            int wordStart = skipWhitespace(input, index);
+            if (wordStart == input.length()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+            }
+            int wordEnd = skipWord(input, wordStart);
+            String word = input.substring(wordStart, wordEnd);
+            Node child = node.children.get(word);
+            if (child == null) {
+                throw new ParseException(getUnknownCommandMessage(node, word));
+            }
+            node = child;
+            index = wordEnd;
+        }
+        return node.parser.parse(input.substring(index));
+    }
+
+    /**
+     * Returns the message for {@code word}, which is not known after the words leading to {@code node}, suggesting
+     * the nearest word known there if it is within the edit distance of a typing mistake.
+     */
+    private static String getUnknownCommandMessage(Node node, String word) {
+        Node nearestChild = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            int distance = StringUtil.getEditDistance(word, child.getKey());
+            if (distance < nearestDistance && distance <= getMaxTypingMistakes(child.getKey())) {
+                nearestChild = child.getValue();
+                nearestDistance = distance;
+            }
+        }
+        return nearestChild == null
+                ? MESSAGE_UNKNOWN_COMMAND
+                : String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, nearestChild.commandWord);
+    }
+
+    /**
+     * Returns the largest edit distance from {@code word} that is still taken to be a mistyped {@code word}.
+     */
+    private static int getMaxTypingMistakes(String word) {
+        return Math.max(1, word.length() / 3);
+    }
+
+    private static int skipWhitespace(String input, int index) {
+        while (index < input.length() && Character.isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipWord(String input, int index) {
+        while (index < input.length() && !Character.isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * A node of the trie, which is either a command word with a parser, or the start of longer command words.
+     */
+    private static class Node {
+        private final String commandWord;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private Parser<? extends Command> parser;
+
+        Node(String commandWord) {
+            this.commandWord = commandWord;
+        }
+    }
+}
@@ -49,8 +49,7 @@ public class CountryNoteAddCommandParser implements Parser<CountryNoteAddCommand
 
         Note note = ParserUtil.parseNote(argMultimap.getValue(PREFIX_NOTE).get());
         Country country = ParserUtil.parseCountry(argMultimap.getValue(PREFIX_COUNTRY).get());
-        CountryNote countryNote = new CountryNote(note.getNoteContent(), country);
-        countryNote.setTags(tags);
+        CountryNote countryNote = new CountryNote(note.getNoteContent(), country, tags);
 
         return new CountryNoteAddCommand(countryNote);
     }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -52,10 +53,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return Name.parse(trimmedName).orElseThrow(() -> new ParseException(Name.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -67,10 +65,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return Phone.parse(trimmedPhone).orElseThrow(() -> new ParseException(Phone.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -82,10 +77,7 @@ public class ParserUtil {
     public static Address parseAddress(String address) throws ParseException {
         requireNonNull(address);
         String trimmedAddress = address.trim();
-        if (!Address.isValidAddress(trimmedAddress)) {
-            throw new ParseException(Address.MESSAGE_CONSTRAINTS);
-        }
-        return new Address(trimmedAddress);
+        return Address.parse(trimmedAddress).orElseThrow(() -> new ParseException(Address.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -97,10 +89,7 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return Email.parse(trimmedEmail).orElseThrow(() -> new ParseException(Email.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -115,7 +104,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -143,7 +132,7 @@ public class ParserUtil {
         if (!CountryCodeVerifier.isValidCountryCode(trimmedCountryCode)) {
             throw new ParseException(CountryCodeVerifier.MESSAGE_CONSTRAINTS);
         }
-        return new Country(trimmedCountryCode);
+        return Country.of(trimmedCountryCode);
     }
 
     /**
@@ -156,10 +145,7 @@ public class ParserUtil {
     public static Timezone parseTimezone(String timezone) throws ParseException {
         requireNonNull(timezone);
         String trimmedTimezone = timezone.trim().toUpperCase();
-        if (!Timezone.isValidTimezone(trimmedTimezone)) {
-            throw new ParseException(Timezone.MESSAGE_CONSTRAINTS);
-        }
-        return new Timezone(trimmedTimezone);
+        return Timezone.parse(trimmedTimezone).orElseThrow(() -> new ParseException(Timezone.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -170,13 +156,25 @@ public class ParserUtil {
      * @throws ParseException If noteString is empty or null string.
      */
     public static Note parseNote(String noteString) throws ParseException {
+        return parseNote(noteString, Collections.emptySet());
+    }
+
+    /**
+     * Parses {@code String noteString} into a {@code Note} with the given tags.
+     *
+     * @param noteString The contents of the Note.
+     * @param tags The tags of the Note.
+     * @return The Note representing the input noteString, tagged with {@code tags}.
+     * @throws ParseException If noteString is empty or null string.
+     */
+    public static Note parseNote(String noteString, Set<Tag> tags) throws ParseException {
         requireNonNull(noteString);
         String trimmedNoteString = noteString.trim();
         if (!Note.isValidNote(trimmedNoteString)) {
             throw new ParseException(Note.MESSAGE_CONSTRAINTS);
         }
 
-        return new Note(trimmedNoteString);
+        return new Note(trimmedNoteString, tags);
     }
 
     /**
@@ -217,9 +215,7 @@ public class ParserUtil {
         if (trimmedDateString.isEmpty()) {
             return ContractExpiryDate.NULL_DATE;
         }
-        if (!ContractExpiryDate.isValidDate(trimmedDateString)) {
-            throw new ParseException(ContractExpiryDate.MESSAGE_CONSTRAINTS);
-        }
-        return new ContractExpiryDate(trimmedDateString);
+        return ContractExpiryDate.parse(trimmedDateString)
+                .orElseThrow(() -> new ParseException(ContractExpiryDate.MESSAGE_CONSTRAINTS));
     }
 }
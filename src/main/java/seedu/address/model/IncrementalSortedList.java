@@ -0,0 +1,220 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A sorted view of an observable list, like {@link javafx.collections.transformation.SortedList}, that keeps itself
+ * sorted by moving only the elements that change.
+ * An element that the source list reports as updated is taken out of the view and put back at the position found by
+ * a binary search, which is reported as a single permutation of the elements between its old and new positions.
+ * Elements that compare as equal are kept in the order of the source list, and without a comparator the view is in
+ * the order of the source list.
+ */
+class IncrementalSortedList<E> extends TransformationList<E, E> {
+
+    private final List<Entry<E>> sorted = new ArrayList<>();
+    // The position in the view of the element at each index of the source list
+    private int[] viewIndexes = new int[0];
+    private Comparator<? super E> comparator;
+
+    /**
+     * Creates a view of {@code source} in the order of {@code source}.
+     */
+    IncrementalSortedList(ObservableList<? extends E> source) {
+        super(source);
+        for (int i = 0; i < source.size(); i++) {
+            sorted.add(new Entry<>(source.get(i), i));
+        }
+        updateViewIndexes();
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the view with {@code comparator}, or puts it in the order of the source list if it is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        beginChange();
+        sortWithPermutation();
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // Only the indexes in the range of the change are permuted
+                for (Entry<E> entry : sorted) {
+                    if (entry.index >= change.getFrom() && entry.index < change.getTo()) {
+                        entry.index = change.getPermutation(entry.index);
+                    }
+                }
+                updateViewIndexes();
+                sortWithPermutation();
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    repair(i);
+                }
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Moves the updated element at {@code sourceIndex} of the source list to where it now belongs in the view.
+     */
+    private void repair(int sourceIndex) {
+        int oldViewIndex = viewIndexes[sourceIndex];
+        Entry<E> entry = sorted.get(oldViewIndex);
+        entry.element = getSource().get(sourceIndex);
+
+        int newViewIndex = findPosition(entry, oldViewIndex);
+        if (newViewIndex != oldViewIndex) {
+            int from = Math.min(oldViewIndex, newViewIndex);
+            int to = Math.max(oldViewIndex, newViewIndex) + 1;
+            int shift = newViewIndex > oldViewIndex ? -1 : 1;
+            int[] permutation = new int[to - from];
+            for (int i = from; i < to; i++) {
+                permutation[i - from] = i == oldViewIndex ? newViewIndex : i + shift;
+            }
+
+            Collections.rotate(sorted.subList(from, to), shift);
+            for (int i = from; i < to; i++) {
+                viewIndexes[sorted.get(i).index] = i;
+            }
+            nextPermutation(from, to, permutation);
+        }
+        nextUpdate(newViewIndex);
+    }
+
+    private void addRemove(Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedTo = from + change.getRemovedSize();
+        int indexShift = change.getAddedSize() - change.getRemovedSize();
+
+        if (change.wasRemoved()) {
+            List<Integer> removedViewIndexes = new ArrayList<>(change.getRemovedSize());
+            for (int i = from; i < removedTo; i++) {
+                removedViewIndexes.add(viewIndexes[i]);
+            }
+            removedViewIndexes.sort(Collections.reverseOrder());
+            for (int viewIndex : removedViewIndexes) {
+                nextRemove(viewIndex, sorted.remove(viewIndex).element);
+            }
+        }
+
+        for (Entry<E> entry : sorted) {
+            if (entry.index >= removedTo) {
+                entry.index += indexShift;
+            }
+        }
+
+        if (change.wasAdded()) {
+            for (int i = from; i < change.getTo(); i++) {
+                Entry<E> entry = new Entry<>(getSource().get(i), i);
+                int viewIndex = findPosition(entry, sorted.size());
+                sorted.add(viewIndex, entry);
+                nextAdd(viewIndex, viewIndex + 1);
+            }
+        }
+        updateViewIndexes();
+    }
+
+    /**
+     * Returns the position that {@code entry} belongs at among the entries of the view other than the one at
+     * {@code excludedViewIndex}, which may be past the end of the view to exclude none.
+     */
+    private int findPosition(Entry<E> entry, int excludedViewIndex) {
+        int low = 0;
+        int high = excludedViewIndex < sorted.size() ? sorted.size() - 1 : sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Entry<E> other = sorted.get(middle < excludedViewIndex ? middle : middle + 1);
+            if (compare(other, entry) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the whole view, reporting the change as a permutation.
+     */
+    private void sortWithPermutation() {
+        List<Entry<E>> newOrder = new ArrayList<>(sorted);
+        newOrder.sort(this::compare);
+        int[] permutation = new int[newOrder.size()];
+        for (int i = 0; i < newOrder.size(); i++) {
+            permutation[viewIndexes[newOrder.get(i).index]] = i;
+        }
+
+        sorted.clear();
+        sorted.addAll(newOrder);
+        updateViewIndexes();
+        if (permutation.length > 0) {
+            nextPermutation(0, permutation.length, permutation);
+        }
+    }
+
+    private int compare(Entry<E> first, Entry<E> second) {
+        int result = comparator == null ? 0 : comparator.compare(first.element, second.element);
+        return result != 0 ? result : Integer.compare(first.index, second.index);
+    }
+
+    private void updateViewIndexes() {
+        if (viewIndexes.length != sorted.size()) {
+            viewIndexes = new int[sorted.size()];
+        }
+        for (int i = 0; i < sorted.size(); i++) {
+            viewIndexes[sorted.get(i).index] = i;
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return sorted.get(index).element;
+    }
+
+    @Override
+    public int size() {
+        return sorted.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sorted.get(index).index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return viewIndexes[index];
+    }
+
+    /**
+     * An element of the source list and its index in the source list.
+     */
+    private static class Entry<E> {
+        private E element;
+        private int index;
+
+        Entry(E element, int index) {
+            this.element = element;
+            this.index = index;
+        }
+    }
+}
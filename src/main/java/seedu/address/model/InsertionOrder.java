@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps a key for every element of an observable list that orders the elements the same way as the list does, so
+ * that the order of the list can be compared in constant time instead of by searching the list.
+ * An element appended to the list is given a key after those of all other elements, and an element that replaces
+ * another in place takes over its key. Any other change to the list gives all of its elements new keys.
+ *
+ * The keys are kept up to date by a listener on the list. It must be created before any list that sorts elements with
+ * {@link #comparator()} starts listening to the same list, so that the keys are updated before the change is sorted.
+ */
+class InsertionOrder<T> {
+
+    private final ObservableList<T> list;
+    private final Map<T, Long> keys = new IdentityHashMap<>();
+    private long nextKey;
+
+    /**
+     * Creates an {@code InsertionOrder} that follows the order of {@code list}.
+     */
+    InsertionOrder(ObservableList<T> list) {
+        requireNonNull(list);
+        this.list = list;
+        renumber();
+        list.addListener((ListChangeListener<T>) this::onChanged);
+    }
+
+    /**
+     * Returns a comparator that orders elements of the list in the same order as the list.
+     */
+    Comparator<T> comparator() {
+        return Comparator.comparingLong(this::getKey);
+    }
+
+    private long getKey(T element) {
+        Long key = keys.get(element);
+        assert key != null : "Only elements of the list can be compared";
+        return key;
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                renumber();
+                return;
+            }
+
+            List<Long> removedKeys = new ArrayList<>(change.getRemovedSize());
+            for (T removed : change.getRemoved()) {
+                removedKeys.add(keys.remove(removed));
+            }
+
+            if (!change.wasAdded()) {
+                continue;
+            }
+
+            List<? extends T> added = change.getAddedSubList();
+            if (removedKeys.size() == added.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    keys.put(added.get(i), removedKeys.get(i));
+                }
+            } else if (removedKeys.isEmpty() && change.getTo() == list.size()) {
+                added.forEach(element -> keys.put(element, nextKey++));
+            } else {
+                renumber();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gives every element of the list a new key in list order.
+     */
+    private void renumber() {
+        keys.clear();
+        nextKey = 0;
+        list.forEach(element -> keys.put(element, nextKey++));
+    }
+}
@@ -8,6 +8,7 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
 import seedu.address.model.note.CountryNote;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.TagNoteMap;
@@ -58,6 +59,16 @@ public interface Model {
      */
     ReadOnlyTbmManager getTbmManager();
 
+    /**
+     * Returns an unmodifiable copy of the current TbmManager data that can be saved from another thread.
+     */
+    ReadOnlyTbmManager getTbmManagerSnapshot();
+
+    /**
+     * Returns a version number that increases with every change to the TbmManager data.
+     */
+    long getTbmManagerVersion();
+
     /**
      * Replaces TBM Manager data with the data in {@code tbmManager}.
      */
@@ -69,9 +80,9 @@ public interface Model {
     boolean hasClient(Client client);
 
     /**
-     * Deletes the given client. The client must exist in TBM Manager.
+     * Deletes the client with the client ID {@code targetId}. The client must exist in TBM Manager.
      */
-    void deleteClient(Client target);
+    void deleteClient(ClientId targetId);
 
     /**
      * Sets the widget box contents to the given client.
@@ -92,11 +103,11 @@ public interface Model {
     void addClient(Client client);
 
     /**
-     * Replaces the given client {@code target} with {@code editedClient}. {@code target} must exist in the
-     * TBM Manager. The client identity of {@code editedClient} must not be the same as another existing
+     * Replaces the client with the client ID {@code targetId} with {@code editedClient}. The client must exist in
+     * the TBM Manager. The client identity of {@code editedClient} must not be the same as another existing
      * client in TBM Manager.
      */
-    void setClient(Client target, Client editedClient);
+    void setClient(ClientId targetId, Client editedClient);
 
     /**
      * Returns true if the {@code countryNote} already exists in TBM.
@@ -164,6 +175,7 @@ public interface Model {
 
     /**
      * Updates the order of the filtered client list using the given {@code comparator}.
+     * The list is kept in this order as client notes are added, edited or deleted.
      *
      * @throws NullPointerException if {@code comparator} is null.
      */
@@ -174,12 +186,6 @@ public interface Model {
      */
     void resetSortedFilteredClientListOrder();
 
-    /**
-     * Refreshes the order of the filtered client list to the existing order.
-     * Used in client note add/edit/delete where updates are mutable.
-     */
-    void refreshSortedFilteredClientListOrder();
-
 
     /**
      * Returns an unmodifiable view of the filtered country notes list.
@@ -194,7 +200,8 @@ public interface Model {
     void updateFilteredCountryNoteList(Predicate<CountryNote> predicate);
 
     /**
-     * Initialises {@code TagNoteMap} from client notes and country notes.
+     * Rebuilds {@code TagNoteMap} from client notes and country notes.
+     * The map is otherwise kept up to date as clients, client notes and country notes change.
      */
     void initialiseTagNoteMap();
 
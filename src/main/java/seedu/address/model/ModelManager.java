@@ -18,6 +18,7 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
 import seedu.address.model.note.CountryNote;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.TagNoteMap;
@@ -34,8 +35,7 @@ public class ModelManager implements Model {
     private final TbmManager tbmManager;
     private final UserPrefs userPrefs;
     private final FilteredList<Client> filteredClients;
-    private final SortedList<Client> sortedFilteredClients;
-    private final Comparator<Client> defaultClientListOrder;
+    private final IncrementalSortedList<Client> sortedFilteredClients;
     private final FilteredList<CountryNote> filteredCountryNotes;
     private final SortedList<CountryNote> sortedFilteredCountryNotes;
     private final WidgetModel widget;
@@ -56,11 +56,12 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.widget = WidgetModel.initWidget();
         filteredClients = new FilteredList<>(this.tbmManager.getClientList());
-        sortedFilteredClients = new SortedList<>(filteredClients);
-        defaultClientListOrder = Comparator.comparing(filteredClients::indexOf);
+        sortedFilteredClients = new IncrementalSortedList<>(filteredClients);
+        // Created before the filtered list, so that the order of a new country note is known before it is sorted
+        InsertionOrder<CountryNote> countryNoteOrder = new InsertionOrder<>(this.tbmManager.getCountryNoteList());
         filteredCountryNotes = new FilteredList<>(this.tbmManager.getCountryNoteList());
         sortedFilteredCountryNotes = new SortedList<>(filteredCountryNotes,
-                Comparator.comparing(CountryNote::getCountry).thenComparingInt(filteredCountryNotes::indexOf));
+                Comparator.comparing(CountryNote::getCountry).thenComparing(countryNoteOrder.comparator()));
         this.tagNoteMap = new TagNoteMap();
         this.initialiseTagNoteMap(); // init TagNoteMap upon construction of ModelManager
     }
@@ -114,9 +115,20 @@ public class ModelManager implements Model {
         return tbmManager;
     }
 
+    @Override
+    public ReadOnlyTbmManager getTbmManagerSnapshot() {
+        return tbmManager.getSnapshot();
+    }
+
+    @Override
+    public long getTbmManagerVersion() {
+        return tbmManager.getVersion();
+    }
+
     @Override
     public void setTbmManager(ReadOnlyTbmManager tbmManager) {
         this.tbmManager.resetData(tbmManager);
+        initialiseTagNoteMap();
     }
 
     @Override
@@ -126,8 +138,11 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void deleteClient(Client target) {
-        tbmManager.removeClient(target);
+    public void deleteClient(ClientId targetId) {
+        requireNonNull(targetId);
+        Client target = tbmManager.getClient(targetId);
+        tbmManager.removeClient(targetId);
+        tagNoteMap.removeClient(target);
     }
 
     @Override
@@ -144,18 +159,15 @@ public class ModelManager implements Model {
     public void addClient(Client client) {
         tbmManager.addClient(client);
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
-        List<Note> clientNotes = new ArrayList<>(client.getClientNotesAsUnmodifiableList());
-        for (Note note : clientNotes) {
-            Set<Tag> tags = note.getTags();
-            updateTagNoteMapWithNote(tags, note);
-        }
+        tagNoteMap.addClient(client);
     }
 
     @Override
-    public void setClient(Client target, Client editedClient) {
-        requireAllNonNull(target, editedClient);
-        tbmManager.setClient(target, editedClient);
-        initialiseTagNoteMap();
+    public void setClient(ClientId targetId, Client editedClient) {
+        requireAllNonNull(targetId, editedClient);
+        Client target = tbmManager.getClient(targetId);
+        tbmManager.setClient(targetId, editedClient);
+        tagNoteMap.setClient(target, editedClient);
     }
 
     @Override
@@ -196,6 +208,7 @@ public class ModelManager implements Model {
     @Override
     public void addClientNote(Client target, Note clientNote) {
         requireAllNonNull(target, clientNote);
+        tagNoteMap.loadClientNotes(target);
         target.addClientNote(clientNote);
         Set<Tag> newTags = clientNote.getTags();
         updateTagNoteMapWithNote(newTags, clientNote);
@@ -208,6 +221,7 @@ public class ModelManager implements Model {
 
     @Override
     public void initialiseTagNoteMap() {
+        this.tagNoteMap.clear();
         this.tagNoteMap.initTagNoteMapFromClients(this.tbmManager.getClientList());
         this.tagNoteMap.initTagNoteMapFromCountryNotes(new ArrayList<>(this.tbmManager.getCountryNoteList()));
     }
@@ -219,15 +233,35 @@ public class ModelManager implements Model {
     @Override
     public void deleteClientNote(Client associatedClient, Note noteToDelete) {
         requireAllNonNull(associatedClient, noteToDelete);
-        this.tagNoteMap.deleteNote(noteToDelete);
-        associatedClient.deleteClientNote(noteToDelete);
+        this.tagNoteMap.loadClientNotes(associatedClient);
+        Note indexedNote = getIndexedClientNote(associatedClient, noteToDelete);
+        this.tagNoteMap.deleteNote(indexedNote);
+        associatedClient.deleteClientNote(indexedNote);
     }
 
     @Override
     public void editClientNote(Client associatedClient, Note noteToEdit, Note newNote) {
         requireAllNonNull(associatedClient, noteToEdit);
-        this.tagNoteMap.editNote(noteToEdit, newNote);
-        associatedClient.editClientNote(noteToEdit, newNote);
+        this.tagNoteMap.loadClientNotes(associatedClient);
+        Note indexedNote = getIndexedClientNote(associatedClient, noteToEdit);
+        this.tagNoteMap.editNote(indexedNote, newNote);
+        associatedClient.editClientNote(indexedNote, newNote);
+    }
+
+    /**
+     * Returns the client note of {@code client} that is in the tag note map in place of {@code clientNote}.
+     * The two differ if {@code clientNote} was loaded before the client notes were let go of and loaded again for
+     * the tag note map, which pins them from then on.
+     */
+    private static Note getIndexedClientNote(Client client, Note clientNote) {
+        List<Note> clientNotes = client.getClientNotesAsUnmodifiableList();
+        for (Note note : clientNotes) {
+            if (note == clientNote) {
+                return note;
+            }
+        }
+        int index = clientNotes.indexOf(clientNote);
+        return index == -1 ? clientNote : clientNotes.get(index);
     }
 
     //=========== Filtered Client List Accessors =============================================================
@@ -260,17 +294,7 @@ public class ModelManager implements Model {
 
     @Override
     public void resetSortedFilteredClientListOrder() {
-        sortedFilteredClients.setComparator(defaultClientListOrder);
-    }
-
-    @Override
-    public void refreshSortedFilteredClientListOrder() {
-        Predicate<? super Client> predicate = filteredClients.getPredicate();
-        Comparator<? super Client> comparator = sortedFilteredClients.getComparator();
-        sortedFilteredClients.setComparator(defaultClientListOrder);
-
-        filteredClients.setPredicate(predicate);
-        sortedFilteredClients.setComparator(comparator);
+        sortedFilteredClients.setComparator(null);
     }
 
     @Override
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getTbmManagerFilePath();
 
+    StorageSettings getStorageSettings();
+
 }
@@ -3,11 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.country.CountryNotesManager;
 import seedu.address.model.note.CountryNote;
@@ -85,6 +87,22 @@ public class TbmManager implements ReadOnlyTbmManager {
         return clients.contains(client);
     }
 
+    /**
+     * Returns true if a client with the client ID {@code clientId} exists in TbmManager.
+     */
+    public boolean hasClientId(ClientId clientId) {
+        requireNonNull(clientId);
+        return clients.containsClientId(clientId);
+    }
+
+    /**
+     * Returns the client with the client ID {@code clientId}, which must exist in TbmManager.
+     */
+    public Client getClient(ClientId clientId) {
+        requireNonNull(clientId);
+        return clients.get(clientId);
+    }
+
     /**
      * Adds the client to TbmManager.
      * The client must not already exist in TbmManager.
@@ -103,6 +121,16 @@ public class TbmManager implements ReadOnlyTbmManager {
         clients.setClient(target, editedClient);
     }
 
+    /**
+     * Replaces the client with the client ID {@code targetId} with {@code editedClient}.
+     * The client must exist in TbmManager.
+     * The client identity of {@code editedClient} must not be the same as another existing client in TbmManager.
+     */
+    public void setClient(ClientId targetId, Client editedClient) {
+        requireAllNonNull(targetId, editedClient);
+        clients.setClient(targetId, editedClient);
+    }
+
     /**
      * Removes {@code key} from this {@code TbmManager}. {@code key} must exist in TbmManager.
      */
@@ -110,6 +138,14 @@ public class TbmManager implements ReadOnlyTbmManager {
         clients.remove(key);
     }
 
+    /**
+     * Removes the client with the client ID {@code targetId} from this {@code TbmManager}.
+     * The client must exist in TbmManager.
+     */
+    public void removeClient(ClientId targetId) {
+        clients.remove(targetId);
+    }
+
     /**
      * Checks whether the given country has the given {@code countryNote}.
      *
@@ -152,6 +188,26 @@ public class TbmManager implements ReadOnlyTbmManager {
         countryNotesManager.deleteCountryNote(countryNoteToDelete);
     }
 
+    /**
+     * Returns a copy of the current clients, client notes and country notes that is not affected by later changes
+     * to this {@code TbmManager}, so that it can be read from another thread.
+     * Only the clients that changed since the last snapshot are copied, as the others share their earlier snapshot.
+     */
+    public ReadOnlyTbmManager getSnapshot() {
+        List<Client> clientSnapshots = new ArrayList<>(clients.asUnmodifiableObservableList().size());
+        for (Client client : clients) {
+            clientSnapshots.add(client.getSnapshot());
+        }
+        return new TbmManagerSnapshot(clientSnapshots, new ArrayList<>(getCountryNoteList()));
+    }
+
+    /**
+     * Returns a version number that increases with every change to the clients, client notes or country notes.
+     */
+    public long getVersion() {
+        return clients.getVersion() + countryNotesManager.getVersion();
+    }
+
     @Override
     public String toString() {
         return clients.asUnmodifiableObservableList().size() + " clients";
@@ -0,0 +1,43 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.note.CountryNote;
+
+/**
+ * An unmodifiable copy of the data in a {@code TbmManager} at one point in time.
+ */
+class TbmManagerSnapshot implements ReadOnlyTbmManager {
+
+    private final ObservableList<Client> clients;
+    private final ObservableList<CountryNote> countryNotes;
+
+    /**
+     * Creates a {@code TbmManagerSnapshot} of the given lists, which must not be changed afterwards.
+     */
+    TbmManagerSnapshot(List<Client> clients, List<CountryNote> countryNotes) {
+        requireAllNonNull(clients, countryNotes);
+        this.clients = FXCollections.unmodifiableObservableList(FXCollections.observableList(clients));
+        this.countryNotes = FXCollections.unmodifiableObservableList(FXCollections.observableList(countryNotes));
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients;
+    }
+
+    @Override
+    public ObservableList<CountryNote> getCountryNoteList() {
+        return countryNotes;
+    }
+
+    @Override
+    public String toString() {
+        return clients.size() + " clients";
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path tbmManagerFilePath = Paths.get("data" , "tbmManager.json");
+    private StorageSettings storageSettings = new StorageSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTbmManagerFilePath(newUserPrefs.getTbmManagerFilePath());
+        setStorageSettings(newUserPrefs.getStorageSettings());
     }
 
     /**
@@ -68,6 +71,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.tbmManagerFilePath = tbmManagerFilePath;
     }
 
+    /**
+     * Returns the {@code storageSettings}.
+     */
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    /**
+     * Sets the {@code storageSettings}.
+     */
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +98,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && tbmManagerFilePath.equals(o.tbmManagerFilePath);
+                && tbmManagerFilePath.equals(o.tbmManagerFilePath)
+                && storageSettings.equals(o.storageSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, tbmManagerFilePath);
+        return Objects.hash(guiSettings, tbmManagerFilePath, storageSettings);
     }
 
     @Override
@@ -93,6 +112,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + tbmManagerFilePath);
+        sb.append("\nStorage Settings : " + storageSettings);
         return sb.toString();
     }
 
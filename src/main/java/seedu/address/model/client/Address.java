@@ -3,6 +3,9 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Client's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,6 +19,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -30,11 +34,25 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Parses {@code address} into an {@code Address}, validating it only once.
+     *
+     * @return The {@code Address}, or an empty {@code Optional} if {@code address} is not a valid address.
+     */
+    public static Optional<Address> parse(String address) {
+        requireNonNull(address);
+        try {
+            return Optional.of(new Address(address));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
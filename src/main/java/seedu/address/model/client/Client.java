@@ -3,15 +3,21 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.country.Country;
 import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Client in the address book.
@@ -19,6 +25,9 @@ import seedu.address.model.note.Note;
  */
 public class Client {
 
+    // Surrogate identifier, kept when the client is edited
+    private final ClientId clientId;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -29,7 +38,22 @@ public class Client {
     private final Country country;
     private final Timezone timezone;
     private final ContractExpiryDate contractExpiryDate;
-    private final ObservableList<Note> clientNotes = FXCollections.observableArrayList(new ArrayList<>());
+
+    // Client notes held in memory, or null while they are only held as loaded by the client notes loader.
+    private ObservableList<Note> clientNotes;
+    // Loads the client notes on demand. Null if the client notes were never stored, or have changed since.
+    private ClientNotesLoader clientNotesLoader;
+    // The tags of the client notes as indexed by the client notes loader, known without loading the client notes.
+    private Set<Tag> indexedClientNoteTags;
+    // The client notes last loaded by the client notes loader, which are let go of under memory pressure.
+    private SoftReference<List<Note>> loadedClientNotes;
+    // The loaded client notes while they are pinned, which keeps them from being let go of.
+    private List<Note> pinnedClientNotes;
+    // Bumped on every change to the client notes, so that lists of clients can observe the change.
+    private final ReadOnlyIntegerWrapper clientNotesVersion = new ReadOnlyIntegerWrapper();
+    // The copy last handed out as the snapshot of this client, and the client notes version it was copied at.
+    private Client snapshot;
+    private int snapshotClientNotesVersion;
 
     // Metadata field for client suggestions (not exposed to user).
     // This field will be updated on every creation of a client instance.
@@ -37,11 +61,45 @@ public class Client {
     private LastModifiedInstant lastModifiedInstant;
 
     /**
+     * Creates a client with a newly generated client ID.
      * Every field must be present and not null.
      */
     public Client(Name name, Phone phone, Email email, Address address, Country country, Timezone timezone,
             ContractExpiryDate contractExpiryDate, LastModifiedInstant lastModifiedInstant) {
-        requireAllNonNull(name, phone, email, address, country, timezone, contractExpiryDate);
+        this(ClientId.generate(), name, phone, email, address, country, timezone, contractExpiryDate,
+                lastModifiedInstant);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Client(ClientId clientId, Name name, Phone phone, Email email, Address address, Country country,
+            Timezone timezone, ContractExpiryDate contractExpiryDate, LastModifiedInstant lastModifiedInstant) {
+        requireAllNonNull(clientId, name, phone, email, address, country, timezone, contractExpiryDate);
+        this.clientId = clientId;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.country = country;
+        this.timezone = timezone;
+        this.contractExpiryDate = contractExpiryDate;
+        this.lastModifiedInstant = lastModifiedInstant;
+        this.clientNotes = FXCollections.observableArrayList();
+    }
+
+    /**
+     * Creates a client whose client notes are only loaded by {@code clientNotesLoader} when they are first needed.
+     * Every field must be present and not null.
+     *
+     * @param clientNoteTags the tags of the client notes, as indexed where the client notes are stored.
+     */
+    public Client(ClientId clientId, Name name, Phone phone, Email email, Address address, Country country,
+            Timezone timezone, ContractExpiryDate contractExpiryDate, LastModifiedInstant lastModifiedInstant,
+            ClientNotesLoader clientNotesLoader, Set<Tag> clientNoteTags) {
+        requireAllNonNull(clientId, name, phone, email, address, country, timezone, contractExpiryDate,
+                clientNotesLoader, clientNoteTags);
+        this.clientId = clientId;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -50,6 +108,12 @@ public class Client {
         this.timezone = timezone;
         this.contractExpiryDate = contractExpiryDate;
         this.lastModifiedInstant = lastModifiedInstant;
+        this.clientNotesLoader = clientNotesLoader;
+        this.indexedClientNoteTags = Collections.unmodifiableSet(new HashSet<>(clientNoteTags));
+    }
+
+    public ClientId getClientId() {
+        return clientId;
     }
 
     public Name getName() {
@@ -84,22 +148,121 @@ public class Client {
         return lastModifiedInstant;
     }
 
+    /**
+     * Returns a copy of this client with the same client ID, client notes and last modified instant.
+     * Later changes to the client notes of either client do not affect the other. Client notes that have not been
+     * loaded yet are not loaded by copying.
+     */
+    public Client copy() {
+        Client copy = new Client(clientId, name, phone, email, address, country, timezone, contractExpiryDate,
+                lastModifiedInstant);
+        copy.clientNotes = clientNotes == null ? null : FXCollections.observableArrayList(clientNotes);
+        copy.clientNotesLoader = clientNotesLoader;
+        copy.indexedClientNoteTags = indexedClientNoteTags;
+        copy.loadedClientNotes = loadedClientNotes;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this client, as made by {@link #copy()}, that is not to be changed.
+     * The same copy is returned until the client notes of this client change, so that unchanged clients are shared
+     * between snapshots and can be recognised by identity. A snapshot is its own snapshot.
+     */
+    public Client getSnapshot() {
+        if (snapshot == null || snapshotClientNotesVersion != clientNotesVersion.get()) {
+            Client copy = copy();
+            copy.snapshot = copy;
+            snapshot = copy;
+            snapshotClientNotesVersion = clientNotesVersion.get();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the loader of this client's notes, or null if the client notes have changed since they were loaded or
+     * were never stored.
+     * Two clients with the same loader have the same client notes.
+     */
+    public ClientNotesLoader getClientNotesLoader() {
+        return clientNotesLoader;
+    }
+
+    /**
+     * Returns true if the client notes of this client are in memory.
+     */
+    public boolean isClientNotesLoaded() {
+        return clientNotes != null || pinnedClientNotes != null
+                || (loadedClientNotes != null && loadedClientNotes.get() != null);
+    }
+
+    /**
+     * Keeps the client notes of this client in memory until they are unpinned, loading them if needed, so that the
+     * same note objects are returned for as long as they are pinned.
+     */
+    public void pinClientNotes() {
+        if (clientNotes == null) {
+            pinnedClientNotes = getClientNotes();
+        }
+    }
+
+    /**
+     * Lets the client notes pinned by {@link #pinClientNotes()} be let go of under memory pressure again.
+     */
+    public void unpinClientNotes() {
+        pinnedClientNotes = null;
+    }
+
+    /**
+     * Lets go of the client notes loaded by the client notes loader, as happens under memory pressure unless they
+     * are pinned or kept in memory.
+     */
+    void clearLoadedClientNotes() {
+        if (loadedClientNotes != null && pinnedClientNotes == null) {
+            loadedClientNotes.clear();
+        }
+    }
+
+    /**
+     * Returns the tags of the client notes of this client.
+     * If the client notes have not been loaded, the tags are taken from the index kept alongside the stored client
+     * notes instead of loading them.
+     */
+    public Set<Tag> getClientNoteTags() {
+        if (clientNotesLoader != null && !isClientNotesLoaded()) {
+            return indexedClientNoteTags;
+        }
+
+        Set<Tag> clientNoteTags = new HashSet<>();
+        getClientNotes().forEach(note -> clientNoteTags.addAll(note.getTags()));
+        return Collections.unmodifiableSet(clientNoteTags);
+    }
+
     /**
      * Gets the list of client notes associated with this client as an unmodifiable list.
+     * The client notes are loaded if they have not been loaded yet.
      *
      * @return An unmodifiable list of client notes associated with this client.
      */
     public List<Note> getClientNotesAsUnmodifiableList() {
-        return Collections.unmodifiableList(this.clientNotes);
+        return Collections.unmodifiableList(getClientNotes());
     }
 
     /**
      * Gets the observable list of client notes associated with this client.
+     * The client notes are loaded if they have not been loaded yet, and are then kept in memory.
      *
-     * @return The observable list of client notes associated with this client.
+     * @return An unmodifiable observable list of client notes associated with this client.
      */
     public ObservableList<Note> getClientNotesAsObservableList() {
-        return clientNotes;
+        return FXCollections.unmodifiableObservableList(getResidentClientNotes());
+    }
+
+    /**
+     * Returns a property that changes whenever the client notes of this client change.
+     * Loading the client notes, or letting go of loaded client notes, does not change it.
+     */
+    public ReadOnlyIntegerProperty clientNotesVersionProperty() {
+        return clientNotesVersion.getReadOnlyProperty();
     }
 
     /**
@@ -109,8 +272,9 @@ public class Client {
      */
     public void addClientNote(Note clientNote) {
         requireNonNull(clientNote);
-        this.clientNotes.add(clientNote);
+        getModifiableClientNotes().add(clientNote);
         this.lastModifiedInstant = new LastModifiedInstant();
+        clientNotesVersion.set(clientNotesVersion.get() + 1);
     }
 
     /**
@@ -120,8 +284,9 @@ public class Client {
      */
     public void deleteClientNote(Note clientNote) {
         requireNonNull(clientNote);
-        this.clientNotes.remove(clientNote);
+        getModifiableClientNotes().remove(clientNote);
         this.lastModifiedInstant = new LastModifiedInstant();
+        clientNotesVersion.set(clientNotesVersion.get() + 1);
     }
 
     /**
@@ -132,10 +297,12 @@ public class Client {
      */
     public void editClientNote(Note clientNote, Note newNote) {
         requireNonNull(clientNote);
+        List<Note> clientNotes = getModifiableClientNotes();
         int targetIdx = clientNotes.indexOf(clientNote);
         clientNotes.set(targetIdx, newNote);
         assert !clientNotes.contains(clientNote);
         this.lastModifiedInstant = new LastModifiedInstant();
+        clientNotesVersion.set(clientNotesVersion.get() + 1);
     }
 
     /**
@@ -145,7 +312,48 @@ public class Client {
      * @return True if Client has that note in the collection.
      */
     public boolean hasClientNote(Note clientNote) {
-        return clientNotes.contains(clientNote);
+        return getClientNotes().contains(clientNote);
+    }
+
+    /**
+     * Returns the client notes of this client, loading them if they are not in memory.
+     */
+    private List<Note> getClientNotes() {
+        if (clientNotes != null) {
+            return clientNotes;
+        }
+        if (pinnedClientNotes != null) {
+            return pinnedClientNotes;
+        }
+
+        List<Note> notes = loadedClientNotes == null ? null : loadedClientNotes.get();
+        if (notes == null) {
+            notes = Collections.unmodifiableList(new ArrayList<>(clientNotesLoader.loadClientNotes()));
+            loadedClientNotes = new SoftReference<>(notes);
+        }
+        return notes;
+    }
+
+    /**
+     * Returns the client notes of this client, which are kept in memory from now on.
+     */
+    private ObservableList<Note> getResidentClientNotes() {
+        if (clientNotes == null) {
+            clientNotes = FXCollections.observableArrayList(getClientNotes());
+            loadedClientNotes = null;
+            pinnedClientNotes = null;
+        }
+        return clientNotes;
+    }
+
+    /**
+     * Returns the client notes of this client for them to be changed, which detaches them from their loader.
+     */
+    private ObservableList<Note> getModifiableClientNotes() {
+        ObservableList<Note> notes = getResidentClientNotes();
+        clientNotesLoader = null;
+        indexedClientNoteTags = null;
+        return notes;
     }
 
     /**
@@ -165,6 +373,7 @@ public class Client {
     /**
      * Returns true if both clients have the same identity and data fields.
      * This defines a stronger notion of equality between two clients.
+     * The client ID is not compared, as it only tells apart clients that are otherwise the same.
      */
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,75 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.UUID;
+
+/**
+ * Represents the identifier of a Client, which is given to the client when it is first created and is kept when the
+ * client is edited.
+ * Guarantees: immutable; is valid as declared in {@link #isValidClientId(String)}
+ */
+public class ClientId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Client IDs should be UUIDs in their canonical form";
+
+    public final UUID value;
+
+    /**
+     * Constructs a {@code ClientId}.
+     *
+     * @param value The UUID of the client.
+     */
+    public ClientId(UUID value) {
+        requireNonNull(value);
+        this.value = value;
+    }
+
+    /**
+     * Constructs a {@code ClientId}.
+     * This is mainly used to construct a client ID from storage.
+     *
+     * @param clientId A valid client ID string.
+     */
+    public ClientId(String clientId) {
+        requireNonNull(clientId);
+        checkArgument(isValidClientId(clientId), MESSAGE_CONSTRAINTS);
+        this.value = UUID.fromString(clientId);
+    }
+
+    /**
+     * Returns a new client ID that is different from every other client ID.
+     */
+    public static ClientId generate() {
+        return new ClientId(UUID.randomUUID());
+    }
+
+    /**
+     * Returns true if a given string is a UUID in its canonical form.
+     */
+    public static boolean isValidClientId(String test) {
+        try {
+            return UUID.fromString(test).toString().equalsIgnoreCase(test);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientId // instanceof handles nulls
+                && value.equals(((ClientId) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
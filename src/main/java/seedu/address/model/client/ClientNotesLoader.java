@@ -0,0 +1,21 @@
+package seedu.address.model.client;
+
+import java.util.List;
+
+import seedu.address.model.client.exceptions.ClientNotesUnavailableException;
+import seedu.address.model.note.Note;
+
+/**
+ * Loads the client notes of a {@code Client} from where they are stored, so that they need not be held in memory
+ * until they are first needed.
+ */
+@FunctionalInterface
+public interface ClientNotesLoader {
+
+    /**
+     * Returns the client notes of the client, in order.
+     *
+     * @throws ClientNotesUnavailableException if the client notes could not be loaded.
+     */
+    List<Note> loadClientNotes();
+}
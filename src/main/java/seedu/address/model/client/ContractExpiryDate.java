@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents a contract expiry date.
@@ -28,6 +31,10 @@ public class ContractExpiryDate implements Comparable<ContractExpiryDate> {
     public static final String DEFAULT_DATE_FORMAT = "d-M-uuuu";
     public static final String DISPLAY_DATE_FORMAT = "d MMM uuuu";
     public static final ContractExpiryDate NULL_DATE = new ContractExpiryDate();
+    private static final DateTimeFormatter DEFAULT_DATE_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_FORMAT);
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER = DateTimeFormatter.ofPattern(DISPLAY_DATE_FORMAT);
+    // Two digit years are taken to be in the century starting from this year, as with DATE_FORMATTER
+    private static final int TWO_DIGIT_YEAR_BASE = 2000;
     public final boolean isNullDate;
     public final String value;
     public final String displayValue;
@@ -47,27 +54,84 @@ public class ContractExpiryDate implements Comparable<ContractExpiryDate> {
      * Constructs a date object.
      */
     public ContractExpiryDate(String date) {
-        requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        this.date = LocalDate.parse(date, DATE_FORMATTER);
-        this.value = this.date.format(DateTimeFormatter.ofPattern(DEFAULT_DATE_FORMAT));
-        this.displayValue = this.date.format(DateTimeFormatter.ofPattern(DISPLAY_DATE_FORMAT));
+        this(parseValidDate(date));
+    }
+
+    /**
+     * Constructs a date object from a date that has already been parsed.
+     */
+    private ContractExpiryDate(LocalDate date) {
+        this.date = date;
+        this.value = date.format(DEFAULT_DATE_FORMATTER);
+        this.displayValue = date.format(DISPLAY_DATE_FORMATTER);
         this.isNullDate = false;
     }
 
+    /**
+     * Parses {@code date} into a {@code ContractExpiryDate}, validating and parsing it in a single pass.
+     *
+     * @return The {@code ContractExpiryDate}, or an empty {@code Optional} if {@code date} is not a valid date.
+     */
+    public static Optional<ContractExpiryDate> parse(String date) {
+        requireNonNull(date);
+        return Optional.ofNullable(parseDate(date)).map(ContractExpiryDate::new);
+    }
+
     /**
      * Returns true if the String follows the correct date format and is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (test.matches(VALIDATION_REGEX)) {
-            try {
-                LocalDate.parse(test, DATE_FORMATTER);
-                return true;
-            } catch (Exception e) {
-                return false;
-            }
+        return parseDate(test) != null;
+    }
+
+    private static LocalDate parseValidDate(String date) {
+        requireNonNull(date);
+        LocalDate parsedDate = parseDate(date);
+        checkArgument(parsedDate != null, MESSAGE_CONSTRAINTS);
+        return parsedDate;
+    }
+
+    /**
+     * Scans {@code test} once for a date in the format described by {@link #VALIDATION_REGEX}, accepting the same
+     * dates as {@link #DATE_FORMATTER}.
+     *
+     * @return The date, or null if {@code test} is not in the correct format or is not a valid date.
+     */
+    private static LocalDate parseDate(String test) {
+        int dayEnd = findNumberEnd(test, 0, 2);
+        int monthEnd = findNumberEnd(test, dayEnd + 1, 2);
+        int yearEnd = findNumberEnd(test, monthEnd + 1, 4);
+        if (dayEnd <= 0 || monthEnd <= dayEnd + 1 || yearEnd != test.length()
+                || test.charAt(dayEnd) != '-' || test.charAt(monthEnd) != '-') {
+            return null;
+        }
+        int yearDigitCount = yearEnd - monthEnd - 1;
+        if (yearDigitCount != 2 && yearDigitCount != 4) {
+            return null;
+        }
+
+        int day = Integer.parseInt(test, 0, dayEnd, 10);
+        int month = Integer.parseInt(test, dayEnd + 1, monthEnd, 10);
+        int year = Integer.parseInt(test, monthEnd + 1, yearEnd, 10);
+        if (yearDigitCount == 2) {
+            year += TWO_DIGIT_YEAR_BASE;
+        }
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the end of the run of at most {@code maxDigits} digits in {@code s} starting at {@code index}, which is
+     * {@code index} itself if there are none.
+     */
+    private static int findNumberEnd(String s, int index, int maxDigits) {
+        int end = index;
+        while (end < s.length() && end - index < maxDigits && s.charAt(end) >= '0' && s.charAt(end) <= '9') {
+            end++;
         }
-        return false;
+        return end;
     }
 
     @Override
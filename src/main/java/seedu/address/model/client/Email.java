@@ -3,6 +3,9 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Client's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -26,6 +29,7 @@ public class Email {
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -40,11 +44,25 @@ public class Email {
         value = email;
     }
 
+    /**
+     * Parses {@code email} into an {@code Email}, validating it only once.
+     *
+     * @return The {@code Email}, or an empty {@code Optional} if {@code email} is not a valid email address.
+     */
+    public static Optional<Email> parse(String email) {
+        requireNonNull(email);
+        try {
+            return Optional.of(new Email(email));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
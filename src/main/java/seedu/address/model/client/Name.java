@@ -3,6 +3,9 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Client's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,6 +20,7 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -31,11 +35,25 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Parses {@code name} into a {@code Name}, validating it only once.
+     *
+     * @return The {@code Name}, or an empty {@code Optional} if {@code name} is not a valid name.
+     */
+    public static Optional<Name> parse(String name) {
+        requireNonNull(name);
+        try {
+            return Optional.of(new Name(name));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Client's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -15,6 +17,9 @@ public class Phone {
                     + "digits for country code and 12 for phone number). Please refer to our UserGuide for other "
                     + "acceptable variations.";
     public static final String VALIDATION_REGEX = "(^[\\+][0-9]{1,3}[-\\s\\.]?[0-9]{3,12}$)|(^[0-9]{3,12}$)";
+    private static final int MIN_DIGITS = 3;
+    private static final int MAX_DIGITS = 12;
+    private static final int MAX_COUNTRY_CODE_DIGITS = 3;
     public final String value;
 
     /**
@@ -29,10 +34,62 @@ public class Phone {
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Parses {@code phone} into a {@code Phone}, validating it only once.
+     *
+     * @return The {@code Phone}, or an empty {@code Optional} if {@code phone} is not a valid phone number.
+     */
+    public static Optional<Phone> parse(String phone) {
+        requireNonNull(phone);
+        try {
+            return Optional.of(new Phone(phone));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid phone number, as described by {@link #VALIDATION_REGEX}.
+     * The string is scanned once, without a regular expression.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || test.charAt(0) != '+') {
+            int digitCount = countDigits(test, 0);
+            return digitCount == test.length() && digitCount >= MIN_DIGITS && digitCount <= MAX_DIGITS;
+        }
+
+        // A phone number with a country code, which is either separated from the rest of the number or not
+        int countryCodeEnd = 1 + countDigits(test, 1);
+        if (countryCodeEnd == test.length()) {
+            int digitCount = countryCodeEnd - 1;
+            return digitCount >= 1 + MIN_DIGITS && digitCount <= MAX_COUNTRY_CODE_DIGITS + MAX_DIGITS;
+        }
+        int countryCodeDigitCount = countryCodeEnd - 1;
+        if (countryCodeDigitCount < 1 || countryCodeDigitCount > MAX_COUNTRY_CODE_DIGITS
+                || !isSeparator(test.charAt(countryCodeEnd))) {
+            return false;
+        }
+        int digitCount = countDigits(test, countryCodeEnd + 1);
+        return countryCodeEnd + 1 + digitCount == test.length() && digitCount >= MIN_DIGITS
+                && digitCount <= MAX_DIGITS;
+    }
+
+    /**
+     * Returns the number of consecutive digits in {@code s} starting at {@code index}.
+     */
+    private static int countDigits(String s, int index) {
+        int end = index;
+        while (end < s.length() && s.charAt(end) >= '0' && s.charAt(end) <= '9') {
+            end++;
+        }
+        return end - index;
+    }
+
+    /**
+     * Returns true if {@code c} may separate the country code from the rest of a phone number, which is any of the
+     * characters matched by {@code [-\\s\\.]}.
+     */
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == '.' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     @Override
@@ -3,15 +3,15 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents a Client's timezone in the address book.
@@ -21,28 +21,35 @@ public class Timezone {
 
     public static final String UTC_STRING = "UTC";
 
-    public static final Set<String> VALID_TIMEZONES = new HashSet<>();
-
-    static {
-        Set<String> allZones = ZoneId.getAvailableZoneIds();
-        for (String s : allZones) {
-            ZoneOffset offset = LocalDateTime.now().atZone(ZoneId.of(s)).getOffset();
-            String out = String.format("%s", offset);
-            VALID_TIMEZONES.add(out);
-        }
-        // The timezone represented by UTC+00:00 is shown as "Z" by default.
-        VALID_TIMEZONES.remove("Z");
-        VALID_TIMEZONES.add("+00:00");
-    }
+    /**
+     * The offsets from UTC used by some timezone at some time of the year, whether as its standard time or its
+     * daylight saving time, in the form "+HH:MM" or "-HH:MM".
+     */
+    public static final Set<String> VALID_TIMEZONES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            "-12:00", "-11:00", "-10:00", "-09:30", "-09:00", "-08:00", "-07:00", "-06:00", "-05:00", "-04:00",
+            "-03:30", "-03:00", "-02:30", "-02:00", "-01:00", "+00:00", "+01:00", "+02:00", "+03:00", "+03:30",
+            "+04:00", "+04:30", "+05:00", "+05:30", "+05:45", "+06:00", "+06:30", "+07:00", "+08:00", "+08:45",
+            "+09:00", "+09:30", "+10:00", "+10:30", "+11:00", "+12:00", "+12:45", "+13:00", "+13:45", "+14:00")));
 
     public static final String MESSAGE_CONSTRAINTS = "Timezone should be in the form \"" + UTC_STRING + "+HH:MM\" or \""
             + UTC_STRING + "-HH:MM\" where HH is the offset in hours and MM is the offset in minutes. The full list of "
             + "valid timezones can be found at https://www.timeanddate.com/time/current-number-time-zones.html";
 
-    /** Timezone must start with "UTC" */
-    private static final String VALIDATION_REGEX = "^" + UTC_STRING + "(?<offset>[+-]\\d\\d:\\d\\d)";
+    private static final int MINUTES_PER_SLOT = 15;
+    private static final int MIN_OFFSET_MINUTES = -12 * 60;
+    private static final int MAX_OFFSET_MINUTES = 14 * 60;
+    private static final int NOT_A_SLOT = -1;
 
-    private static final Pattern TIMEZONE_FORMAT = Pattern.compile(VALIDATION_REGEX);
+    // The canonical timezone in the slot of each valid offset, one slot per 15 minutes, and null in the other slots
+    private static final Timezone[] TIMEZONES =
+            new Timezone[(MAX_OFFSET_MINUTES - MIN_OFFSET_MINUTES) / MINUTES_PER_SLOT + 1];
+
+    static {
+        for (String offset : VALID_TIMEZONES) {
+            int offsetMinutes = parseOffsetMinutes(UTC_STRING + offset);
+            TIMEZONES[getSlot(offsetMinutes)] = new Timezone(ZoneOffset.ofTotalSeconds(offsetMinutes * 60));
+        }
+    }
 
     public final ZoneId zoneOffsetId;
 
@@ -54,24 +61,90 @@ public class Timezone {
     public Timezone(String timezone) {
         requireNonNull(timezone);
         checkArgument(isValidTimezone(timezone), MESSAGE_CONSTRAINTS);
-        String offset = timezone.substring(UTC_STRING.length());
 
-        this.zoneOffsetId = ZoneId.of(offset);
+        this.zoneOffsetId = ZoneOffset.ofTotalSeconds(parseOffsetMinutes(timezone) * 60);
+    }
+
+    private Timezone(ZoneOffset zoneOffset) {
+        this.zoneOffsetId = zoneOffset;
+    }
+
+    /**
+     * Returns the {@code Timezone} for a valid timezone, which is shared with every other caller asking for it.
+     *
+     * @param timezone A valid timezone.
+     */
+    public static Timezone of(String timezone) {
+        Optional<Timezone> parsedTimezone = parse(timezone);
+        checkArgument(parsedTimezone.isPresent(), MESSAGE_CONSTRAINTS);
+        return parsedTimezone.get();
+    }
+
+    /**
+     * Parses {@code timezone} into its shared {@code Timezone}, validating it only once.
+     *
+     * @return The {@code Timezone}, or an empty {@code Optional} if {@code timezone} is not a valid timezone.
+     */
+    public static Optional<Timezone> parse(String timezone) {
+        requireNonNull(timezone);
+        int slot = getSlot(parseOffsetMinutes(timezone));
+        return slot == NOT_A_SLOT ? Optional.empty() : Optional.ofNullable(TIMEZONES[slot]);
     }
 
     /**
      * Returns true if a given string is a valid timezone.
      */
     public static boolean isValidTimezone(String test) {
-        if (test.matches(VALIDATION_REGEX)) {
-            final Matcher matcher = TIMEZONE_FORMAT.matcher(test);
-            matcher.find();
-            final String offset = matcher.group("offset");
-            if (VALID_TIMEZONES.contains(offset)) {
-                return true;
-            }
+        return parse(test).isPresent();
+    }
+
+    /**
+     * Returns the offset in minutes of a string in the form "UTC+HH:MM" or "UTC-HH:MM", or
+     * {@code Integer.MIN_VALUE} if the string is in any other form.
+     */
+    private static int parseOffsetMinutes(String timezone) {
+        if (timezone.length() != UTC_STRING.length() + 6 || !timezone.startsWith(UTC_STRING)) {
+            return Integer.MIN_VALUE;
+        }
+
+        int i = UTC_STRING.length();
+        char sign = timezone.charAt(i);
+        int hours = parseTwoDigits(timezone, i + 1);
+        int minutes = parseTwoDigits(timezone, i + 4);
+        if ((sign != '+' && sign != '-') || timezone.charAt(i + 3) != ':' || hours < 0 || minutes < 0
+                || minutes >= 60) {
+            return Integer.MIN_VALUE;
+        }
+        int offsetMinutes = hours * 60 + minutes;
+        if (sign == '+') {
+            return offsetMinutes;
+        }
+        // A zero offset is only written as "UTC+00:00"
+        return offsetMinutes == 0 ? Integer.MIN_VALUE : -offsetMinutes;
+    }
+
+    /**
+     * Returns the number written by the two digits at {@code index}, or -1 if either is not a digit.
+     */
+    private static int parseTwoDigits(String s, int index) {
+        char tens = s.charAt(index);
+        char ones = s.charAt(index + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * Returns the slot of an offset in minutes, or {@code NOT_A_SLOT} if it is out of range or not a whole number
+     * of slots.
+     */
+    private static int getSlot(int offsetMinutes) {
+        if (offsetMinutes < MIN_OFFSET_MINUTES || offsetMinutes > MAX_OFFSET_MINUTES
+                || offsetMinutes % MINUTES_PER_SLOT != 0) {
+            return NOT_A_SLOT;
         }
-        return false;
+        return (offsetMinutes - MIN_OFFSET_MINUTES) / MINUTES_PER_SLOT;
     }
 
     /**
@@ -3,11 +3,15 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.beans.Observable;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
@@ -19,35 +23,71 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * Clients are indexed by their name and phone, and by their name and email, which are exactly the pairs of fields
+ * compared by Client#isSameClient(Client), so checking for a client with the same identity does not scan the list.
+ * The position of every client is also kept by its client ID, which must be unique in the list, so that a client can
+ * be replaced or removed by its client ID without searching for it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
  */
 public class UniqueClientList implements Iterable<Client> {
 
-    // Initialize observableArrayList with a Callback that monitors change in the clients' notes list
+    // Initialize observableArrayList with a Callback that monitors change in the clients' notes, without loading them
     private final ObservableList<Client> internalList = FXCollections.observableArrayList(client ->
-            new Observable[] { client.getClientNotesAsObservableList() });
+            new Observable[] { client.clientNotesVersionProperty() });
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Client> clientsByNameAndPhone = new HashMap<>();
+    private final Map<IdentityKey, Client> clientsByNameAndEmail = new HashMap<>();
+    private final Map<ClientId, Integer> positionsByClientId = new HashMap<>();
+    private long version;
+
+    /**
+     * Creates an empty {@code UniqueClientList}.
+     * Every change to the list, including changes to the client notes of its clients, bumps its version.
+     */
+    public UniqueClientList() {
+        internalList.addListener((ListChangeListener<Client>) change -> version++);
+    }
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return findSameClient(toCheck, null) != null;
+    }
+
+    /**
+     * Returns true if the list contains a client with the given client ID.
+     */
+    public boolean containsClientId(ClientId clientId) {
+        requireNonNull(clientId);
+        return positionsByClientId.containsKey(clientId);
+    }
+
+    /**
+     * Returns the client with the given client ID.
+     * The client must exist in the list.
+     */
+    public Client get(ClientId clientId) {
+        requireNonNull(clientId);
+        return internalList.get(getPosition(clientId));
     }
 
     /**
      * Adds a client to the list.
-     * The client must not already exist in the list.
+     * The client must not already exist in the list, and its client ID must not be used by another client.
      */
     public void add(Client toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || containsClientId(toAdd.getClientId())) {
             throw new DuplicateClientException();
         }
+        indexClient(toAdd);
+        positionsByClientId.put(toAdd.getClientId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -58,17 +98,18 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
+        setClientAt(getPosition(target), editedClient);
+    }
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ClientNotFoundException();
-        }
-
-        if (!target.isSameClient(editedClient) && contains(editedClient)) {
-            throw new DuplicateClientException();
-        }
-
-        internalList.set(index, editedClient);
+    /**
+     * Replaces the client with the client ID {@code targetId} in the list with {@code editedClient}.
+     * The client with the client ID {@code targetId} must exist in the list.
+     * The client identity and client ID of {@code editedClient} must not be the same as those of another existing
+     * client in the list.
+     */
+    public void setClient(ClientId targetId, Client editedClient) {
+        requireAllNonNull(targetId, editedClient);
+        setClientAt(getPosition(targetId), editedClient);
     }
 
     /**
@@ -77,9 +118,16 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ClientNotFoundException();
-        }
+        removeAt(getPosition(toRemove));
+    }
+
+    /**
+     * Removes the client with the client ID {@code targetId} from the list.
+     * The client must exist in the list.
+     */
+    public void remove(ClientId targetId) {
+        requireNonNull(targetId);
+        removeAt(getPosition(targetId));
     }
 
     /**
@@ -89,19 +137,39 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
+        clientsByNameAndPhone.clear();
+        clientsByNameAndPhone.putAll(replacement.clientsByNameAndPhone);
+        clientsByNameAndEmail.clear();
+        clientsByNameAndEmail.putAll(replacement.clientsByNameAndEmail);
+        positionsByClientId.clear();
+        positionsByClientId.putAll(replacement.positionsByClientId);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code clients}.
-     * {@code clients} must not contain duplicate clients.
+     * {@code clients} must not contain duplicate clients or client IDs.
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
-            throw new DuplicateClientException();
+        Map<IdentityKey, Client> byNameAndPhone = new HashMap<>();
+        Map<IdentityKey, Client> byNameAndEmail = new HashMap<>();
+        Map<ClientId, Integer> positions = new HashMap<>();
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            if (byNameAndPhone.put(new IdentityKey(client.getName(), client.getPhone()), client) != null
+                    || byNameAndEmail.put(new IdentityKey(client.getName(), client.getEmail()), client) != null
+                    || positions.put(client.getClientId(), i) != null) {
+                throw new DuplicateClientException();
+            }
         }
 
+        clientsByNameAndPhone.clear();
+        clientsByNameAndPhone.putAll(byNameAndPhone);
+        clientsByNameAndEmail.clear();
+        clientsByNameAndEmail.putAll(byNameAndEmail);
+        positionsByClientId.clear();
+        positionsByClientId.putAll(positions);
         internalList.setAll(clients);
     }
 
@@ -112,6 +180,13 @@ public class UniqueClientList implements Iterable<Client> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of changes made to this list so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Iterator<Client> iterator() {
         return internalList.iterator();
@@ -130,16 +205,109 @@ public class UniqueClientList implements Iterable<Client> {
     }
 
     /**
-     * Returns true if {@code clients} contains only unique clients.
+     * Returns the position of the client with the client ID {@code clientId}.
+     *
+     * @throws ClientNotFoundException if there is no such client.
      */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
-            }
+    private int getPosition(ClientId clientId) {
+        Integer position = positionsByClientId.get(clientId);
+        if (position == null) {
+            throw new ClientNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the client that equals {@code target}, which is usually found by its client ID.
+     *
+     * @throws ClientNotFoundException if there is no such client.
+     */
+    private int getPosition(Client target) {
+        Integer position = positionsByClientId.get(target.getClientId());
+        if (position != null && internalList.get(position).equals(target)) {
+            return position;
+        }
+
+        // The client may be equal to a client in the list without being a copy of it
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new ClientNotFoundException();
+        }
+        return index;
+    }
+
+    private void setClientAt(int index, Client editedClient) {
+        Client target = internalList.get(index);
+        if (findSameClient(editedClient, target) != null) {
+            throw new DuplicateClientException();
+        }
+        if (!editedClient.getClientId().equals(target.getClientId()) && containsClientId(editedClient.getClientId())) {
+            throw new DuplicateClientException();
+        }
+
+        unindexClient(target);
+        indexClient(editedClient);
+        positionsByClientId.remove(target.getClientId());
+        positionsByClientId.put(editedClient.getClientId(), index);
+        internalList.set(index, editedClient);
+    }
+
+    private void removeAt(int index) {
+        Client target = internalList.get(index);
+        unindexClient(target);
+        positionsByClientId.remove(target.getClientId());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByClientId.put(internalList.get(i).getClientId(), i);
+        }
+    }
+
+    /**
+     * Returns a client in the list with the same identity as {@code toCheck} other than {@code ignored}, or null if
+     * there is none.
+     */
+    private Client findSameClient(Client toCheck, Client ignored) {
+        Client sameClient = clientsByNameAndPhone.get(new IdentityKey(toCheck.getName(), toCheck.getPhone()));
+        if (sameClient != null && sameClient != ignored) {
+            return sameClient;
+        }
+        sameClient = clientsByNameAndEmail.get(new IdentityKey(toCheck.getName(), toCheck.getEmail()));
+        return sameClient != ignored ? sameClient : null;
+    }
+
+    private void indexClient(Client client) {
+        clientsByNameAndPhone.put(new IdentityKey(client.getName(), client.getPhone()), client);
+        clientsByNameAndEmail.put(new IdentityKey(client.getName(), client.getEmail()), client);
+    }
+
+    private void unindexClient(Client client) {
+        clientsByNameAndPhone.remove(new IdentityKey(client.getName(), client.getPhone()), client);
+        clientsByNameAndEmail.remove(new IdentityKey(client.getName(), client.getEmail()), client);
+    }
+
+    /**
+     * The name of a client paired with one of its other identity fields.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof IdentityKey
+                            && name.equals(((IdentityKey) other).name)
+                            && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
         }
-        return true;
     }
 }
@@ -0,0 +1,10 @@
+package seedu.address.model.client.exceptions;
+
+/**
+ * Signals that the client notes of a client could not be loaded from where they are stored.
+ */
+public class ClientNotesUnavailableException extends RuntimeException {
+    public ClientNotesUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,7 +1,5 @@
 package seedu.address.model.country;
 
-import java.util.Locale;
-
 /**
  * A representation of a Country that is identified by a 2-letter ISO3166 country-code.
  * It contains a list of country notes.
@@ -24,7 +22,16 @@ public class Country implements Comparable<Country> {
         assert CountryCodeVerifier.isValidCountryCode(countryCode);
 
         this.countryCode = countryCode;
-        this.countryName = new Locale("", countryCode).getDisplayName();
+        this.countryName = CountryCodeVerifier.getCountry(countryCode).countryName;
+    }
+
+    /**
+     * Initializes a Country by its countryCode and countryName, for {@link CountryCodeVerifier} to make the
+     * canonical country of each country code.
+     */
+    Country(String countryCode, String countryName) {
+        this.countryCode = countryCode;
+        this.countryName = countryName;
     }
 
     private Country() {
@@ -32,6 +39,18 @@ public class Country implements Comparable<Country> {
         this.countryName = NONE_COUNTRY_NAME;
     }
 
+    /**
+     * Returns the country with the given countryCode, which is shared with every other caller asking for it.
+     *
+     * @param countryCode The ISO3166 2-letter country code of the country.
+     */
+    public static Country of(String countryCode) {
+        Country country = CountryCodeVerifier.getCountry(countryCode);
+        assert country != null;
+
+        return country;
+    }
+
     /**
      * Gets the country name of this country.
      *
@@ -4,6 +4,9 @@ import java.util.Locale;
 
 /**
  * The class that is responsible for verification of ISO3166 country-codes.
+ * Every valid country-code has a slot in a table indexed directly by its two letters, which holds the canonical
+ * {@code Country} for the code along with its display name, so that a code is verified or looked up without
+ * searching the list of country-codes.
  */
 public class CountryCodeVerifier {
 
@@ -11,6 +14,16 @@ public class CountryCodeVerifier {
             + "2-letter ISO3166 country code";
     private static final String[] COUNTRY_CODES = Locale.getISOCountries();
 
+    private static final int LETTER_COUNT = 'Z' - 'A' + 1;
+    // The canonical country in the slot of each valid country-code, and null in the slots of the other codes
+    private static final Country[] COUNTRIES = new Country[LETTER_COUNT * LETTER_COUNT];
+
+    static {
+        for (String countryCode : COUNTRY_CODES) {
+            COUNTRIES[getSlot(countryCode)] = new Country(countryCode, new Locale("", countryCode).getDisplayName());
+        }
+    }
+
     /**
      * Checks if countryCode is a valid ISO3166 code.
      *
@@ -18,12 +31,7 @@ public class CountryCodeVerifier {
      * @return Whether countryCode is a valid ISO3166 code.
      */
     public static boolean isValidCountryCode(String countryCode) {
-        for (int i = 0; i < COUNTRY_CODES.length; i++) {
-            if (COUNTRY_CODES[i].equals(countryCode)) {
-                return true;
-            }
-        }
-        return false;
+        return getCountry(countryCode) != null;
     }
 
     /**
@@ -34,4 +42,30 @@ public class CountryCodeVerifier {
     public static String[] getCountryCodes() {
         return COUNTRY_CODES;
     }
+
+    /**
+     * Gets the canonical country of a country-code.
+     *
+     * @param countryCode The country code.
+     * @return The canonical country of countryCode, or null if countryCode is not a valid ISO3166 code.
+     */
+    static Country getCountry(String countryCode) {
+        int slot = getSlot(countryCode);
+        return slot < 0 ? null : COUNTRIES[slot];
+    }
+
+    /**
+     * Returns the slot of a code of two upper case letters, or -1 for any other string.
+     */
+    private static int getSlot(String countryCode) {
+        if (countryCode == null || countryCode.length() != 2) {
+            return -1;
+        }
+        int first = countryCode.charAt(0) - 'A';
+        int second = countryCode.charAt(1) - 'A';
+        if (first < 0 || first >= LETTER_COUNT || second < 0 || second >= LETTER_COUNT) {
+            return -1;
+        }
+        return first * LETTER_COUNT + second;
+    }
 }
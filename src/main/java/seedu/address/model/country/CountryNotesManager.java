@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Objects;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.note.CountryNote;
 
@@ -16,6 +17,21 @@ public class CountryNotesManager {
     private final ObservableList<CountryNote> internalCountryNoteList = FXCollections.observableArrayList();
     private final ObservableList<CountryNote> internalCountryNoteUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalCountryNoteList);
+    private long version;
+
+    /**
+     * Creates a {@code CountryNotesManager} without any country notes.
+     */
+    public CountryNotesManager() {
+        internalCountryNoteList.addListener((ListChangeListener<CountryNote>) change -> version++);
+    }
+
+    /**
+     * Returns the number of changes made to the country notes so far.
+     */
+    public long getVersion() {
+        return version;
+    }
 
     /**
      * Checks if {@code countryNote} already exists.
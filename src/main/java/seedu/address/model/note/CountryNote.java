@@ -1,8 +1,8 @@
 package seedu.address.model.note;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
@@ -17,18 +17,16 @@ public class CountryNote extends Note {
     public static final CountryNote NULL_COUNTRY_NOTE = new CountryNote("", Country.NULL_COUNTRY);
 
     private final Country country;
+    private final int hashCode;
 
     /**
-     * Initializes a country note.
+     * Initializes a country note without tags.
      *
      * @param content The content of the country note.
      * @param country The country that is associate with the note.
      */
     public CountryNote(String content, Country country) {
-        super(content);
-
-        requireNonNull(country);
-        this.country = country;
+        this(content, country, Collections.emptySet());
     }
 
     /**
@@ -39,10 +37,20 @@ public class CountryNote extends Note {
      * @param tags The tags that are associated with the country note.
      */
     public CountryNote(String content, Country country, Set<Tag> tags) {
-        super(content);
-        requireAllNonNull(content, country, tags);
+        super(content, tags);
+        requireAllNonNull(country);
         this.country = country;
-        super.setTags(tags);
+        hashCode = Objects.hash(super.hashCode(), country);
+    }
+
+    /**
+     * Returns a new country note with the same content and country as this country note and the given tags.
+     *
+     * @param tags The set of {@code Tag} objects to be associated with the new {@code CountryNote}.
+     */
+    @Override
+    public CountryNote withTags(Set<Tag> tags) {
+        return new CountryNote(getNoteContent(), country, tags);
     }
 
     /**
@@ -77,7 +85,7 @@ public class CountryNote extends Note {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), country);
+        return hashCode;
     }
 
     @Override
@@ -1,12 +1,12 @@
 package seedu.address.model.note;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,33 +14,60 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Generic Note class for country and client notes.
+ * Guarantees: immutable; every note has a note ID that no other note created in this run of the app has.
  */
 public class Note {
     public static final String MESSAGE_CONSTRAINTS = "Notes should not be blank";
     private static final Logger logger = LogsCenter.getLogger(Note.class);
+    private static final AtomicLong nextNoteId = new AtomicLong();
+
+    private final long noteId;
     private final String noteContent;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+    private final int hashCode;
 
     /**
-     * Constructs a Note object with some content in it.
+     * Constructs a Note object with some content in it and no tags.
      *
      * @param content to be added
      */
     public Note(String content) {
-        requireNonNull(content);
-        noteContent = content;
-        logger.info(String.format("--------------[New Note created with contents: %s]", noteContent));
+        this(content, Collections.emptySet());
     }
 
     /**
-     * Sets the tags of this {@code Note} to the {@code tags} passed in.
+     * Constructs a Note object with some content in it and the given tags.
      *
+     * @param content to be added
      * @param tags The set of {@code Tag} objects to be associated with this {@code Note}.
      */
-    public void setTags(Set<Tag> tags) {
-        requireAllNonNull(tags);
-        this.tags.clear();
-        this.tags.addAll(tags);
+    public Note(String content, Set<Tag> tags) {
+        requireAllNonNull(content, tags);
+        noteId = nextNoteId.getAndIncrement();
+        noteContent = content;
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        hashCode = Objects.hash(noteContent, this.tags);
+        logger.fine(LogsCenter.lazyFormat("--------------[New Note created with contents: %s]", noteContent));
+    }
+
+    /**
+     * Returns a new note with the same content as this note and the given tags.
+     *
+     * @param tags The set of {@code Tag} objects to be associated with the new {@code Note}.
+     */
+    public Note withTags(Set<Tag> tags) {
+        return new Note(noteContent, tags);
+    }
+
+    /**
+     * Gets the note ID of this note, which tells it apart from every other note, including equal ones.
+     * Note IDs are not stored, and are given afresh to notes read from storage. Client notes are pinned to their
+     * client while their note IDs are in a {@link TagNoteMap}, so that they are never loaded again with new IDs.
+     *
+     * @return The note ID of this note.
+     */
+    public long getNoteId() {
+        return noteId;
     }
 
     /**
@@ -64,10 +91,10 @@ public class Note {
     /**
      * Gets the set of tags that is related to this Note.
      *
-     * @return The set of tags that is related to this Note.
+     * @return The unmodifiable set of tags that is related to this Note.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -77,6 +104,10 @@ public class Note {
         return !test.trim().isEmpty();
     }
 
+    /**
+     * Returns true if both notes have the same content and tags.
+     * The note ID is not compared.
+     */
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -89,11 +120,9 @@ public class Note {
             return false;
         }
 
-        // state check
+        // state check, starting with the cached hash codes of both notes
         Note c = (Note) obj;
-        boolean hasSameTags = this.tags.equals(c.tags);
-
-        return this.noteContent.equals(c.noteContent) && hasSameTags;
+        return hashCode == c.hashCode && noteContent.equals(c.noteContent) && tags.equals(c.tags);
     }
 
     @Override
@@ -103,6 +132,6 @@ public class Note {
 
     @Override
     public int hashCode() {
-        return Objects.hash(noteContent, tags);
+        return hashCode;
     }
 }
@@ -1,16 +1,24 @@
 package seedu.address.model.note;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.ParserUtil;
@@ -20,6 +28,11 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Manages the relationship between Tags and Notes.
+ * Notes are kept by their note IDs, so that equal notes, such as the same client note of two clients, are kept apart.
+ * The client notes of a client that have not been loaded are not loaded to initialise this map. Their tags are
+ * taken from the index kept alongside the stored client notes instead, and the client notes themselves are only
+ * added once they are needed. Client notes are pinned to their client while they are in this map, as client notes
+ * loaded again after being let go of would be different note objects with different note IDs.
  */
 public class TagNoteMap {
 
@@ -30,20 +43,42 @@ public class TagNoteMap {
      * A map is used instead of a set because the set does not offer the option of getting objects inside it.
      */
     private final Map<Tag, Tag> uniqueTagMap = new HashMap<>();
-    private final LinkedHashSet<Note> noteSet = new LinkedHashSet<>();
-    private final Map<Tag, List<Note>> tagToNotesMap = new HashMap<>();
-    private final Map<Note, LinkedHashSet<Tag>> noteToTagsMap = new HashMap<>();
+    private final Map<Long, Note> noteMap = new LinkedHashMap<>();
+    // Notes with each tag by note ID, in the order they were added, so that a note is added or removed in constant
+    // time per tag.
+    private final Map<Tag, Map<Long, Note>> tagToNotesMap = new HashMap<>();
+    private final Map<Long, LinkedHashSet<Tag>> noteToTagsMap = new HashMap<>();
+    // Clients whose client notes have not been added to this map yet, along with the indexed tags of their notes.
+    private final Map<Client, Set<Tag>> indexedClients = new IdentityHashMap<>();
+    // The number of clients in indexedClients that have a client note with each tag.
+    private final Map<Tag, Integer> indexedTagCounts = new HashMap<>();
+    // Clients whose client notes are in this map and were pinned by it.
+    private final Set<Client> pinnedClients = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Constructor ensures our unique tag map has the UNTAGGED tag.
      */
     public TagNoteMap() {
+        clear();
+    }
+
+    /**
+     * Removes all tags and notes, leaving only the UNTAGGED tag.
+     */
+    public void clear() {
+        pinnedClients.forEach(Client::unpinClientNotes);
+        pinnedClients.clear();
+        uniqueTagMap.clear();
+        noteMap.clear();
+        tagToNotesMap.clear();
+        noteToTagsMap.clear();
+        indexedClients.clear();
+        indexedTagCounts.clear();
         uniqueTagMap.put(Tag.UNTAGGED, Tag.UNTAGGED);
-        tagToNotesMap.put(Tag.UNTAGGED, new ArrayList<>());
+        tagToNotesMap.put(Tag.UNTAGGED, new LinkedHashMap<>());
     }
 
     private void initTagNoteMapFromNotes(List<Note> notes) {
-        noteSet.addAll(notes);
         for (Note clientNote : notes) {
             Set<Tag> tags = clientNote.getTags();
             for (Tag tag : tags) {
@@ -55,18 +90,141 @@ public class TagNoteMap {
 
     /**
      * Initialises the TagNoteMap from a list of clients.
+     * Only the indexed tags of client notes that have not been loaded are added.
      *
      * @param clients The list of clients, each containing their notes and associated tags.
      */
     public void initTagNoteMapFromClients(List<Client> clients) {
         requireAllNonNull(clients);
-        for (Client client : clients) {
-            List<Note> clientNotes = client.getClientNotesAsUnmodifiableList();
-            initTagNoteMapFromNotes(clientNotes);
-        }
+        clients.forEach(this::addClient);
         logger.info("--------------[TagNoteMap initialized from clients]");
     }
 
+    /**
+     * Adds the client notes of {@code client}.
+     * If the client notes have not been loaded, only their indexed tags are added.
+     *
+     * @param client The client whose client notes are to be added.
+     */
+    public void addClient(Client client) {
+        requireNonNull(client);
+        if (client.getClientNotesLoader() != null && !client.isClientNotesLoaded()) {
+            addIndexedClient(client);
+            return;
+        }
+        pinClientNotes(client);
+        initTagNoteMapFromNotes(client.getClientNotesAsUnmodifiableList());
+    }
+
+    /**
+     * Removes the client notes of {@code client}, which must have been added, without loading them.
+     *
+     * @param client The client whose client notes are to be removed.
+     */
+    public void removeClient(Client client) {
+        requireNonNull(client);
+        if (indexedClients.containsKey(client)) {
+            removeIndexedClient(client);
+            return;
+        }
+        client.getClientNotesAsUnmodifiableList().forEach(this::removeNote);
+        unpinClientNotes(client);
+    }
+
+    /**
+     * Replaces the client notes of {@code target} with those of {@code editedClient}.
+     * Nothing is changed if both clients have the same client note objects, which is the case when a client is
+     * edited.
+     *
+     * @param target The client whose client notes have been added.
+     * @param editedClient The client that replaces {@code target}.
+     */
+    public void setClient(Client target, Client editedClient) {
+        requireAllNonNull(target, editedClient);
+        if (indexedClients.containsKey(target)
+                && target.getClientNotesLoader() == editedClient.getClientNotesLoader()) {
+            indexedClients.put(editedClient, indexedClients.remove(target));
+            return;
+        }
+
+        loadClientNotes(target);
+        pinClientNotes(editedClient);
+        if (haveSameClientNotes(target, editedClient)) {
+            if (editedClient != target) {
+                unpinClientNotes(target);
+            }
+            return;
+        }
+        removeClient(target);
+        addClient(editedClient);
+    }
+
+    private static boolean haveSameClientNotes(Client client, Client otherClient) {
+        List<Note> clientNotes = client.getClientNotesAsUnmodifiableList();
+        List<Note> otherClientNotes = otherClient.getClientNotesAsUnmodifiableList();
+        if (clientNotes.size() != otherClientNotes.size()) {
+            return false;
+        }
+        for (int i = 0; i < clientNotes.size(); i++) {
+            if (clientNotes.get(i) != otherClientNotes.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void pinClientNotes(Client client) {
+        if (client.getClientNotesLoader() != null) {
+            client.pinClientNotes();
+            pinnedClients.add(client);
+        }
+    }
+
+    private void unpinClientNotes(Client client) {
+        if (pinnedClients.remove(client)) {
+            client.unpinClientNotes();
+        }
+    }
+
+    private void addIndexedClient(Client client) {
+        if (indexedClients.containsKey(client)) {
+            return;
+        }
+
+        Set<Tag> tags = client.getClientNoteTags();
+        indexedClients.put(client, tags);
+        for (Tag tag : tags) {
+            uniqueTagMap.putIfAbsent(tag, tag);
+            indexedTagCounts.merge(tag, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Adds the client notes of {@code client} in place of their indexed tags, loading the client notes if needed.
+     * Does nothing if the client notes of {@code client} have already been added.
+     *
+     * @param client The client whose client notes are about to be used.
+     */
+    public void loadClientNotes(Client client) {
+        if (!indexedClients.containsKey(client)) {
+            return;
+        }
+
+        pinClientNotes(client);
+        List<Note> clientNotes = client.getClientNotesAsUnmodifiableList();
+        removeIndexedClient(client);
+        initTagNoteMapFromNotes(clientNotes);
+    }
+
+    private void removeIndexedClient(Client client) {
+        for (Tag tag : indexedClients.remove(client)) {
+            indexedTagCounts.computeIfPresent(tag, (unused, count) -> count == 1 ? null : count - 1);
+            if (!indexedTagCounts.containsKey(tag) && !tagToNotesMap.containsKey(tag)) {
+                uniqueTagMap.remove(tag);
+            }
+        }
+    }
+
     /**
      * Initialises the TagNoteMap from a list of countries.
      *
@@ -107,66 +265,72 @@ public class TagNoteMap {
      * @return Set of {@code Tag} objects that are associated to the note.
      */
     public Set<Tag> getTagsForNote(Note note) {
-        return Collections.unmodifiableSet(noteToTagsMap.getOrDefault(note, new LinkedHashSet<>()));
+        return Collections.unmodifiableSet(noteToTagsMap.getOrDefault(note.getNoteId(), new LinkedHashSet<>()));
     }
 
     /** Retrieves all {@code Note} objects that are associated to a particular {@code Tag}.
+     * The client notes of clients indexed with the tag are loaded.
      *
      * @param tag The particular {@code Tag} to get associated notes for.
-     * @return List of {@code Note} objects that are associated to the tag.
+     * @return A read-only view of the {@code Note} objects that are associated to the tag, in the order they were
+     *     associated. The view reflects later changes to this map.
      */
-    public List<Note> getNotesForTag(Tag tag) {
-        return Collections.unmodifiableList(tagToNotesMap.getOrDefault(tag, new ArrayList<>()));
+    public Set<Note> getNotesForTag(Tag tag) {
+        if (indexedTagCounts.containsKey(tag)) {
+            List<Client> clientsWithTag = new ArrayList<>();
+            indexedClients.forEach((client, tags) -> {
+                if (tags.contains(tag)) {
+                    clientsWithTag.add(client);
+                }
+            });
+            clientsWithTag.forEach(this::loadClientNotes);
+        }
+        return new NotesForTag(tag);
     }
 
     /**
      * Deletes a note from the TagNoteMap.
-     * Modifies existing {@code noteSet, tagToNotesMap, noteToTagsMap, uniqueTagMap}.
+     * Modifies existing {@code noteMap, tagToNotesMap, noteToTagsMap, uniqueTagMap}.
      *
      * @param note The note to be deleted from the TagNoteMap.
      */
     public void deleteNote(Note note) {
-        assert noteSet.contains(note) : "trying to remove note that doesn't exist in noteSet";
-        assert noteToTagsMap.containsKey(note) : "trying to remove note that doesn't exist in noteToTagsMap";
-        noteSet.remove(note);
-        Set<Tag> associatedTags = this.noteToTagsMap.get(note);
-        for (Tag tag : associatedTags) { // remove note for relevant tags
-            List<Note> notes = this.tagToNotesMap.get(tag);
-            notes.remove(note);
-            if (notes.isEmpty() && !tag.equals(Tag.UNTAGGED)) {
-                // other than default Tag.UNTAGGED, remove the tag itself from tagToNotesMap and uniqueTagMap:
-                this.tagToNotesMap.remove(tag);
-                this.uniqueTagMap.remove(tag);
-            }
-        }
-        noteToTagsMap.remove(note);
+        assert noteMap.containsKey(note.getNoteId()) : "trying to remove note that doesn't exist in noteMap";
+        assert noteToTagsMap.containsKey(note.getNoteId())
+                : "trying to remove note that doesn't exist in noteToTagsMap";
+        removeNote(note);
     }
 
     /**
      * Edits a note from the TagNoteMap.
-     * Modifies existing {@code noteSet, tagToNotesMap, noteToTagsMap, uniqueTagMap}.
+     * Modifies existing {@code noteMap, tagToNotesMap, noteToTagsMap, uniqueTagMap}.
      *
      * @param noteToEdit The note to be edited from the TagNoteMap.
      * @param newNote The new note to replace it with.
      */
     public void editNote(Note noteToEdit, Note newNote) {
-        assert noteSet.contains(noteToEdit) : "trying to remove note that doesn't exist in noteSet";
-        assert noteToTagsMap.containsKey(noteToEdit) : "trying to remove note that doesn't exist in noteToTagsMap";
-        noteSet.remove(noteToEdit);
-        Set<Tag> associatedTags = this.noteToTagsMap.get(noteToEdit);
-        // remove this note's association for relevant tags:
-        for (Tag tag : associatedTags) {
-            List<Note> notes = this.tagToNotesMap.get(tag);
-            notes.remove(noteToEdit);
-            // other than default Tag.UNTAGGED, remove the tag itself from tagToNotesMap and uniqueTagMap:
-            if (notes.isEmpty() && !tag.equals(Tag.UNTAGGED)) {
-                this.tagToNotesMap.remove(tag);
-                this.uniqueTagMap.remove(tag);
+        assert noteMap.containsKey(noteToEdit.getNoteId()) : "trying to remove note that doesn't exist in noteMap";
+        assert noteToTagsMap.containsKey(noteToEdit.getNoteId())
+                : "trying to remove note that doesn't exist in noteToTagsMap";
+        removeNote(noteToEdit);
+        addTagsForNote(newNote.getTags(), newNote);
+    }
+
+    private void removeNote(Note note) {
+        noteMap.remove(note.getNoteId());
+        Set<Tag> associatedTags = noteToTagsMap.remove(note.getNoteId());
+        if (associatedTags == null) { // the note has already been removed
+            return;
+        }
+        for (Tag tag : associatedTags) { // remove note for relevant tags
+            Map<Long, Note> notes = tagToNotesMap.get(tag);
+            notes.remove(note.getNoteId());
+            if (notes.isEmpty() && !tag.equals(Tag.UNTAGGED) && !indexedTagCounts.containsKey(tag)) {
+                // other than Tag.UNTAGGED and indexed tags, remove the tag itself from tagToNotesMap and uniqueTagMap:
+                tagToNotesMap.remove(tag);
+                uniqueTagMap.remove(tag);
             }
         }
-        noteSet.add(newNote);
-        noteToTagsMap.remove(noteToEdit);
-        addTagsForNote(newNote.getTags(), newNote);
     }
 
     /**
@@ -181,20 +345,14 @@ public class TagNoteMap {
         requireAllNonNull(newTags, note);
         for (Tag newTag : newTags) {
             // update the notes set for each of the tags:
-            if (tagToNotesMap.containsKey(newTag)) { // if that tag exists
-                tagToNotesMap.get(newTag).add(note);
-            } else { // new tag:
-                this.uniqueTagMap.put(newTag, newTag);
-                List<Note> notes = new ArrayList<>();
-                notes.add(note);
-                tagToNotesMap.put(newTag, notes);
-            }
+            tagToNotesMap.computeIfAbsent(newTag, tag -> {
+                uniqueTagMap.put(tag, tag);
+                return new LinkedHashMap<>();
+            }).put(note.getNoteId(), note);
         }
         // update the tags set for the note:
-        LinkedHashSet<Tag> currentTags = noteToTagsMap.getOrDefault(note, new LinkedHashSet<>());
-        currentTags.addAll(newTags);
-        noteToTagsMap.put(note, currentTags);
-        noteSet.add(note);
+        noteToTagsMap.computeIfAbsent(note.getNoteId(), noteId -> new LinkedHashSet<>()).addAll(newTags);
+        noteMap.put(note.getNoteId(), note);
     }
 
     @Override
@@ -210,9 +368,52 @@ public class TagNoteMap {
         // state check:
         TagNoteMap other = (TagNoteMap) obj;
         return this.uniqueTagMap.equals(other.uniqueTagMap)
-                && this.noteSet.equals(other.noteSet)
-                && this.tagToNotesMap.equals(other.tagToNotesMap)
-                && this.noteToTagsMap.equals(other.noteToTagsMap);
+                && countNotes(this.noteMap.values()).equals(countNotes(other.noteMap.values()))
+                && this.countNotesByTag().equals(other.countNotesByTag())
+                && this.indexedTagCounts.equals(other.indexedTagCounts);
+    }
+
+    /**
+     * Returns the number of notes with each tag that are equal to each note, as note IDs differ between maps.
+     */
+    private Map<Tag, Map<Note, Long>> countNotesByTag() {
+        Map<Tag, Map<Note, Long>> noteCountsByTag = new HashMap<>();
+        tagToNotesMap.forEach((tag, notes) -> noteCountsByTag.put(tag, countNotes(notes.values())));
+        return noteCountsByTag;
+    }
+
+    private static Map<Note, Long> countNotes(Collection<Note> notes) {
+        return notes.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    /**
+     * A read-only view of the notes associated to a tag, which stays up to date as the tag gains or loses notes.
+     */
+    private class NotesForTag extends AbstractSet<Note> {
+        private final Tag tag;
+
+        private NotesForTag(Tag tag) {
+            this.tag = tag;
+        }
+
+        private Map<Long, Note> getNotes() {
+            return tagToNotesMap.getOrDefault(tag, Collections.emptyMap());
+        }
+
+        @Override
+        public Iterator<Note> iterator() {
+            return Collections.unmodifiableCollection(getNotes().values()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return getNotes().size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Note && getNotes().get(((Note) o).getNoteId()) == o;
+        }
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternTable;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,7 +15,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric and have a maximum of "
             + MAX_CHARACTERS + " characters";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
-    public static final Tag UNTAGGED = new Tag("untagged");
+    public static final Tag UNTAGGED = of("untagged");
+
+    /** The number of distinct tags kept by {@link #of(String)}, beyond which new tags are no longer shared. */
+    private static final int MAX_INTERNED_TAGS = 4096;
 
     public final String tagName;
 
@@ -28,11 +33,32 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the {@code Tag} with a valid tag name, which is shared with every other caller asking for it while
+     * there is room to keep it.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return InternedTags.TAGS.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
+     * The name is scanned once for the characters matched by {@link #VALIDATION_REGEX}, without a regular expression.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_CHARACTERS;
+        if (test.isEmpty() || test.length() > MAX_CHARACTERS) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -54,4 +80,11 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * Holds the tags shared by {@link #of(String)}, so that the table exists before {@link #UNTAGGED} is made.
+     */
+    private static class InternedTags {
+        private static final InternTable<String, Tag> TAGS = new InternTable<>(MAX_INTERNED_TAGS, Tag::new);
+    }
+
 }
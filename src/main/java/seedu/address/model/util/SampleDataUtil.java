@@ -53,44 +53,38 @@ public class SampleDataUtil {
 
         Set<Tag> charlotteNote1Tags = new HashSet<>();
         charlotteNote1Tags.add(new Tag("socialising"));
-        Note charlotteNote1 = new Note("Networking event at Ibiza");
-        charlotteNote1.setTags(charlotteNote1Tags);
+        Note charlotteNote1 = new Note("Networking event at Ibiza", charlotteNote1Tags);
         charlotte.addClientNote(charlotteNote1);
 
         Set<Tag> berniceNote1Tags = new HashSet<>();
         berniceNote1Tags.add(new Tag("reminder"));
-        Note berniceNote1 = new Note("Birthday tomorrow.");
-        berniceNote1.setTags(berniceNote1Tags);
+        Note berniceNote1 = new Note("Birthday tomorrow.", berniceNote1Tags);
         bernice.addClientNote(berniceNote1);
 
         Set<Tag> alexNote1Tags = new HashSet<>();
         alexNote1Tags.add(new Tag("holidayPlans"));
         alexNote1Tags.add(new Tag("romantic"));
-        Note alexNote1 = new Note("Wants to take his wife to Norway for New Years' Day");
-        alexNote1.setTags(alexNote1Tags);
+        Note alexNote1 = new Note("Wants to take his wife to Norway for New Years' Day", alexNote1Tags);
 
         Set<Tag> alexNote2Tags = new HashSet<>();
         alexNote2Tags.add(new Tag("altruist"));
         alexNote2Tags.add(new Tag("socialEnterprise"));
-        Note alexNote2 = new Note("Likes doing volunteer work");
-        alexNote2.setTags(alexNote2Tags);
+        Note alexNote2 = new Note("Likes doing volunteer work", alexNote2Tags);
 
         Set<Tag> alexNote3Tags = new HashSet<>();
         alexNote3Tags.add(new Tag("meetings"));
         alexNote3Tags.add(new Tag("workPreferences"));
-        Note alexNote3 = new Note("Prefers to meet up at his office, not that much of a public spaces guy");
-        alexNote3.setTags(alexNote3Tags);
+        Note alexNote3 = new Note("Prefers to meet up at his office, not that much of a public spaces guy",
+                alexNote3Tags);
 
         Set<Tag> alexNote4Tags = new HashSet<>();
         alexNote4Tags.add(new Tag("hobbies"));
         Note alexNote4 = new Note("Need to meet him to see his vintage Honda with a side-car."
-                + "He really loves old cars");
-        alexNote4.setTags(alexNote4Tags);
+                + "He really loves old cars", alexNote4Tags);
 
         Set<Tag> alexNote5Tags = new HashSet<>();
         alexNote5Tags.add(new Tag("reminder"));
-        Note alexNote5 = new Note("Birthday tomorrow");
-        alexNote5.setTags(alexNote5Tags);
+        Note alexNote5 = new Note("Birthday tomorrow", alexNote5Tags);
 
         alex.addClientNote(alexNote1);
         alex.addClientNote(alexNote2);
@@ -104,23 +98,20 @@ public class SampleDataUtil {
      * Returns a standard list of sample country note data.
      */
     public static List<CountryNote> getSampleCountryNotes() {
-        CountryNote firstCountryNote = new CountryNote("Small domestic market as compared "
-                + "to rest of SEA countries", new Country("SG"));
         Set<Tag> firstCountryNoteTags = new HashSet<>();
         firstCountryNoteTags.add(new Tag("marketsize"));
-        firstCountryNote.setTags(firstCountryNoteTags);
+        CountryNote firstCountryNote = new CountryNote("Small domestic market as compared "
+                + "to rest of SEA countries", new Country("SG"), firstCountryNoteTags);
 
-        CountryNote secondCountryNote = new CountryNote("Political unrest in the capital",
-                new Country("TH"));
         Set<Tag> secondCountryNoteTags = new HashSet<>();
         secondCountryNoteTags.add(new Tag("politics"));
-        secondCountryNote.setTags(secondCountryNoteTags);
+        CountryNote secondCountryNote = new CountryNote("Political unrest in the capital",
+                new Country("TH"), secondCountryNoteTags);
 
-        CountryNote thirdCountryNote = new CountryNote("A high-context country, hence building "
-                + "relationships is important for doing business", new Country("JP"));
         Set<Tag> thirdCountryNoteTags = new HashSet<>();
         thirdCountryNoteTags.add(new Tag("intercultural"));
-        thirdCountryNote.setTags(thirdCountryNoteTags);
+        CountryNote thirdCountryNote = new CountryNote("A high-context country, hence building "
+                + "relationships is important for doing business", new Country("JP"), thirdCountryNoteTags);
 
         return Arrays.asList(firstCountryNote, secondCountryNote, thirdCountryNote);
     }
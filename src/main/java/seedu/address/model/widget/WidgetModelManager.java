@@ -26,13 +26,13 @@ public class WidgetModelManager implements WidgetModel {
 
     @Override
     public void setWidgetClient(Client client) {
-        logger.info("Setting client of widget to: " + client.getName().fullName);
+        logger.fine(() -> "Setting client of widget to: " + client.getName().fullName);
         this.client = client;
     }
 
     @Override
     public Client getWidgetClient() {
-        logger.info("Retrieving client of widget: " + client.getName().fullName);
+        logger.fine(() -> "Retrieving client of widget: " + client.getName().fullName);
         return client;
     }
 
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyTbmManager;
+
+/**
+ * Saves snapshots of TbmManager data to a {@code TbmManagerStorage} on a single background thread.
+ * Snapshots that are handed over while an earlier one is still being written are coalesced, so that only the
+ * newest of them is written.
+ */
+public class AsyncTbmManagerSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncTbmManagerSaver.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final TbmManagerStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tbm-manager-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = ioe -> { };
+    private volatile long lastRequestedVersion;
+    private volatile long lastSavedVersion;
+
+    /**
+     * Creates an {@code AsyncTbmManagerSaver} that writes to {@code storage}, which is assumed to already hold the
+     * data at {@code initialVersion}.
+     */
+    public AsyncTbmManagerSaver(TbmManagerStorage storage, long initialVersion) {
+        requireNonNull(storage);
+        this.storage = storage;
+        lastRequestedVersion = initialVersion;
+        lastSavedVersion = initialVersion;
+    }
+
+    /**
+     * Sets the handler that is called on the background thread whenever a snapshot could not be written.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot}, which holds the data at {@code version}, to be written.
+     * {@code snapshot} must not be changed afterwards.
+     */
+    public void save(ReadOnlyTbmManager snapshot, long version) {
+        requireNonNull(snapshot);
+        lastRequestedVersion = version;
+        if (pendingSave.getAndSet(new PendingSave(snapshot, version)) == null) {
+            writer.execute(this::writePendingSave);
+        }
+    }
+
+    /**
+     * Returns the version of the data that was last handed over to be saved, or the last saved version if writing
+     * it failed.
+     */
+    public long getLastRequestedVersion() {
+        return lastRequestedVersion;
+    }
+
+    /**
+     * Returns the version of the data that was last written successfully.
+     */
+    public long getLastSavedVersion() {
+        return lastSavedVersion;
+    }
+
+    /**
+     * Blocks until every snapshot handed over so far has been written.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes any pending snapshot and stops the background thread.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.severe("Timed out while waiting for TbmManager data to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePendingSave() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        try {
+            storage.saveTbmManager(save.snapshot);
+            lastSavedVersion = save.version;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save TbmManager data: " + ioe);
+            // Makes the next command hand over the unsaved data again.
+            lastRequestedVersion = lastSavedVersion;
+            failureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * A snapshot waiting to be written, along with the version of the data it holds.
+     */
+    private static class PendingSave {
+        private final ReadOnlyTbmManager snapshot;
+        private final long version;
+
+        PendingSave(ReadOnlyTbmManager snapshot, long version) {
+            this.snapshot = snapshot;
+            this.version = version;
+        }
+    }
+}
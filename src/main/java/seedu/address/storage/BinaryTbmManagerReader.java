@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TbmManager;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+
+/**
+ * Reads a binary snapshot in the layout written by {@link BinaryTbmManagerWriter}.
+ * Each record is decoded into its Jackson-friendly adapter and converted into its model type, so that the same
+ * data constraints are checked as when reading a JSON data file.
+ */
+class BinaryTbmManagerReader {
+
+    private BinaryTbmManagerReader() {} // prevents instantiation
+
+    /**
+     * Reads the binary snapshot that {@code in} is positioned at, which is at most {@code length} bytes long.
+     *
+     * @throws IOException if the snapshot is truncated, corrupted or of an unsupported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TbmManager read(DataInputStream in, long length) throws IOException, IllegalValueException {
+        byte[] magic = new byte[BinaryTbmManagerStorage.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(BinaryTbmManagerStorage.MAGIC, magic)) {
+            throw new IOException("Not a binary TbmManager snapshot");
+        }
+        short version = in.readShort();
+        boolean hasClientIds = version == BinaryTbmManagerStorage.VERSION;
+        if (!hasClientIds && version != BinaryTbmManagerStorage.VERSION_WITHOUT_CLIENT_IDS) {
+            throw new IOException("Unsupported binary TbmManager snapshot version: " + version);
+        }
+
+        String[] dictionary = new String[readCount(in, length)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(in, length);
+        }
+
+        TbmManager tbmManager = new TbmManager();
+        int clientCount = readCount(in, length);
+        List<JsonAdaptedClient> batch = new ArrayList<>(Math.min(clientCount, ParallelClientConverter.BATCH_SIZE));
+        try {
+            for (int i = 0; i < clientCount; i++) {
+                batch.add(readClient(in, length, dictionary, hasClientIds));
+                if (batch.size() == ParallelClientConverter.BATCH_SIZE) {
+                    ParallelClientConverter.addClients(batch, tbmManager);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            // Reports the first bad client read before the snapshot turned out to be corrupted
+            ParallelClientConverter.addClients(batch, tbmManager);
+            throw e;
+        }
+        ParallelClientConverter.addClients(batch, tbmManager);
+
+        int countryNoteCount = readCount(in, length);
+        for (int i = 0; i < countryNoteCount; i++) {
+            String contents = readString(in, length);
+            String countryCode = readReference(in, dictionary);
+            Note modelNote = new JsonAdaptedNote(contents, countryCode, readTags(in, length, dictionary))
+                    .toModelType();
+            if (modelNote.isClientNote()) {
+                throw new IllegalValueException("Country note without a country found");
+            }
+            tbmManager.addCountryNote((CountryNote) modelNote);
+        }
+
+        if (in.read() != -1) {
+            throw new IOException("Unexpected data after the end of the binary TbmManager snapshot");
+        }
+        return tbmManager;
+    }
+
+    private static JsonAdaptedClient readClient(DataInputStream in, long length, String[] dictionary,
+            boolean hasClientId) throws IOException {
+        String clientId = hasClientId ? new UUID(in.readLong(), in.readLong()).toString() : null;
+        String name = readString(in, length);
+        String phone = readString(in, length);
+        String email = readString(in, length);
+        String address = readString(in, length);
+        String country = readReference(in, dictionary);
+        String timezone = readReference(in, dictionary);
+        int contractExpiryEpochDay = in.readInt();
+        String contractExpiryDate = contractExpiryEpochDay == BinaryTbmManagerWriter.NO_CONTRACT_EXPIRY_DATE
+                ? ""
+                : LocalDate.ofEpochDay(contractExpiryEpochDay)
+                        .format(BinaryTbmManagerWriter.CONTRACT_EXPIRY_DATE_FORMATTER);
+        String lastModifiedInstant = Instant.ofEpochMilli(in.readLong()).toString();
+
+        int noteCount = readCount(in, length);
+        List<JsonAdaptedNote> clientNotes = new ArrayList<>(noteCount);
+        for (int i = 0; i < noteCount; i++) {
+            String contents = readString(in, length);
+            clientNotes.add(new JsonAdaptedNote(contents, JsonAdaptedNote.NULL_COUNTRY_CODE,
+                    readTags(in, length, dictionary)));
+        }
+        return new JsonAdaptedClient(clientId, name, phone, email, address, country, timezone, contractExpiryDate,
+                lastModifiedInstant, clientNotes);
+    }
+
+    private static Set<JsonAdaptedTag> readTags(DataInputStream in, long length, String[] dictionary)
+            throws IOException {
+        int tagCount = readCount(in, length);
+        Set<JsonAdaptedTag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readReference(in, dictionary)));
+        }
+        return tags;
+    }
+
+    /**
+     * Reads a count of items, which cannot exceed {@code length} as each item takes up at least one byte.
+     */
+    private static int readCount(DataInputStream in, long length) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > length) {
+            throw new IOException("Invalid count in binary TbmManager snapshot: " + count);
+        }
+        return count;
+    }
+
+    private static String readReference(DataInputStream in, String[] dictionary) throws IOException {
+        int index = in.readInt();
+        if (index < 0 || index >= dictionary.length) {
+            throw new IOException("Invalid dictionary reference in binary TbmManager snapshot: " + index);
+        }
+        return dictionary[index];
+    }
+
+    private static String readString(DataInputStream in, long length) throws IOException {
+        byte[] bytes = new byte[readCount(in, length)];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTbmManager;
+
+/**
+ * A class to access TbmManager data stored as a binary snapshot on the hard disk.
+ * The snapshot starts with {@link #MAGIC} followed by the format version, so that it can be told apart from a JSON
+ * data file with {@link #isBinaryFile(Path)}.
+ */
+public class BinaryTbmManagerStorage implements TbmManagerStorage {
+
+    /** The bytes that every binary snapshot starts with. The first byte can never start a JSON file. */
+    static final byte[] MAGIC = {(byte) 0x89, 'T', 'B', 'M'};
+    /** The version of the snapshot layout written by this class. */
+    static final short VERSION = 2;
+    /** The version of the snapshot layout before client IDs were stored, which can still be read. */
+    static final short VERSION_WITHOUT_CLIENT_IDS = 1;
+    static final String TEMP_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTbmManagerStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Constructs a {@code BinaryTbmManagerStorage} with an associated {@code Path} for storage.
+     * @param filePath {@code Path} where the {@code TbmManager} is stored as a binary snapshot.
+     */
+    public BinaryTbmManagerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the binary snapshot header.
+     *
+     * @throws IOException if the file exists but could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    @Override
+    public Path getTbmManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTbmManager> readTbmManager() throws DataConversionException {
+        return readTbmManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTbmManager()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyTbmManager> readTbmManager(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(FileUtil.openForReading(filePath)))) {
+            return Optional.of(BinaryTbmManagerReader.read(in, Files.size(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTbmManager(ReadOnlyTbmManager tbmManager) throws IOException {
+        saveTbmManager(tbmManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTbmManager(ReadOnlyTbmManager)}.
+     * The snapshot is written next to {@code filePath} and then renamed over it, so that an interrupted save leaves
+     * the old snapshot in place.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTbmManager(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
+        requireAllNonNull(tbmManager, filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = getTempPath(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            BinaryTbmManagerWriter.write(out, tbmManager);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Path getTempPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+    }
+
+}
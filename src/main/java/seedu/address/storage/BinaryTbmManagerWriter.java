@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ContractExpiryDate;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a TbmManager as a binary snapshot, which is laid out as follows, with every number written big-endian:
+ * <pre>
+ * snapshot     := MAGIC version:u16 dictionary clients countryNotes
+ * dictionary   := count:i32 string*           (country codes, timezones and tag names)
+ * clients      := count:i32 client*
+ * client       := name phone email address country:ref timezone:ref
+ *                 contractExpiryDate:i32 lastModifiedInstant:i64 count:i32 clientNote*
+ * clientNote   := contents tags
+ * countryNotes := count:i32 (contents country:ref tags)*
+ * tags         := count:i32 ref*
+ * string       := length:i32 UTF-8 bytes
+ * ref          := i32 index into the dictionary
+ * </pre>
+ * The contract expiry date is written as an epoch day, or {@link #NO_CONTRACT_EXPIRY_DATE} if it is not set, and
+ * the last modified instant is written in epoch milliseconds.
+ */
+class BinaryTbmManagerWriter {
+
+    static final int NO_CONTRACT_EXPIRY_DATE = Integer.MIN_VALUE;
+    static final DateTimeFormatter CONTRACT_EXPIRY_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(ContractExpiryDate.DEFAULT_DATE_FORMAT);
+
+    private BinaryTbmManagerWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code tbmManager} to {@code out} as a binary snapshot.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    static void write(DataOutputStream out, ReadOnlyTbmManager tbmManager) throws IOException {
+        out.write(BinaryTbmManagerStorage.MAGIC);
+        out.writeShort(BinaryTbmManagerStorage.VERSION);
+
+        Map<String, Integer> dictionary = buildDictionary(tbmManager);
+        out.writeInt(dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(out, entry);
+        }
+
+        out.writeInt(tbmManager.getClientList().size());
+        for (Client client : tbmManager.getClientList()) {
+            writeClient(out, client, dictionary);
+        }
+
+        out.writeInt(tbmManager.getCountryNoteList().size());
+        for (CountryNote countryNote : tbmManager.getCountryNoteList()) {
+            writeString(out, countryNote.getNoteContent());
+            out.writeInt(dictionary.get(countryNote.getCountry().getCountryCode()));
+            writeTags(out, countryNote.getTags(), dictionary);
+        }
+    }
+
+    /**
+     * Returns the index of every country code, timezone and tag name in {@code tbmManager}, in order of first use.
+     */
+    private static Map<String, Integer> buildDictionary(ReadOnlyTbmManager tbmManager) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Client client : tbmManager.getClientList()) {
+            addToDictionary(dictionary, client.getCountry().getCountryCode());
+            addToDictionary(dictionary, client.getTimezone().toString());
+            for (Note note : client.getClientNotesAsUnmodifiableList()) {
+                note.getTags().forEach(tag -> addToDictionary(dictionary, tag.tagName));
+            }
+        }
+        for (CountryNote countryNote : tbmManager.getCountryNoteList()) {
+            addToDictionary(dictionary, countryNote.getCountry().getCountryCode());
+            countryNote.getTags().forEach(tag -> addToDictionary(dictionary, tag.tagName));
+        }
+        return dictionary;
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, String entry) {
+        if (!dictionary.containsKey(entry)) {
+            dictionary.put(entry, dictionary.size());
+        }
+    }
+
+    private static void writeClient(DataOutputStream out, Client client, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeLong(client.getClientId().value.getMostSignificantBits());
+        out.writeLong(client.getClientId().value.getLeastSignificantBits());
+        writeString(out, client.getName().fullName);
+        writeString(out, client.getPhone().value);
+        writeString(out, client.getEmail().value);
+        writeString(out, client.getAddress().value);
+        out.writeInt(dictionary.get(client.getCountry().getCountryCode()));
+        out.writeInt(dictionary.get(client.getTimezone().toString()));
+        ContractExpiryDate contractExpiryDate = client.getContractExpiryDate();
+        out.writeInt(contractExpiryDate.isNullDate
+                ? NO_CONTRACT_EXPIRY_DATE
+                : Math.toIntExact(LocalDate.parse(contractExpiryDate.value, CONTRACT_EXPIRY_DATE_FORMATTER)
+                        .toEpochDay()));
+        out.writeLong(client.getLastModifiedInstant().value.toEpochMilli());
+
+        out.writeInt(client.getClientNotesAsUnmodifiableList().size());
+        for (Note note : client.getClientNotesAsUnmodifiableList()) {
+            writeString(out, note.getNoteContent());
+            writeTags(out, note.getTags(), dictionary);
+        }
+    }
+
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(dictionary.get(tag.tagName));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,470 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+
+/**
+ * A class to access TbmManager data stored as a JSON snapshot plus an append-only journal of mutations.
+ * <p>
+ * Every save compares the given TbmManager against the state last written to disk and appends one compact record
+ * per client, client note or country note that was added, edited or deleted. Once the journal grows past the
+ * compaction threshold, it is folded into a fresh snapshot by a background thread. The snapshot is a regular JSON
+ * data file, so it can still be read by {@link JsonTbmManagerStorage}.
+ * <p>
+ * A snapshot is only ever replaced by renaming a fully written temporary file over it, and the journal covering the
+ * old snapshot is kept until then, so an interrupted save or compaction is recovered on the next read.
+ */
+public class JournalTbmManagerStorage implements TbmManagerStorage {
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    static final String SNAPSHOT_TEMP_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTbmManagerStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pendingCompaction = CompletableFuture.completedFuture(null);
+
+    // The state last written to disk at persistedPath, which the next save is compared against. The clients are
+    // kept as their snapshots, which stay the same objects for as long as the clients are unchanged.
+    private Path persistedPath;
+    private List<Client> persistedClients;
+    private List<CountryNote> persistedCountryNotes;
+    private long journalSize;
+
+    /**
+     * Creates a {@code JournalTbmManagerStorage} that stores its snapshot at {@code filePath} and compacts its
+     * journal once it exceeds {@code compactionThreshold} bytes.
+     */
+    public JournalTbmManagerStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getTbmManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTbmManager> readTbmManager() throws DataConversionException, IOException {
+        return readTbmManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTbmManager()}, but replays the snapshot and journal stored for {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the expected format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTbmManager> readTbmManager(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        awaitCompaction();
+        recoverInterruptedCompaction(filePath);
+
+        Path journal = getJournalPath(filePath);
+        Path compactingJournal = getCompactingJournalPath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journal) && !Files.exists(compactingJournal)) {
+            logger.info("Journal data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Optional<JsonSerializableTbmManager> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableTbmManager.class);
+        List<JsonAdaptedClient> clients = new ArrayList<>();
+        List<JsonAdaptedNote> countryNotes = new ArrayList<>();
+        if (snapshot.isPresent()) {
+            clients.addAll(snapshot.get().getClients());
+            countryNotes.addAll(snapshot.get().getCountryNotes());
+        }
+        replayJournal(compactingJournal, clients, countryNotes);
+        replayJournal(journal, clients, countryNotes);
+
+        TbmManager tbmManager;
+        try {
+            tbmManager = new JsonSerializableTbmManager(clients, countryNotes).toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        rememberPersistedState(filePath, tbmManager);
+        return Optional.of(tbmManager);
+    }
+
+    @Override
+    public void saveTbmManager(ReadOnlyTbmManager tbmManager) throws IOException {
+        saveTbmManager(tbmManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTbmManager(ReadOnlyTbmManager)}, but only appends the changes made since the last save
+     * if {@code filePath} was last read or written by this storage. Otherwise, a full snapshot is written.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTbmManager(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
+        requireNonNull(tbmManager);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(persistedPath)) {
+            writeSnapshot(tbmManager, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        diffClients(tbmManager.getClientList(), records);
+        diffCountryNotes(tbmManager.getCountryNoteList(), records);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(getJournalPath(filePath), records);
+        } catch (IOException ioe) {
+            // The persisted state no longer matches the disk, so the next save starts over with a full snapshot.
+            persistedPath = null;
+            throw ioe;
+        }
+
+        if (journalSize >= compactionThreshold && pendingCompaction.isDone()) {
+            startCompaction(tbmManager, filePath);
+        }
+    }
+
+    /**
+     * Blocks until the background compaction in progress, if any, has finished.
+     */
+    synchronized void awaitCompaction() {
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    static Path getSnapshotTempPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_TEMP_SUFFIX);
+    }
+
+    /**
+     * Returns true if there is a journal of changes to the snapshot at {@code filePath}, which has to be replayed
+     * onto the snapshot when it is read.
+     */
+    static boolean hasJournal(Path filePath) {
+        return Files.exists(getJournalPath(filePath)) || Files.exists(getCompactingJournalPath(filePath));
+    }
+
+    /**
+     * Deletes the journals of the snapshot at {@code filePath}, and the snapshot left behind by an interrupted
+     * compaction, once the data has been saved over the snapshot in another format.
+     */
+    static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getSnapshotTempPath(filePath));
+    }
+
+    //// reading
+
+    /**
+     * Cleans up after a compaction that was interrupted, e.g. by the application being killed.
+     * If the journal being compacted still exists, the new snapshot may be incomplete and is discarded.
+     * Otherwise, the new snapshot was fully written and only needs to replace the old one.
+     */
+    private void recoverInterruptedCompaction(Path filePath) throws IOException {
+        Path snapshotTemp = getSnapshotTempPath(filePath);
+        if (Files.exists(getCompactingJournalPath(filePath))) {
+            Files.deleteIfExists(snapshotTemp);
+        } else if (Files.exists(snapshotTemp)) {
+            logger.info("Completing interrupted compaction of " + filePath);
+            Files.move(snapshotTemp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Applies every record in {@code journal} to the given adapted lists.
+     * A trailing record without a line terminator was cut short while being appended, so it is dropped.
+     */
+    private void replayJournal(Path journal, List<JsonAdaptedClient> clients, List<JsonAdaptedNote> countryNotes)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        String content = new String(Files.readAllBytes(journal), UTF_8);
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = content.indexOf('\n', lineStart)) != -1) {
+            String line = content.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(clients, countryNotes);
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Invalid record found in " + journal + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+
+        if (lineStart < content.length()) {
+            logger.warning("Dropping incomplete last record of " + journal);
+            long validLength = content.substring(0, lineStart).getBytes(UTF_8).length;
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+    }
+
+    //// writing
+
+    /**
+     * Appends {@code records} to {@code journal}, one record per line, in a single write.
+     */
+    private void appendToJournal(Path journal, List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(UTF_8);
+        Files.write(journal, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Writes the whole of {@code tbmManager} as the snapshot at {@code filePath}, discarding its journal.
+     */
+    private void writeSnapshot(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
+        awaitCompaction();
+        FileUtil.createParentDirsOfFile(filePath);
+        rotateJournal(filePath);
+        installSnapshot(new JsonSerializableTbmManager(tbmManager), filePath);
+        rememberPersistedState(filePath, tbmManager);
+    }
+
+    /**
+     * Moves the journal aside so that it can be compacted into a new snapshot while new records are appended to a
+     * fresh journal. The moved journal also marks the new snapshot as incomplete until it is in place.
+     */
+    private void rotateJournal(Path filePath) throws IOException {
+        Path journal = getJournalPath(filePath);
+        Path compactingJournal = getCompactingJournalPath(filePath);
+        if (!Files.exists(compactingJournal)) {
+            if (Files.exists(journal)) {
+                Files.move(journal, compactingJournal, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.createFile(compactingJournal);
+            }
+        } else if (Files.exists(journal)) {
+            // An earlier compaction failed, so both journals have to be folded into the next snapshot.
+            Files.write(compactingJournal, Files.readAllBytes(journal), StandardOpenOption.APPEND);
+            Files.delete(journal);
+        }
+        journalSize = 0;
+    }
+
+    /**
+     * Writes {@code snapshot} next to {@code filePath} and then renames it over the old snapshot.
+     */
+    private static void installSnapshot(JsonSerializableTbmManager snapshot, Path filePath) throws IOException {
+        Path snapshotTemp = getSnapshotTempPath(filePath);
+        JsonUtil.saveJsonFile(snapshot, snapshotTemp);
+        Files.delete(getCompactingJournalPath(filePath));
+        Files.move(snapshotTemp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Compacts the journal of {@code filePath} into a snapshot of {@code tbmManager} on the background thread.
+     * {@code tbmManager} must be the state that the journal has just been brought up to date with.
+     */
+    private void startCompaction(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
+        rotateJournal(filePath);
+        JsonSerializableTbmManager snapshot = new JsonSerializableTbmManager(tbmManager);
+        pendingCompaction = compactionExecutor.submit(() -> {
+            try {
+                installSnapshot(snapshot, filePath);
+                logger.fine("Compacted journal of " + filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    //// diffing against the persisted state
+
+    private void rememberPersistedState(Path filePath, ReadOnlyTbmManager tbmManager) throws IOException {
+        persistedPath = filePath;
+        persistedClients = tbmManager.getClientList().stream().map(Client::getSnapshot)
+                .collect(Collectors.toCollection(ArrayList::new));
+        persistedCountryNotes = new ArrayList<>(tbmManager.getCountryNoteList());
+        journalSize = sizeOf(getJournalPath(filePath)) + sizeOf(getCompactingJournalPath(filePath));
+    }
+
+    private static long sizeOf(Path file) throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+
+    /**
+     * Appends to {@code records} the changes that turn the persisted clients into {@code clients}, and updates the
+     * persisted clients to match. Clients that are unchanged at the start and end of the list, which still have the
+     * persisted snapshot, are skipped.
+     */
+    private void diffClients(List<Client> clients, List<JsonAdaptedJournalRecord> records) {
+        int start = 0;
+        int oldEnd = persistedClients.size();
+        int newEnd = clients.size();
+        while (start < oldEnd && start < newEnd && persistedClients.get(start) == clients.get(start).getSnapshot()) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start
+                && persistedClients.get(oldEnd - 1) == clients.get(newEnd - 1).getSnapshot()) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        if (oldEnd - start == newEnd - start) {
+            for (int i = start; i < newEnd; i++) {
+                diffClient(i, persistedClients.get(i), clients.get(i), records);
+            }
+        } else {
+            if (oldEnd > start) {
+                records.add(JsonAdaptedJournalRecord.removeClients(start, oldEnd - start));
+            }
+            for (int i = start; i < newEnd; i++) {
+                records.add(JsonAdaptedJournalRecord.addClient(i, new JsonAdaptedClient(clients.get(i))));
+            }
+        }
+
+        List<Client> changed = persistedClients.subList(start, oldEnd);
+        changed.clear();
+        changed.addAll(clients.subList(start, newEnd).stream().map(Client::getSnapshot)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Appends to {@code records} the changes that turn {@code persisted} into {@code client} at {@code index}.
+     * If only the client notes changed, only those notes are recorded.
+     */
+    private static void diffClient(int index, Client persisted, Client client,
+            List<JsonAdaptedJournalRecord> records) {
+        if (!persisted.equals(client)) {
+            records.add(JsonAdaptedJournalRecord.setClient(index, new JsonAdaptedClient(client)));
+            return;
+        }
+
+        String lastModifiedInstant = client.getLastModifiedInstant().toString();
+        int recordCount = records.size();
+        BiFunction<Integer, Integer, JsonAdaptedJournalRecord> toRemoval = (noteIndex, count) ->
+                JsonAdaptedJournalRecord.removeClientNotes(index, noteIndex, count, lastModifiedInstant);
+        BiFunction<Integer, Note, JsonAdaptedJournalRecord> toInsertion = (noteIndex, note) ->
+                JsonAdaptedJournalRecord.addClientNote(index, noteIndex, new JsonAdaptedNote(note),
+                        lastModifiedInstant);
+        BiFunction<Integer, Note, JsonAdaptedJournalRecord> toReplacement = (noteIndex, note) ->
+                JsonAdaptedJournalRecord.setClientNote(index, noteIndex, new JsonAdaptedNote(note),
+                        lastModifiedInstant);
+        diffNotes(persisted.getClientNotesAsUnmodifiableList(), client.getClientNotesAsUnmodifiableList(), toRemoval,
+                toInsertion, toReplacement, records);
+        if (records.size() == recordCount) {
+            // Only the last modified instant changed.
+            records.add(JsonAdaptedJournalRecord.setClient(index, new JsonAdaptedClient(client)));
+        }
+    }
+
+    /**
+     * Appends to {@code records} the changes that turn the persisted country notes into {@code countryNotes}, and
+     * updates the persisted country notes to match.
+     */
+    private void diffCountryNotes(List<CountryNote> countryNotes, List<JsonAdaptedJournalRecord> records) {
+        BiFunction<Integer, CountryNote, JsonAdaptedJournalRecord> toInsertion = (index, note) ->
+                JsonAdaptedJournalRecord.addCountryNote(index, new JsonAdaptedNote(note));
+        BiFunction<Integer, CountryNote, JsonAdaptedJournalRecord> toReplacement = (index, note) ->
+                JsonAdaptedJournalRecord.setCountryNote(index, new JsonAdaptedNote(note));
+        diffNotes(persistedCountryNotes, countryNotes, JsonAdaptedJournalRecord::removeCountryNotes, toInsertion,
+                toReplacement, records);
+        persistedCountryNotes = new ArrayList<>(countryNotes);
+    }
+
+    /**
+     * Appends to {@code records} the changes that turn {@code oldNotes} into {@code newNotes}, using the given
+     * functions to create records that remove a range of notes, insert a note and replace a note respectively.
+     */
+    private static <T extends Note> void diffNotes(List<T> oldNotes, List<T> newNotes,
+            BiFunction<Integer, Integer, JsonAdaptedJournalRecord> toRemoval,
+            BiFunction<Integer, T, JsonAdaptedJournalRecord> toInsertion,
+            BiFunction<Integer, T, JsonAdaptedJournalRecord> toReplacement,
+            List<JsonAdaptedJournalRecord> records) {
+        int start = 0;
+        int oldEnd = oldNotes.size();
+        int newEnd = newNotes.size();
+        while (start < oldEnd && start < newEnd && oldNotes.get(start).equals(newNotes.get(start))) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldNotes.get(oldEnd - 1).equals(newNotes.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        if (oldEnd - start == newEnd - start) {
+            for (int i = start; i < newEnd; i++) {
+                records.add(toReplacement.apply(i, newNotes.get(i)));
+            }
+            return;
+        }
+        if (oldEnd > start) {
+            records.add(toRemoval.apply(start, oldEnd - start));
+        }
+        for (int i = start; i < newEnd; i++) {
+            records.add(toInsertion.apply(i, newNotes.get(i)));
+        }
+    }
+
+}
@@ -1,16 +1,21 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientNotesLoader;
 import seedu.address.model.client.ContractExpiryDate;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.LastModifiedInstant;
@@ -20,6 +25,7 @@ import seedu.address.model.client.Timezone;
 import seedu.address.model.country.Country;
 import seedu.address.model.country.CountryCodeVerifier;
 import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Client}.
@@ -28,6 +34,7 @@ class JsonAdaptedClient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Client's %s field is missing!";
 
+    private final String clientId;
     private final String name;
     private final String phone;
     private final String email;
@@ -38,17 +45,29 @@ class JsonAdaptedClient {
     private final String lastModifiedInstant;
     private final List<JsonAdaptedNote> clientNotes = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedClient} with the given client details and no client ID, which is given a new
+     * client ID when it is converted.
+     */
+    public JsonAdaptedClient(String name, String phone, String email, String address, String country,
+            String timezone, String contractExpiryDate, String lastModifiedInstant,
+            List<JsonAdaptedNote> clientNotes) {
+        this(null, name, phone, email, address, country, timezone, contractExpiryDate, lastModifiedInstant,
+                clientNotes);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedClient} with the given client details.
      */
     @JsonCreator
-    public JsonAdaptedClient(@JsonProperty("name") String name,
+    public JsonAdaptedClient(@JsonProperty("clientId") String clientId, @JsonProperty("name") String name,
             @JsonProperty("phone") String phone, @JsonProperty("email") String email,
             @JsonProperty("address") String address, @JsonProperty("country") String country,
             @JsonProperty("timezone") String timezone,
             @JsonProperty("contractExpiryDate") String contractExpiryDate,
             @JsonProperty("lastModifiedInstant") String lastModifiedInstant,
             @JsonProperty("clientNotes") List<JsonAdaptedNote> clientNotes) {
+        this.clientId = clientId;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -66,6 +85,7 @@ class JsonAdaptedClient {
      * Converts a given {@code Client} into this class for Jackson use.
      */
     public JsonAdaptedClient(Client source) {
+        clientId = source.getClientId().toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -78,6 +98,21 @@ class JsonAdaptedClient {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns an unmodifiable view of the adapted client notes of this client.
+     */
+    List<JsonAdaptedNote> getClientNotes() {
+        return Collections.unmodifiableList(clientNotes);
+    }
+
+    /**
+     * Returns a copy of this adapted client with its client notes and last modified instant replaced.
+     */
+    JsonAdaptedClient withClientNotes(List<JsonAdaptedNote> clientNotes, String lastModifiedInstant) {
+        return new JsonAdaptedClient(clientId, name, phone, email, address, country, timezone, contractExpiryDate,
+                lastModifiedInstant, clientNotes);
+    }
+
     /**
      * Converts this Jackson-friendly adapted client object into the model's {@code Client} object.
      *
@@ -88,42 +123,69 @@ class JsonAdaptedClient {
         for (JsonAdaptedNote note : this.clientNotes) {
             clientNotes.add(note.toModelType());
         }
+        Client modelClient = toModelClient(null, null);
+        for (Note note : clientNotes) {
+            modelClient.addClientNote(note);
+        }
+        return modelClient;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted client object into the model's {@code Client} object, whose client notes
+     * are only loaded by {@code clientNotesLoader} when they are first needed.
+     * The client notes of this adapted client are ignored.
+     *
+     * @param clientNoteTags the tags of the client notes, as indexed where the client notes are stored.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted client.
+     */
+    Client toLazyModelType(ClientNotesLoader clientNotesLoader, Set<Tag> clientNoteTags)
+            throws IllegalValueException {
+        requireAllNonNull(clientNotesLoader, clientNoteTags);
+        return toModelClient(clientNotesLoader, clientNoteTags);
+    }
+
+    private Client toModelClient(ClientNotesLoader clientNotesLoader, Set<Tag> clientNoteTags)
+            throws IllegalValueException {
         //================  checks that all required fields are non-null and valid: =============================
+        /*
+         * Clients stored before client IDs were introduced have no client ID, and are given a new one.
+         */
+        final ClientId modelClientId;
+        if (clientId == null) {
+            modelClientId = ClientId.generate();
+        } else if (!ClientId.isValidClientId(clientId)) {
+            throw new IllegalValueException(ClientId.MESSAGE_CONSTRAINTS);
+        } else {
+            modelClientId = new ClientId(clientId);
+        }
+
         if (name == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.parse(name)
+                .orElseThrow(() -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
 
         if (phone == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.parse(phone)
+                .orElseThrow(() -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
 
         if (email == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.parse(email)
+                .orElseThrow(() -> new IllegalValueException(Email.MESSAGE_CONSTRAINTS));
 
         if (address == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.parse(address)
+                .orElseThrow(() -> new IllegalValueException(Address.MESSAGE_CONSTRAINTS));
 
         if (country == null) {
             throw new IllegalValueException(
@@ -132,16 +194,14 @@ class JsonAdaptedClient {
         if (!CountryCodeVerifier.isValidCountryCode(country)) {
             throw new IllegalValueException(CountryCodeVerifier.MESSAGE_CONSTRAINTS);
         }
-        final Country modelCountry = new Country(country);
+        final Country modelCountry = Country.of(country);
 
         if (timezone == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Timezone.class.getSimpleName()));
         }
-        if (!Timezone.isValidTimezone(timezone)) {
-            throw new IllegalValueException(Timezone.MESSAGE_CONSTRAINTS);
-        }
-        final Timezone modelTimezone = new Timezone(timezone);
+        final Timezone modelTimezone = Timezone.parse(timezone)
+                .orElseThrow(() -> new IllegalValueException(Timezone.MESSAGE_CONSTRAINTS));
 
         if (contractExpiryDate == null) {
             throw new IllegalValueException(
@@ -149,14 +209,12 @@ class JsonAdaptedClient {
         }
         /*
          * It's possible for {@code contractExpiryDate} to have an empty String as a value, which would indicate
-         * the client has no contractExpiryDate set, and {@code ParserUtil.parseContractExpiryDate} will
-         * parse it into a {@code ContractExpiryDate.NULL_DATE}
+         * the client has no contractExpiryDate set, and is read as a {@code ContractExpiryDate.NULL_DATE}
          */
-        if (!contractExpiryDate.isEmpty() && !ContractExpiryDate.isValidDate(contractExpiryDate)) {
-            throw new IllegalValueException(ContractExpiryDate.MESSAGE_CONSTRAINTS);
-        }
-        final ContractExpiryDate modelContractExpiryContractExpiryDate =
-                ParserUtil.parseContractExpiryDate(contractExpiryDate);
+        final ContractExpiryDate modelContractExpiryContractExpiryDate = contractExpiryDate.isEmpty()
+                ? ContractExpiryDate.NULL_DATE
+                : ContractExpiryDate.parse(contractExpiryDate)
+                        .orElseThrow(() -> new IllegalValueException(ContractExpiryDate.MESSAGE_CONSTRAINTS));
         /*
          * Does not throw an exception if lastModifiedInstant is missing/invalid due to corruption of data.
          * This field is merely metadata for us and is not significant enough to discard client's data due
@@ -170,12 +228,13 @@ class JsonAdaptedClient {
         }
         // =============================================================================================
 
-        Client modelClient = new Client(modelName, modelPhone, modelEmail, modelAddress, modelCountry, modelTimezone,
-                    modelContractExpiryContractExpiryDate, modelLastModifiedInstant);
-        for (Note note : clientNotes) {
-            modelClient.addClientNote(note);
+        if (clientNotesLoader != null) {
+            return new Client(modelClientId, modelName, modelPhone, modelEmail, modelAddress, modelCountry,
+                    modelTimezone, modelContractExpiryContractExpiryDate, modelLastModifiedInstant, clientNotesLoader,
+                    clientNoteTags);
         }
-        return modelClient;
+        return new Client(modelClientId, modelName, modelPhone, modelEmail, modelAddress, modelCountry,
+                    modelTimezone, modelContractExpiryContractExpiryDate, modelLastModifiedInstant);
     }
 
 }
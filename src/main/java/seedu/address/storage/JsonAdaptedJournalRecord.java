@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the journal of a {@link JournalTbmManagerStorage}.
+ * Each record addresses the client or country note that it mutates by its position in the stored lists.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    /**
+     * The kinds of mutations that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD_CLIENT, REMOVE_CLIENT, SET_CLIENT,
+        ADD_CLIENT_NOTE, REMOVE_CLIENT_NOTE, SET_CLIENT_NOTE,
+        ADD_COUNTRY_NOTE, REMOVE_COUNTRY_NOTE, SET_COUNTRY_NOTE
+    }
+
+    private final Operation op;
+    private final Integer index;
+    private final Integer noteIndex;
+    private final Integer count;
+    private final JsonAdaptedClient client;
+    private final JsonAdaptedNote note;
+    private final String lastModifiedInstant;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("index") Integer index,
+            @JsonProperty("noteIndex") Integer noteIndex, @JsonProperty("count") Integer count,
+            @JsonProperty("client") JsonAdaptedClient client, @JsonProperty("note") JsonAdaptedNote note,
+            @JsonProperty("lastModifiedInstant") String lastModifiedInstant) {
+        this.op = op;
+        this.index = index;
+        this.noteIndex = noteIndex;
+        this.count = count;
+        this.client = client;
+        this.note = note;
+        this.lastModifiedInstant = lastModifiedInstant;
+    }
+
+    /**
+     * Returns a record that inserts {@code client} at {@code index} of the client list.
+     */
+    static JsonAdaptedJournalRecord addClient(int index, JsonAdaptedClient client) {
+        requireNonNull(client);
+        return new JsonAdaptedJournalRecord(Operation.ADD_CLIENT, index, null, null, client, null, null);
+    }
+
+    /**
+     * Returns a record that removes {@code count} clients starting from {@code index} of the client list.
+     */
+    static JsonAdaptedJournalRecord removeClients(int index, int count) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_CLIENT, index, null, count, null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the client at {@code index} of the client list with {@code client}.
+     */
+    static JsonAdaptedJournalRecord setClient(int index, JsonAdaptedClient client) {
+        requireNonNull(client);
+        return new JsonAdaptedJournalRecord(Operation.SET_CLIENT, index, null, null, client, null, null);
+    }
+
+    /**
+     * Returns a record that inserts {@code note} at {@code noteIndex} of the notes of the client at {@code index}.
+     */
+    static JsonAdaptedJournalRecord addClientNote(int index, int noteIndex, JsonAdaptedNote note,
+            String lastModifiedInstant) {
+        requireNonNull(note);
+        return new JsonAdaptedJournalRecord(Operation.ADD_CLIENT_NOTE, index, noteIndex, null, null, note,
+                lastModifiedInstant);
+    }
+
+    /**
+     * Returns a record that removes {@code count} notes starting from {@code noteIndex} of the notes of the client
+     * at {@code index}.
+     */
+    static JsonAdaptedJournalRecord removeClientNotes(int index, int noteIndex, int count,
+            String lastModifiedInstant) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_CLIENT_NOTE, index, noteIndex, count, null, null,
+                lastModifiedInstant);
+    }
+
+    /**
+     * Returns a record that replaces the note at {@code noteIndex} of the notes of the client at {@code index}.
+     */
+    static JsonAdaptedJournalRecord setClientNote(int index, int noteIndex, JsonAdaptedNote note,
+            String lastModifiedInstant) {
+        requireNonNull(note);
+        return new JsonAdaptedJournalRecord(Operation.SET_CLIENT_NOTE, index, noteIndex, null, null, note,
+                lastModifiedInstant);
+    }
+
+    /**
+     * Returns a record that inserts {@code note} at {@code index} of the country note list.
+     */
+    static JsonAdaptedJournalRecord addCountryNote(int index, JsonAdaptedNote note) {
+        requireNonNull(note);
+        return new JsonAdaptedJournalRecord(Operation.ADD_COUNTRY_NOTE, index, null, null, null, note, null);
+    }
+
+    /**
+     * Returns a record that removes {@code count} country notes starting from {@code index} of the country note list.
+     */
+    static JsonAdaptedJournalRecord removeCountryNotes(int index, int count) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_COUNTRY_NOTE, index, null, count, null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the country note at {@code index} of the country note list with {@code note}.
+     */
+    static JsonAdaptedJournalRecord setCountryNote(int index, JsonAdaptedNote note) {
+        requireNonNull(note);
+        return new JsonAdaptedJournalRecord(Operation.SET_COUNTRY_NOTE, index, null, null, null, note, null);
+    }
+
+    /**
+     * Applies the mutation described by this record to the given adapted lists.
+     *
+     * @throws IllegalValueException if this record is incomplete or does not fit the given lists.
+     */
+    public void applyTo(List<JsonAdaptedClient> clients, List<JsonAdaptedNote> countryNotes)
+            throws IllegalValueException {
+        if (op == null) {
+            throw invalid("missing operation");
+        }
+        switch (op) {
+        case ADD_CLIENT:
+            clients.add(checkIndex(index, clients.size() + 1), checkPresent(client));
+            break;
+        case REMOVE_CLIENT:
+            removeRange(clients, checkIndex(index, clients.size()), count);
+            break;
+        case SET_CLIENT:
+            clients.set(checkIndex(index, clients.size()), checkPresent(client));
+            break;
+        case ADD_CLIENT_NOTE:
+        case REMOVE_CLIENT_NOTE:
+        case SET_CLIENT_NOTE:
+            int clientIndex = checkIndex(index, clients.size());
+            JsonAdaptedClient target = clients.get(clientIndex);
+            List<JsonAdaptedNote> clientNotes = new ArrayList<>(target.getClientNotes());
+            applyToNotes(clientNotes);
+            clients.set(clientIndex, target.withClientNotes(clientNotes, lastModifiedInstant));
+            break;
+        case ADD_COUNTRY_NOTE:
+            countryNotes.add(checkIndex(index, countryNotes.size() + 1), checkPresent(note));
+            break;
+        case REMOVE_COUNTRY_NOTE:
+            removeRange(countryNotes, checkIndex(index, countryNotes.size()), count);
+            break;
+        case SET_COUNTRY_NOTE:
+            countryNotes.set(checkIndex(index, countryNotes.size()), checkPresent(note));
+            break;
+        default:
+            throw invalid("unknown operation " + op);
+        }
+    }
+
+    private void applyToNotes(List<JsonAdaptedNote> clientNotes) throws IllegalValueException {
+        switch (op) {
+        case ADD_CLIENT_NOTE:
+            clientNotes.add(checkIndex(noteIndex, clientNotes.size() + 1), checkPresent(note));
+            break;
+        case REMOVE_CLIENT_NOTE:
+            removeRange(clientNotes, checkIndex(noteIndex, clientNotes.size()), count);
+            break;
+        case SET_CLIENT_NOTE:
+            clientNotes.set(checkIndex(noteIndex, clientNotes.size()), checkPresent(note));
+            break;
+        default:
+            throw invalid("not a client note operation " + op);
+        }
+    }
+
+    private static <T> void removeRange(List<T> list, int from, Integer count) throws IllegalValueException {
+        if (count == null || count < 1 || from + count > list.size()) {
+            throw invalid("removal count " + count + " out of range");
+        }
+        list.subList(from, from + count).clear();
+    }
+
+    private static int checkIndex(Integer index, int bound) throws IllegalValueException {
+        if (index == null || index < 0 || index >= bound) {
+            throw invalid("index " + index + " out of range");
+        }
+        return index;
+    }
+
+    private static <T> T checkPresent(T value) throws IllegalValueException {
+        if (value == null) {
+            throw invalid("missing payload");
+        }
+        return value;
+    }
+
+    private static IllegalValueException invalid(String reason) {
+        return new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, reason));
+    }
+
+}
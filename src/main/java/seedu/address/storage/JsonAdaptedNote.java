@@ -21,7 +21,8 @@ class JsonAdaptedNote {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Note's %s field is missing!";
 
-    private static final String NULL_COUNTRY_CODE = "NULL_CC";
+    static final String NULL_COUNTRY_CODE = "NULL_CC";
+
     private final String contents;
     private final String countryCode;
     private final Set<JsonAdaptedTag> tags = new HashSet<>();
@@ -93,17 +94,13 @@ class JsonAdaptedNote {
         }
 
         if (isClientNote()) {
-            Note clientNote = new Note(contents);
-            clientNote.setTags(tags);
-            return clientNote;
+            return new Note(contents, tags);
         } else {
             if (!CountryCodeVerifier.isValidCountryCode(countryCode)) {
                 throw new IllegalValueException(CountryCodeVerifier.MESSAGE_CONSTRAINTS);
             }
 
-            CountryNote countryNote = new CountryNote(contents, new Country(countryCode));
-            countryNote.setTags(tags);
-            return countryNote;
+            return new CountryNote(contents, Country.of(countryCode), tags);
         }
     }
 
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedTbmManagerStorage}, which lists the shard files that
+ * make up the stored TbmManager.
+ * The version is always written first, so that a manifest can be told apart from a JSON data file by its first field.
+ */
+@JsonPropertyOrder({JsonAdaptedShardManifest.VERSION_FIELD, "shardCount", "generation", "clientShards",
+        "countryNoteShard"})
+class JsonAdaptedShardManifest {
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Shard manifest is invalid: %s";
+
+    static final String VERSION_FIELD = "shardManifestVersion";
+    static final int VERSION = 1;
+
+    private final Integer shardManifestVersion;
+    private final Integer shardCount;
+    private final Long generation;
+    private final List<String> clientShards = new ArrayList<>();
+    private final String countryNoteShard;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given manifest details.
+     *
+     * @param clientShards the name of the shard file of each client bucket, or null if the bucket is empty.
+     * @param countryNoteShard the name of the shard file of the country notes, or null if there are none.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty(VERSION_FIELD) Integer shardManifestVersion,
+            @JsonProperty("shardCount") Integer shardCount, @JsonProperty("generation") Long generation,
+            @JsonProperty("clientShards") List<String> clientShards,
+            @JsonProperty("countryNoteShard") String countryNoteShard) {
+        this.shardManifestVersion = shardManifestVersion;
+        this.shardCount = shardCount;
+        this.generation = generation;
+        if (clientShards != null) {
+            this.clientShards.addAll(clientShards);
+        }
+        this.countryNoteShard = countryNoteShard;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} of the current version.
+     */
+    JsonAdaptedShardManifest(long generation, List<String> clientShards, String countryNoteShard) {
+        this(VERSION, clientShards.size(), generation, clientShards, countryNoteShard);
+    }
+
+    /**
+     * Checks that this manifest is of a supported version and lists a shard file for every client bucket.
+     *
+     * @throws IllegalValueException if the manifest is invalid.
+     */
+    void validate() throws IllegalValueException {
+        if (shardManifestVersion == null || shardManifestVersion != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MANIFEST,
+                    "unsupported version " + shardManifestVersion));
+        }
+        if (shardCount == null || shardCount <= 0 || shardCount != clientShards.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MANIFEST,
+                    "expected " + shardCount + " client shards but found " + clientShards.size()));
+        }
+        if (generation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MANIFEST, "missing generation"));
+        }
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the shard file of each client bucket, with null for empty buckets.
+     */
+    List<String> getClientShards() {
+        return Collections.unmodifiableList(clientShards);
+    }
+
+    String getCountryNoteShard() {
+        return countryNoteShard;
+    }
+}
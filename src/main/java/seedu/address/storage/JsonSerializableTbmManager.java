@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -11,7 +12,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTbmManager;
 import seedu.address.model.TbmManager;
-import seedu.address.model.client.Client;
 import seedu.address.model.note.CountryNote;
 import seedu.address.model.note.Note;
 
@@ -22,6 +22,7 @@ import seedu.address.model.note.Note;
 class JsonSerializableTbmManager {
 
     public static final String MESSAGE_DUPLICATE_CLIENT = "Clients list contains duplicate client(s).";
+    public static final String MESSAGE_DUPLICATE_CLIENT_ID = "Clients list contains duplicate client ID(s).";
 
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedNote> countryNotes = new ArrayList<>();
@@ -51,6 +52,20 @@ class JsonSerializableTbmManager {
         countryNotes.addAll(notesList);
     }
 
+    /**
+     * Returns an unmodifiable view of the adapted clients in this {@code JsonSerializableTbmManager}.
+     */
+    List<JsonAdaptedClient> getClients() {
+        return Collections.unmodifiableList(clients);
+    }
+
+    /**
+     * Returns an unmodifiable view of the adapted country notes in this {@code JsonSerializableTbmManager}.
+     */
+    List<JsonAdaptedNote> getCountryNotes() {
+        return Collections.unmodifiableList(countryNotes);
+    }
+
     /**
      * Converts this address book into the model's {@code TbmManager} object.
      *
@@ -58,13 +73,7 @@ class JsonSerializableTbmManager {
      */
     public TbmManager toModelType() throws IllegalValueException {
         TbmManager tbmManager = new TbmManager();
-        for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (tbmManager.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            tbmManager.addClient(client);
-        }
+        ParallelClientConverter.addClients(clients, tbmManager);
         for (JsonAdaptedNote jsonAdaptedCountryNote : countryNotes) {
             Note modelNote = jsonAdaptedCountryNote.toModelType();
             // since client notes are stored inside client only
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TbmManager;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+
+/**
+ * Reads a TbmManager data file in the format of {@link JsonSerializableTbmManager} one record at a time.
+ * Clients are converted into their model type a batch at a time and country notes as soon as they have been read,
+ * so that only a single batch of adapted records is held in memory alongside the TbmManager being built.
+ */
+class JsonTbmManagerReader {
+
+    static final String CLIENTS_FIELD = "clients";
+    static final String COUNTRY_NOTES_FIELD = "countryNotes";
+    static final String CLIENT_NOTES_FIELD = "clientNotes";
+
+    private JsonTbmManagerReader() {} // prevents instantiation
+
+    /**
+     * Reads the TbmManager that {@code parser} is positioned before.
+     *
+     * @throws IOException if the content is not valid JSON or is not laid out as a TbmManager data file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TbmManager read(JsonParser parser) throws IOException, IllegalValueException {
+        TbmManager tbmManager = new TbmManager();
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (CLIENTS_FIELD.equals(fieldName)) {
+                readClients(parser, tbmManager);
+            } else if (COUNTRY_NOTES_FIELD.equals(fieldName)) {
+                readCountryNotes(parser, tbmManager);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return tbmManager;
+    }
+
+    /**
+     * Reads the clients in the array that {@code parser} is positioned at into {@code tbmManager}.
+     * Clients are read in batches that are converted in parallel before being added in order. If the array turns
+     * out to be malformed, the clients read before that point are still added first, so that the first bad client
+     * is reported ahead of the malformed content just as it would be if each client were converted as it was read.
+     */
+    private static void readClients(JsonParser parser, TbmManager tbmManager)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        List<JsonAdaptedClient> batch = new ArrayList<>(ParallelClientConverter.BATCH_SIZE);
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                batch.add(parser.readValueAs(JsonAdaptedClient.class));
+                if (batch.size() == ParallelClientConverter.BATCH_SIZE) {
+                    ParallelClientConverter.addClients(batch, tbmManager);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            ParallelClientConverter.addClients(batch, tbmManager);
+            throw e;
+        }
+        ParallelClientConverter.addClients(batch, tbmManager);
+    }
+
+    private static void readCountryNotes(JsonParser parser, TbmManager tbmManager)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+            Note modelNote = parser.readValueAs(JsonAdaptedNote.class).toModelType();
+            // since client notes are stored inside client only
+            assert !modelNote.isClientNote() : "converting a non-country note into a country note";
+            tbmManager.addCountryNote((CountryNote) modelNote);
+        }
+    }
+
+    /**
+     * Throws a {@code JsonParseException} unless {@code actual} is the {@code expected} token.
+     */
+    static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
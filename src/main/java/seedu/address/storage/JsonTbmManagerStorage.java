@@ -4,10 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -23,13 +27,25 @@ public class JsonTbmManagerStorage implements TbmManagerStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonTbmManagerStorage.class);
 
     private final Path filePath;
+    private final boolean prettyPrint;
 
     /**
-     * Constructs a {@code JsonTbmManagerStorage} with an associated {@code Path} for storage.
+     * Constructs a {@code JsonTbmManagerStorage} with an associated {@code Path} for storage, which is saved as
+     * indented JSON.
      * @param filePath {@code Path} where the {@code TbmManager} is stored as a JSON object.
      */
     public JsonTbmManagerStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructs a {@code JsonTbmManagerStorage} with an associated {@code Path} for storage.
+     * @param filePath {@code Path} where the {@code TbmManager} is stored as a JSON object.
+     * @param prettyPrint whether the JSON object is indented when saved.
+     */
+    public JsonTbmManagerStorage(Path filePath, boolean prettyPrint) {
         this.filePath = filePath;
+        this.prettyPrint = prettyPrint;
     }
 
     /**
@@ -54,14 +70,16 @@ public class JsonTbmManagerStorage implements TbmManagerStorage {
     public Optional<ReadOnlyTbmManager> readTbmManager(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTbmManager> jsonTbmManager = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTbmManager.class);
-        if (jsonTbmManager.isEmpty()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTbmManager.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonTbmManagerReader.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -81,8 +99,10 @@ public class JsonTbmManagerStorage implements TbmManagerStorage {
     public void saveTbmManager(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
         requireAllNonNull(tbmManager, filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTbmManager(tbmManager), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, prettyPrint)) {
+            JsonTbmManagerWriter.write(generator, tbmManager);
+        }
     }
 
 }
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonTbmManagerReader.CLIENTS_FIELD;
+import static seedu.address.storage.JsonTbmManagerReader.CLIENT_NOTES_FIELD;
+import static seedu.address.storage.JsonTbmManagerReader.COUNTRY_NOTES_FIELD;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a TbmManager in the format of {@link JsonSerializableTbmManager} straight from the model.
+ * Fields are written in the same order as the Jackson-friendly adapters would write them, without creating the
+ * adapters themselves.
+ */
+class JsonTbmManagerWriter {
+
+    private JsonTbmManagerWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code tbmManager} to {@code generator} as a single JSON object.
+     *
+     * @throws IOException if there was an error writing to the generator's output.
+     */
+    static void write(JsonGenerator generator, ReadOnlyTbmManager tbmManager) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(CLIENTS_FIELD);
+        for (Client client : tbmManager.getClientList()) {
+            writeClient(generator, client);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(COUNTRY_NOTES_FIELD);
+        for (CountryNote countryNote : tbmManager.getCountryNoteList()) {
+            writeNote(generator, countryNote);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code client}, along with its client notes, to {@code generator} as a single JSON object.
+     */
+    static void writeClient(JsonGenerator generator, Client client) throws IOException {
+        generator.writeStartObject();
+        writeClientFields(generator, client);
+        generator.writeArrayFieldStart(CLIENT_NOTES_FIELD);
+        for (Note note : client.getClientNotesAsUnmodifiableList()) {
+            writeNote(generator, note);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code client} to {@code generator} as a single JSON object, leaving out its client notes.
+     */
+    static void writeClientHeader(JsonGenerator generator, Client client) throws IOException {
+        generator.writeStartObject();
+        writeClientFields(generator, client);
+        generator.writeEndObject();
+    }
+
+    private static void writeClientFields(JsonGenerator generator, Client client) throws IOException {
+        generator.writeStringField("clientId", client.getClientId().toString());
+        generator.writeStringField("name", client.getName().fullName);
+        generator.writeStringField("phone", client.getPhone().value);
+        generator.writeStringField("email", client.getEmail().value);
+        generator.writeStringField("address", client.getAddress().value);
+        generator.writeStringField("country", client.getCountry().getCountryCode());
+        generator.writeStringField("timezone", client.getTimezone().toString());
+        generator.writeStringField("contractExpiryDate", client.getContractExpiryDate().value);
+        generator.writeStringField("lastModifiedInstant", client.getLastModifiedInstant().toString());
+    }
+
+    /**
+     * Writes {@code note} to {@code generator} as a single JSON object.
+     */
+    static void writeNote(JsonGenerator generator, Note note) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("contents", note.getNoteContent());
+        generator.writeStringField("countryCode", note.isClientNote()
+                ? JsonAdaptedNote.NULL_COUNTRY_CODE
+                : ((CountryNote) note).getCountry().getCountryCode());
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : note.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
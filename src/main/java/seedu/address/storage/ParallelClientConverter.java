@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableTbmManager.MESSAGE_DUPLICATE_CLIENT;
+import static seedu.address.storage.JsonSerializableTbmManager.MESSAGE_DUPLICATE_CLIENT_ID;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+
+/**
+ * Converts adapted clients into the model's {@code Client} objects on a fork-join pool.
+ * Every adapted client is validated and converted independently of the others, so a batch of them is split between
+ * the pool's threads. The converted clients are then checked for duplicates and added to the TbmManager one at a
+ * time in their original order, so a batch with more than one bad record is reported by its first bad record, just
+ * as converting the records one at a time would.
+ */
+class ParallelClientConverter {
+
+    /** The number of adapted clients that a streaming reader collects before converting them as a batch. */
+    static final int BATCH_SIZE = 4096;
+
+    /** The number of adapted clients below which a part of a batch is converted without being split further. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private ParallelClientConverter() {} // prevents instantiation
+
+    /**
+     * Converts {@code adaptedClients} and adds them to {@code tbmManager} in order.
+     *
+     * @throws IllegalValueException if an adapted client violates a data constraint or is a duplicate, in which case
+     *     the clients before it have already been added.
+     */
+    static void addClients(List<JsonAdaptedClient> adaptedClients, TbmManager tbmManager)
+            throws IllegalValueException {
+        for (Conversion conversion : convert(adaptedClients)) {
+            Client client = conversion.get();
+            if (tbmManager.hasClient(client)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+            }
+            if (tbmManager.hasClientId(client.getClientId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT_ID);
+            }
+            tbmManager.addClient(client);
+        }
+    }
+
+    /**
+     * Returns the result of converting each of {@code adaptedClients}, in the same order.
+     */
+    static List<Conversion> convert(List<JsonAdaptedClient> adaptedClients) {
+        Conversion[] conversions = new Conversion[adaptedClients.size()];
+        if (adaptedClients.size() < SEQUENTIAL_THRESHOLD) {
+            new ConvertAction(adaptedClients, conversions, 0, conversions.length).compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(new ConvertAction(adaptedClients, conversions, 0, conversions.length));
+        }
+        return Collections.unmodifiableList(Arrays.asList(conversions));
+    }
+
+    /**
+     * The result of converting a single adapted client, which is either a client or the reason it is invalid.
+     */
+    static class Conversion {
+        private final Client client;
+        private final IllegalValueException exception;
+
+        private Conversion(Client client, IllegalValueException exception) {
+            this.client = client;
+            this.exception = exception;
+        }
+
+        /**
+         * Returns the converted client.
+         *
+         * @throws IllegalValueException if the adapted client violated a data constraint.
+         */
+        Client get() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return client;
+        }
+    }
+
+    /**
+     * Converts the adapted clients in {@code [start, end)}, splitting the range in halves until it is small enough.
+     */
+    private static class ConvertAction extends RecursiveAction {
+        private final List<JsonAdaptedClient> adaptedClients;
+        private final Conversion[] conversions;
+        private final int start;
+        private final int end;
+
+        ConvertAction(List<JsonAdaptedClient> adaptedClients, Conversion[] conversions, int start, int end) {
+            this.adaptedClients = adaptedClients;
+            this.conversions = conversions;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > SEQUENTIAL_THRESHOLD) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConvertAction(adaptedClients, conversions, start, middle),
+                        new ConvertAction(adaptedClients, conversions, middle, end));
+                return;
+            }
+
+            for (int i = start; i < end; i++) {
+                try {
+                    conversions[i] = new Conversion(adaptedClients.get(i).toModelType(), null);
+                } catch (IllegalValueException ive) {
+                    conversions[i] = new Conversion(null, ive);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,887 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.storage.JsonSerializableTbmManager.MESSAGE_DUPLICATE_CLIENT;
+import static seedu.address.storage.JsonSerializableTbmManager.MESSAGE_DUPLICATE_CLIENT_ID;
+import static seedu.address.storage.JsonTbmManagerReader.CLIENTS_FIELD;
+import static seedu.address.storage.JsonTbmManagerReader.CLIENT_NOTES_FIELD;
+import static seedu.address.storage.JsonTbmManagerReader.COUNTRY_NOTES_FIELD;
+import static seedu.address.storage.JsonTbmManagerReader.expect;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientNotesLoader;
+import seedu.address.model.client.exceptions.ClientNotesUnavailableException;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access TbmManager data stored as a manifest plus a number of shard files on the hard disk.
+ * <p>
+ * Every client is given a sequence number when it is first stored, which is kept when the client is edited. The
+ * sequence number orders the client list and decides the bucket, and so the shard file, that the client is stored
+ * in. Country notes are stored in a shard of their own. Every save compares the given TbmManager against the state
+ * last written to disk and only rewrites the shards whose contents changed. Unchanged clients are recognised by
+ * their snapshots being the same objects as the ones written, so only changed clients are compared field by field.
+ * <p>
+ * The number of buckets grows with the number of clients, so that a shard holds at most about a set number of
+ * clients on average. Once the clients outgrow the buckets, the buckets are recounted and every shard is rewritten,
+ * which only happens each time the number of clients doubles.
+ * <p>
+ * Shard files are never overwritten. A changed shard is written to a new file, which only becomes part of the stored
+ * data once the manifest listing it has been renamed over the old manifest, so an interrupted save leaves the old
+ * data intact. Shard files that are no longer listed are deleted after the manifest is replaced, or on the next read.
+ * <p>
+ * Each client's notes are stored beside the client along with the tags they use, so reading only builds the client
+ * and the index of its tags, and leaves the client notes to be loaded from the shard when they are first needed.
+ * Client notes that have not been loaded are copied from shard to shard as their clients' shards are rewritten, and
+ * are loaded into memory before the last shard holding them is deleted.
+ */
+public class ShardedTbmManagerStorage implements TbmManagerStorage {
+
+    public static final String MESSAGE_INVALID_SHARD = "Shard %s is invalid: %s";
+
+    static final int DEFAULT_MAX_CLIENTS_PER_SHARD = 512;
+    static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    static final String MANIFEST_TEMP_SUFFIX = ".tmp";
+
+    private static final String SEQUENCE_NUMBER_FIELD = "sequenceNumber";
+    private static final String CLIENT_FIELD = "client";
+    private static final String CLIENT_NOTE_TAGS_FIELD = "clientNoteTags";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTbmManagerStorage.class);
+
+    private final Path filePath;
+    private final int maxClientsPerShard;
+
+    // The state last written to disk at persistedPath, which the next save is compared against.
+    private Path persistedPath;
+    private long persistedGeneration;
+    private List<PersistedClient> persistedClients;
+    private Map<ClientId, PersistedClient> persistedClientsById;
+    private List<String> persistedClientShards;
+    private String persistedCountryNoteShard;
+    private List<CountryNote> persistedCountryNotes;
+
+    // Every loader of client notes handed out by this storage that is still in use, by the shard it loads from.
+    private final Map<Path, Set<ShardClientNotesLoader>> loadersByShard = new HashMap<>();
+
+    /**
+     * Creates a {@code ShardedTbmManagerStorage} that stores its manifest at {@code filePath} and spreads clients
+     * over shards of at most about {@link #DEFAULT_MAX_CLIENTS_PER_SHARD} clients.
+     */
+    public ShardedTbmManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_CLIENTS_PER_SHARD);
+    }
+
+    /**
+     * Creates a {@code ShardedTbmManagerStorage} that stores its manifest at {@code filePath} and spreads clients
+     * over shards of at most about {@code maxClientsPerShard} clients. Data that is already stored keeps the number
+     * of shards it was stored with until its clients outgrow them.
+     */
+    ShardedTbmManagerStorage(Path filePath, int maxClientsPerShard) {
+        requireNonNull(filePath);
+        assert maxClientsPerShard > 1 : "a shard must be able to hold more than one client";
+        this.filePath = filePath;
+        this.maxClientsPerShard = maxClientsPerShard;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is a shard manifest.
+     *
+     * @throws IOException if the file exists but could not be read.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonAdaptedShardManifest.VERSION_FIELD.equals(parser.getCurrentName());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getTbmManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTbmManager> readTbmManager() throws DataConversionException, IOException {
+        return readTbmManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTbmManager()}, but reads the manifest at {@code filePath} and the shards it lists.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a shard is not in the expected format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTbmManager> readTbmManager(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<JsonAdaptedShardManifest> optionalManifest = JsonUtil.readJsonFile(
+                filePath, JsonAdaptedShardManifest.class);
+        if (optionalManifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JsonAdaptedShardManifest manifest = optionalManifest.get();
+        Path shardDirectory = getShardDirectory(filePath);
+        TreeMap<Long, Client> clientsBySequenceNumber = new TreeMap<>();
+        List<PersistedClient> clients = new ArrayList<>();
+        TbmManager tbmManager = new TbmManager();
+        try {
+            manifest.validate();
+            List<String> clientShards = manifest.getClientShards();
+            for (int bucket = 0; bucket < clientShards.size(); bucket++) {
+                if (clientShards.get(bucket) != null) {
+                    readClientShard(shardDirectory.resolve(clientShards.get(bucket)), bucket, clientShards.size(),
+                            clientsBySequenceNumber);
+                }
+            }
+            for (Map.Entry<Long, Client> entry : clientsBySequenceNumber.entrySet()) {
+                Client client = entry.getValue();
+                if (tbmManager.hasClient(client)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+                }
+                if (tbmManager.hasClientId(client.getClientId())) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT_ID);
+                }
+                tbmManager.addClient(client);
+                clients.add(new PersistedClient(entry.getKey(), client));
+            }
+            if (manifest.getCountryNoteShard() != null) {
+                readCountryNoteShard(shardDirectory.resolve(manifest.getCountryNoteShard()), tbmManager);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading shards of " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        deleteUnlistedShards(shardDirectory, manifest.getClientShards(), manifest.getCountryNoteShard());
+        rememberPersistedState(filePath, manifest.getGeneration(), clients, manifest.getClientShards(),
+                manifest.getCountryNoteShard(), tbmManager.getCountryNoteList());
+        return Optional.of(tbmManager);
+    }
+
+    @Override
+    public void saveTbmManager(ReadOnlyTbmManager tbmManager) throws IOException {
+        saveTbmManager(tbmManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTbmManager(ReadOnlyTbmManager)}, but only rewrites the shards that changed since the
+     * last save if {@code filePath} was last read or written by this storage. Otherwise, every shard is written.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTbmManager(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
+        requireAllNonNull(tbmManager, filePath);
+
+        Set<Integer> changedBuckets = new HashSet<>();
+        Map<ClientId, PersistedClient> changedClientsById = new HashMap<>();
+        List<PersistedClient> clients = null;
+        if (filePath.equals(persistedPath) && !isOutgrown(tbmManager.getClientList().size())) {
+            clients = diffClients(tbmManager.getClientList(), changedBuckets, changedClientsById);
+        } else if (filePath.equals(persistedPath)) {
+            logger.info("Clients of " + filePath + " outgrew " + persistedClientShards.size()
+                    + " shards, so every shard is rewritten");
+        }
+        boolean isFullWrite = clients == null;
+        int bucketCount = isFullWrite ? getBucketCount(tbmManager.getClientList().size())
+                : persistedClientShards.size();
+        if (isFullWrite) {
+            clients = numberClients(tbmManager.getClientList());
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                changedBuckets.add(bucket);
+            }
+        }
+        List<CountryNote> countryNotes = tbmManager.getCountryNoteList();
+        boolean haveCountryNotesChanged = isFullWrite || !persistedCountryNotes.equals(countryNotes);
+        if (changedBuckets.isEmpty() && !haveCountryNotesChanged) {
+            return;
+        }
+
+        long generation = (isFullWrite ? readGeneration(filePath) : persistedGeneration) + 1;
+        Path shardDirectory = getShardDirectory(filePath);
+        Files.createDirectories(shardDirectory);
+        List<String> clientShards = isFullWrite
+                ? new ArrayList<>(Collections.nCopies(bucketCount, null))
+                : new ArrayList<>(persistedClientShards);
+        List<String> replacedShards = new ArrayList<>();
+
+        TreeMap<Integer, List<PersistedClient>> changedShards = new TreeMap<>();
+        changedBuckets.forEach(bucket -> changedShards.put(bucket, new ArrayList<>()));
+        for (PersistedClient client : clients) {
+            List<PersistedClient> shard = changedShards.get(getBucket(client.sequenceNumber, bucketCount));
+            if (shard != null) {
+                shard.add(client);
+            }
+        }
+        for (int bucket : changedShards.keySet()) {
+            List<PersistedClient> shard = changedShards.get(bucket);
+            String shardName = shard.isEmpty() ? null : "clients-" + bucket + "-" + generation + ".json";
+            if (shardName != null) {
+                writeClientShard(shardDirectory.resolve(shardName), shard);
+                relocateClientNotes(shardDirectory.resolve(shardName), shard);
+            }
+            replacedShards.add(clientShards.set(bucket, shardName));
+        }
+
+        String countryNoteShard = isFullWrite ? null : persistedCountryNoteShard;
+        if (haveCountryNotesChanged) {
+            replacedShards.add(countryNoteShard);
+            countryNoteShard = countryNotes.isEmpty() ? null : "country-notes-" + generation + ".json";
+            if (countryNoteShard != null) {
+                writeCountryNoteShard(shardDirectory.resolve(countryNoteShard), countryNotes);
+            }
+        }
+
+        installManifest(new JsonAdaptedShardManifest(generation, clientShards, countryNoteShard), filePath);
+        if (isFullWrite) {
+            deleteUnlistedShards(shardDirectory, clientShards, countryNoteShard);
+            rememberPersistedState(filePath, generation, clients, clientShards, countryNoteShard, countryNotes);
+        } else {
+            deleteShards(shardDirectory, replacedShards);
+            changedClientsById.forEach((clientId, client) -> {
+                if (client == null) {
+                    persistedClientsById.remove(clientId);
+                } else {
+                    persistedClientsById.put(clientId, client);
+                }
+            });
+            persistedGeneration = generation;
+            persistedClients = clients;
+            persistedClientShards = clientShards;
+            persistedCountryNoteShard = countryNoteShard;
+            persistedCountryNotes = new ArrayList<>(countryNotes);
+        }
+    }
+
+    static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    static Path getManifestTempPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MANIFEST_TEMP_SUFFIX);
+    }
+
+    private static int getBucket(long sequenceNumber, int bucketCount) {
+        return (int) Math.floorMod(sequenceNumber, (long) bucketCount);
+    }
+
+    /**
+     * Returns the number of buckets to spread {@code clientCount} clients over when every shard is written, which
+     * fills the shards halfway so that the clients can double before the shards have to be split.
+     */
+    private int getBucketCount(int clientCount) {
+        int halfShard = maxClientsPerShard / 2;
+        return Math.max(1, (clientCount + halfShard - 1) / halfShard);
+    }
+
+    /**
+     * Returns true if {@code clientCount} clients are too many for the buckets of the persisted state.
+     */
+    private boolean isOutgrown(int clientCount) {
+        return clientCount > (long) maxClientsPerShard * persistedClientShards.size();
+    }
+
+    //// reading
+
+    /**
+     * Reads the clients in {@code shardFile} into {@code clients} by their sequence numbers, checking that they
+     * belong in {@code bucket} and that no sequence number is used more than once.
+     */
+    private void readClientShard(Path shardFile, int bucket, int bucketCount, Map<Long, Client> clients)
+            throws IOException, IllegalValueException {
+        for (ShardEntry entry : readShardEntries(shardFile)) {
+            if (getBucket(entry.sequenceNumber, bucketCount) != bucket) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shardFile,
+                        "sequence number " + entry.sequenceNumber + " does not belong in this shard"));
+            }
+            if (clients.put(entry.sequenceNumber, toModelClient(entry, shardFile)) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shardFile,
+                        "sequence number " + entry.sequenceNumber + " is used more than once"));
+            }
+        }
+    }
+
+    /**
+     * Returns the client of {@code entry}. Client notes that are stored beside the client rather than inside it are
+     * left to be loaded when they are first needed.
+     */
+    private Client toModelClient(ShardEntry entry, Path shardFile) throws IllegalValueException {
+        if (entry.clientNotesOffset < 0) {
+            return entry.client.toModelType();
+        }
+
+        Set<Tag> clientNoteTags = new HashSet<>();
+        for (String tagName : entry.clientNoteTags) {
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            clientNoteTags.add(Tag.of(tagName));
+        }
+        ShardClientNotesLoader loader = new ShardClientNotesLoader(shardFile, entry.clientNotesOffset);
+        addLoader(loader);
+        return entry.client.toLazyModelType(loader, clientNoteTags);
+    }
+
+    /**
+     * Returns the entries of the client shard {@code shardFile}, skipping over the client notes stored beside each
+     * client.
+     */
+    private static List<ShardEntry> readShardEntries(Path shardFile) throws IOException, IllegalValueException {
+        List<ShardEntry> entries = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(shardFile)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (!CLIENTS_FIELD.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    entries.add(readShardEntry(parser, shardFile));
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return entries;
+    }
+
+    private static ShardEntry readShardEntry(JsonParser parser, Path shardFile)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        ShardEntry entry = new ShardEntry();
+        Long sequenceNumber = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (SEQUENCE_NUMBER_FIELD.equals(fieldName)) {
+                sequenceNumber = parser.getLongValue();
+            } else if (CLIENT_NOTE_TAGS_FIELD.equals(fieldName)) {
+                expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expect(parser, parser.getCurrentToken(), JsonToken.VALUE_STRING);
+                    entry.clientNoteTags.add(parser.getText());
+                }
+            } else if (CLIENT_FIELD.equals(fieldName)) {
+                expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                entry.client = parser.readValueAs(JsonAdaptedClient.class);
+            } else if (CLIENT_NOTES_FIELD.equals(fieldName)) {
+                expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                entry.clientNotesOffset = parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (sequenceNumber == null || entry.client == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shardFile,
+                    "an entry is missing its " + (sequenceNumber == null ? SEQUENCE_NUMBER_FIELD : CLIENT_FIELD)));
+        }
+        entry.sequenceNumber = sequenceNumber;
+        return entry;
+    }
+
+    /**
+     * Returns the client notes stored in {@code shardFile} at each of {@code offsets}, read in a single pass over
+     * the shard.
+     */
+    private static Map<Long, JsonNode> readStoredClientNotes(Path shardFile, Set<Long> offsets) throws IOException {
+        Map<Long, JsonNode> storedClientNotes = new HashMap<>();
+        try (JsonParser parser = JsonUtil.createParser(shardFile)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && storedClientNotes.size() < offsets.size()) {
+                long offset = parser.getTokenLocation().getByteOffset();
+                if (token == JsonToken.START_ARRAY && offsets.contains(offset)) {
+                    storedClientNotes.put(offset, parser.readValueAsTree());
+                }
+            }
+        }
+        if (storedClientNotes.size() < offsets.size()) {
+            throw new IOException(String.format(MESSAGE_INVALID_SHARD, shardFile, "stored client notes are missing"));
+        }
+        return storedClientNotes;
+    }
+
+    /**
+     * Returns the client notes stored in {@code shardFile} at {@code offset}, without reading the rest of the shard.
+     */
+    private static List<Note> readClientNotes(Path shardFile, long offset) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(shardFile, offset)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            List<Note> clientNotes = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                clientNotes.add(parser.readValueAs(JsonAdaptedNote.class).toModelType());
+            }
+            return clientNotes;
+        }
+    }
+
+    private static void readCountryNoteShard(Path shardFile, TbmManager tbmManager)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(shardFile)) {
+            for (CountryNote countryNote : JsonTbmManagerReader.read(parser).getCountryNoteList()) {
+                tbmManager.addCountryNote(countryNote);
+            }
+        }
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no valid manifest there.
+     */
+    private static long readGeneration(Path filePath) throws IOException {
+        if (!isManifestFile(filePath)) {
+            return 0;
+        }
+
+        try {
+            JsonAdaptedShardManifest manifest = JsonUtil.readJsonFile(filePath, JsonAdaptedShardManifest.class).get();
+            manifest.validate();
+            return manifest.getGeneration();
+        } catch (DataConversionException | IllegalValueException e) {
+            return 0;
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code clients} to {@code shardFile}, each with the tags of its client notes followed by the client
+     * notes themselves. Client notes that were never loaded are copied over from the shards they were read from.
+     */
+    private void writeClientShard(Path shardFile, List<PersistedClient> clients) throws IOException {
+        Map<Path, Set<Long>> storedOffsets = new HashMap<>();
+        for (PersistedClient client : clients) {
+            ShardClientNotesLoader loader = getStoredClientNotesLoader(client.client);
+            if (loader != null) {
+                storedOffsets.computeIfAbsent(loader.shardFile, unused -> new HashSet<>()).add(loader.offset);
+            }
+        }
+        Map<Path, Map<Long, JsonNode>> storedClientNotes = new HashMap<>();
+        for (Map.Entry<Path, Set<Long>> entry : storedOffsets.entrySet()) {
+            storedClientNotes.put(entry.getKey(), readStoredClientNotes(entry.getKey(), entry.getValue()));
+        }
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(shardFile, false)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(CLIENTS_FIELD);
+            for (PersistedClient client : clients) {
+                generator.writeStartObject();
+                generator.writeNumberField(SEQUENCE_NUMBER_FIELD, client.sequenceNumber);
+                generator.writeArrayFieldStart(CLIENT_NOTE_TAGS_FIELD);
+                for (Tag tag : client.client.getClientNoteTags()) {
+                    generator.writeString(tag.tagName);
+                }
+                generator.writeEndArray();
+                generator.writeFieldName(CLIENT_FIELD);
+                JsonTbmManagerWriter.writeClientHeader(generator, client.client);
+                generator.writeFieldName(CLIENT_NOTES_FIELD);
+                ShardClientNotesLoader loader = getStoredClientNotesLoader(client.client);
+                if (loader != null) {
+                    generator.writeTree(storedClientNotes.get(loader.shardFile).get(loader.offset));
+                } else {
+                    generator.writeStartArray();
+                    for (Note note : client.client.getClientNotesAsUnmodifiableList()) {
+                        JsonTbmManagerWriter.writeNote(generator, note);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Points the loaders of the unloaded client notes in {@code clients} at where they were written in
+     * {@code shardFile}.
+     */
+    private void relocateClientNotes(Path shardFile, List<PersistedClient> clients) throws IOException {
+        Map<Long, Long> clientNotesOffsets = new HashMap<>();
+        try {
+            for (ShardEntry entry : readShardEntries(shardFile)) {
+                clientNotesOffsets.put(entry.sequenceNumber, entry.clientNotesOffset);
+            }
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive);
+        }
+        for (PersistedClient client : clients) {
+            ShardClientNotesLoader loader = getStoredClientNotesLoader(client.client);
+            if (loader != null) {
+                removeLoader(loader);
+                loader.relocate(shardFile, clientNotesOffsets.get(client.sequenceNumber));
+                addLoader(loader);
+            }
+        }
+    }
+
+    /**
+     * Returns the loader of {@code client}'s notes if they are to be copied from a shard of this storage, or null if
+     * they are to be written from the client.
+     */
+    private ShardClientNotesLoader getStoredClientNotesLoader(Client client) {
+        if (!(client.getClientNotesLoader() instanceof ShardClientNotesLoader)) {
+            return null;
+        }
+        ShardClientNotesLoader loader = (ShardClientNotesLoader) client.getClientNotesLoader();
+        return loader.isFrom(this) && loader.pinnedClientNotes == null ? loader : null;
+    }
+
+    private void addLoader(ShardClientNotesLoader loader) {
+        loadersByShard.computeIfAbsent(loader.shardFile, unused -> Collections.newSetFromMap(new WeakHashMap<>()))
+                .add(loader);
+    }
+
+    private void removeLoader(ShardClientNotesLoader loader) {
+        Set<ShardClientNotesLoader> shardLoaders = loadersByShard.get(loader.shardFile);
+        if (shardLoaders != null) {
+            shardLoaders.remove(loader);
+        }
+    }
+
+    /**
+     * Loads the client notes of every loader that still loads from one of {@code shardNames} in
+     * {@code shardDirectory}, so that they can still be loaded once those shards are deleted.
+     */
+    private void pinClientNotes(Path shardDirectory, Collection<String> shardNames) {
+        for (String shardName : shardNames) {
+            if (shardName == null) {
+                continue;
+            }
+            Set<ShardClientNotesLoader> shardLoaders = loadersByShard.remove(shardDirectory.resolve(shardName));
+            if (shardLoaders == null) {
+                continue;
+            }
+            for (ShardClientNotesLoader loader : shardLoaders) {
+                try {
+                    loader.pin(readClientNotes(loader.shardFile, loader.offset));
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Failed to load client notes from " + loader.shardFile + ": " + e);
+                }
+            }
+        }
+    }
+
+    private static void writeCountryNoteShard(Path shardFile, List<CountryNote> countryNotes) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(shardFile, false)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(COUNTRY_NOTES_FIELD);
+            for (CountryNote countryNote : countryNotes) {
+                JsonTbmManagerWriter.writeNote(generator, countryNote);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code manifest} next to {@code filePath} and then renames it over the old manifest.
+     */
+    private static void installManifest(JsonAdaptedShardManifest manifest, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path manifestTemp = getManifestTempPath(filePath);
+        JsonUtil.saveJsonFile(manifest, manifestTemp);
+        Files.move(manifestTemp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectory} with the given names, ignoring null names. Client notes that
+     * have not been loaded from them yet are loaded first.
+     * A shard file that cannot be deleted is only logged, as it is deleted again on the next read.
+     */
+    private void deleteShards(Path shardDirectory, List<String> shardNames) {
+        pinClientNotes(shardDirectory, shardNames);
+        for (String shardName : shardNames) {
+            if (shardName == null) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(shardDirectory.resolve(shardName));
+            } catch (IOException ioe) {
+                logger.warning("Failed to delete replaced shard " + shardName + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Deletes every file in {@code shardDirectory} that is not one of the listed shards, which are left behind by a
+     * save that was interrupted or replaced the whole data.
+     */
+    private void deleteUnlistedShards(Path shardDirectory, List<String> clientShards, String countryNoteShard)
+            throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+
+        Set<String> listedShards = new HashSet<>(clientShards);
+        listedShards.add(countryNoteShard);
+        List<String> unlistedShards = new ArrayList<>();
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardDirectory)) {
+            for (Path shardFile : shardFiles) {
+                if (!listedShards.contains(shardFile.getFileName().toString())) {
+                    unlistedShards.add(shardFile.getFileName().toString());
+                }
+            }
+        }
+        deleteShards(shardDirectory, unlistedShards);
+    }
+
+    /**
+     * Deletes the shard directory of the manifest at {@code filePath}, once the manifest has been replaced by the
+     * data in another format. Client notes that are still to be loaded from its shards are loaded first.
+     */
+    synchronized void deleteShardDirectory(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Path shardDirectory = getShardDirectory(filePath);
+        deleteUnlistedShards(shardDirectory, List.of(), null);
+        Files.deleteIfExists(shardDirectory);
+        if (filePath.equals(persistedPath)) {
+            persistedPath = null;
+        }
+    }
+
+    //// diffing against the persisted state
+
+    private void rememberPersistedState(Path filePath, long generation, List<PersistedClient> clients,
+            List<String> clientShards, String countryNoteShard, List<CountryNote> countryNotes) {
+        persistedPath = filePath;
+        persistedGeneration = generation;
+        persistedClients = clients;
+        persistedClientsById = new HashMap<>();
+        clients.forEach(client -> persistedClientsById.put(client.client.getClientId(), client));
+        persistedClientShards = new ArrayList<>(clientShards);
+        persistedCountryNoteShard = countryNoteShard;
+        persistedCountryNotes = new ArrayList<>(countryNotes);
+    }
+
+    /**
+     * Returns {@code clients} numbered from 0 in order.
+     */
+    private static List<PersistedClient> numberClients(List<Client> clients) {
+        List<PersistedClient> numberedClients = new ArrayList<>(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            numberedClients.add(new PersistedClient(i, clients.get(i)));
+        }
+        return numberedClients;
+    }
+
+    /**
+     * Returns the persisted clients updated to match {@code clients}, adds the bucket of every client that was
+     * added, edited or removed to {@code changedBuckets}, and puts every persisted client that was replaced in
+     * {@code changedClientsById}, with null for the removed ones.
+     * The two lists are walked side by side. A client that still has the persisted snapshot is unchanged, a client
+     * with a persisted client ID keeps its sequence number, and any other client takes over the sequence number of
+     * the persisted client it replaces, or the next free one. Returns null if there is no free sequence number where
+     * a client was inserted, or the clients were reordered, in which case every client has to be renumbered.
+     */
+    private List<PersistedClient> diffClients(List<Client> clients, Set<Integer> changedBuckets,
+            Map<ClientId, PersistedClient> changedClientsById) {
+        int bucketCount = persistedClientShards.size();
+        List<PersistedClient> updatedClients = new ArrayList<>(clients.size());
+        Set<ClientId> clientIds = null;
+        long lastSequenceNumber = -1;
+        int next = 0;
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            PersistedClient persisted = next < persistedClients.size() ? persistedClients.get(next) : null;
+            if (persisted != null && persisted.client == client.getSnapshot()) {
+                updatedClients.add(persisted);
+                lastSequenceNumber = persisted.sequenceNumber;
+                next++;
+                continue;
+            }
+
+            PersistedClient persistedWithId = persistedClientsById.get(client.getClientId());
+            if (persistedWithId != null && persistedWithId.sequenceNumber <= lastSequenceNumber) {
+                return null;
+            }
+            if (persistedWithId != null) {
+                // The persisted clients before it were removed
+                while (persistedClients.get(next) != persistedWithId) {
+                    removeClient(persistedClients.get(next++), bucketCount, changedBuckets, changedClientsById);
+                }
+                persisted = persistedWithId;
+            } else if (persisted != null && !persisted.isEqualTo(client)) {
+                if (clientIds == null) {
+                    clientIds = new HashSet<>();
+                    for (Client otherClient : clients) {
+                        clientIds.add(otherClient.getClientId());
+                    }
+                }
+                if (clientIds.contains(persisted.client.getClientId())) {
+                    // Inserted before a persisted client that is still there, which needs a free sequence number
+                    if (persisted.sequenceNumber == lastSequenceNumber + 1) {
+                        return null;
+                    }
+                    persisted = null;
+                }
+            }
+
+            PersistedClient updated;
+            if (persisted == null) {
+                updated = new PersistedClient(++lastSequenceNumber, client);
+                changedBuckets.add(getBucket(updated.sequenceNumber, bucketCount));
+            } else {
+                updated = new PersistedClient(persisted.sequenceNumber, client);
+                lastSequenceNumber = persisted.sequenceNumber;
+                next++;
+                if (!persisted.isEqualTo(client)) {
+                    changedBuckets.add(getBucket(updated.sequenceNumber, bucketCount));
+                }
+                if (!persisted.client.getClientId().equals(client.getClientId())) {
+                    changedClientsById.putIfAbsent(persisted.client.getClientId(), null);
+                }
+            }
+            changedClientsById.put(client.getClientId(), updated);
+            updatedClients.add(updated);
+        }
+        while (next < persistedClients.size()) {
+            removeClient(persistedClients.get(next++), bucketCount, changedBuckets, changedClientsById);
+        }
+        return updatedClients;
+    }
+
+    private static void removeClient(PersistedClient client, int bucketCount, Set<Integer> changedBuckets,
+            Map<ClientId, PersistedClient> changedClientsById) {
+        changedBuckets.add(getBucket(client.sequenceNumber, bucketCount));
+        changedClientsById.putIfAbsent(client.client.getClientId(), null);
+    }
+
+    /**
+     * The snapshot of a client as last written to disk, along with its sequence number. The snapshot stays the same
+     * object for as long as the client is unchanged.
+     */
+    private static class PersistedClient {
+        private final long sequenceNumber;
+        private final Client client;
+
+        PersistedClient(long sequenceNumber, Client client) {
+            this.sequenceNumber = sequenceNumber;
+            this.client = client.getSnapshot();
+        }
+
+        /**
+         * Returns true if {@code other} has the same data as this client as written, apart from the client ID.
+         * Client notes that are still attached to their loader are unchanged as long as the loader is, so they are
+         * not loaded to be compared.
+         */
+        boolean isEqualTo(Client other) {
+            if (client == other.getSnapshot()) {
+                return true;
+            }
+            if (!client.equals(other)
+                    || !Objects.equals(client.getLastModifiedInstant(), other.getLastModifiedInstant())) {
+                return false;
+            }
+            return client.getClientNotesLoader() == null
+                    ? client.getClientNotesAsUnmodifiableList().equals(other.getClientNotesAsUnmodifiableList())
+                    : client.getClientNotesLoader() == other.getClientNotesLoader();
+        }
+    }
+
+    /**
+     * An entry of a client shard, read without the client notes stored beside the client.
+     */
+    private static class ShardEntry {
+        private long sequenceNumber;
+        private final List<String> clientNoteTags = new ArrayList<>();
+        private JsonAdaptedClient client;
+        // The byte offset of the client notes stored beside the client, or -1 if they are stored inside the client.
+        private long clientNotesOffset = -1;
+    }
+
+    /**
+     * Loads client notes from the shard they were last written to, or from memory once that shard is deleted.
+     * The location is only read and changed while holding the lock of the storage that created the loader.
+     */
+    private class ShardClientNotesLoader implements ClientNotesLoader {
+        // Only changed by the save holding the lock of the storage, and only while holding the lock of this loader,
+        // so that loading client notes never waits for a save to finish.
+        private Path shardFile;
+        private long offset;
+        private List<Note> pinnedClientNotes;
+
+        ShardClientNotesLoader(Path shardFile, long offset) {
+            this.shardFile = shardFile;
+            this.offset = offset;
+        }
+
+        boolean isFrom(ShardedTbmManagerStorage storage) {
+            return ShardedTbmManagerStorage.this == storage;
+        }
+
+        synchronized void relocate(Path shardFile, long offset) {
+            this.shardFile = shardFile;
+            this.offset = offset;
+        }
+
+        synchronized void pin(List<Note> clientNotes) {
+            pinnedClientNotes = clientNotes;
+        }
+
+        @Override
+        public synchronized List<Note> loadClientNotes() {
+            if (pinnedClientNotes != null) {
+                return pinnedClientNotes;
+            }
+            try {
+                return readClientNotes(shardFile, offset);
+            } catch (IOException | IllegalValueException e) {
+                throw new ClientNotesUnavailableException("Failed to load client notes from " + shardFile, e);
+            }
+        }
+    }
+
+}
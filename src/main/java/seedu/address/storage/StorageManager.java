@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -19,6 +20,11 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final TbmManagerStorage tbmManagerStorage;
     private final UserPrefsStorage userPrefsStorage;
+    // The storage that read the sharded data file being converted to the format of tbmManagerStorage, if any
+    private ShardedTbmManagerStorage convertedShardedStorage;
+    private Path convertedShardedFilePath;
+    // The snapshot whose journal is being folded into the format of tbmManagerStorage, if any
+    private Path convertedJournalFilePath;
 
     /**
      * Creates a {@code StorageManager} with the given {@code TbmManagerStorage} and {@code UserPrefStorage}.
@@ -62,7 +68,50 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyTbmManager> readTbmManager(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return tbmManagerStorage.readTbmManager(filePath);
+        return getTbmManagerStorageFor(filePath).readTbmManager(filePath);
+    }
+
+    /**
+     * Returns the {@code TbmManagerStorage} that can read the file at {@code filePath}, as told by its header.
+     * A data file in a different format from {@code tbmManagerStorage} is converted on the next save, after which
+     * the shards of a converted sharded data file, or the journals of a converted journal snapshot, are deleted.
+     */
+    private TbmManagerStorage getTbmManagerStorageFor(Path filePath) throws IOException {
+        boolean hasJournal = JournalTbmManagerStorage.hasJournal(filePath);
+        if (!Files.exists(filePath) && !hasJournal) {
+            return tbmManagerStorage;
+        }
+
+        TbmManagerStorage fileStorage;
+        if (hasJournal && !(tbmManagerStorage instanceof JournalTbmManagerStorage)
+                && !BinaryTbmManagerStorage.isBinaryFile(filePath)
+                && !ShardedTbmManagerStorage.isManifestFile(filePath)) {
+            // The changes in the journal are only kept if the snapshot is read along with them
+            fileStorage = new JournalTbmManagerStorage(filePath, Long.MAX_VALUE);
+            convertedJournalFilePath = filePath;
+        } else if (BinaryTbmManagerStorage.isBinaryFile(filePath)) {
+            fileStorage = tbmManagerStorage instanceof BinaryTbmManagerStorage
+                    ? tbmManagerStorage
+                    : new BinaryTbmManagerStorage(filePath);
+        } else if (ShardedTbmManagerStorage.isManifestFile(filePath)) {
+            fileStorage = tbmManagerStorage instanceof ShardedTbmManagerStorage
+                    ? tbmManagerStorage
+                    : new ShardedTbmManagerStorage(filePath);
+            if (fileStorage != tbmManagerStorage) {
+                convertedShardedStorage = (ShardedTbmManagerStorage) fileStorage;
+                convertedShardedFilePath = filePath;
+            }
+        } else {
+            fileStorage = tbmManagerStorage instanceof BinaryTbmManagerStorage
+                    || tbmManagerStorage instanceof ShardedTbmManagerStorage
+                    ? new JsonTbmManagerStorage(filePath)
+                    : tbmManagerStorage;
+        }
+
+        if (fileStorage != tbmManagerStorage) {
+            logger.info("Data file " + filePath + " will be converted on the next save");
+        }
+        return fileStorage;
     }
 
     @Override
@@ -74,6 +123,43 @@ public class StorageManager implements Storage {
     public void saveTbmManager(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         tbmManagerStorage.saveTbmManager(tbmManager, filePath);
+        if (convertedShardedStorage != null && filePath.equals(convertedShardedFilePath)) {
+            deleteConvertedShards();
+        }
+        if (filePath.equals(convertedJournalFilePath)) {
+            deleteConvertedJournals();
+        }
+    }
+
+    /**
+     * Deletes the journals of the journal snapshot that was just saved over in the format of
+     * {@code tbmManagerStorage}, so that they are not replayed onto different data later.
+     */
+    private void deleteConvertedJournals() {
+        try {
+            JournalTbmManagerStorage.deleteJournals(convertedJournalFilePath);
+            logger.info("Removed the journals of the converted data file: " + convertedJournalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to remove the journals of the converted data file " + convertedJournalFilePath
+                    + ": " + ioe);
+        }
+        convertedJournalFilePath = null;
+    }
+
+    /**
+     * Deletes the shards of the sharded data file that was just saved over in the format of
+     * {@code tbmManagerStorage}.
+     */
+    private void deleteConvertedShards() {
+        Path shardDirectory = ShardedTbmManagerStorage.getShardDirectory(convertedShardedFilePath);
+        try {
+            convertedShardedStorage.deleteShardDirectory(convertedShardedFilePath);
+            logger.info("Removed the shards of the converted data file: " + shardDirectory);
+        } catch (IOException ioe) {
+            logger.warning("Failed to remove the shards of the converted data file " + shardDirectory + ": " + ioe);
+        }
+        convertedShardedStorage = null;
+        convertedShardedFilePath = null;
     }
 
 }
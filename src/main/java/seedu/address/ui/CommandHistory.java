@@ -34,7 +34,7 @@ public class CommandHistory {
      */
     public void add(String command) {
         requireAllNonNull(command);
-        logger.info(history.toString());
+        logger.fine(history::toString);
 
         history.add(command);
         pointer = history.size();
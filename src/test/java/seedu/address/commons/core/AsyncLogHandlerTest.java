@@ -0,0 +1,134 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogSettings.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        List<Handler> targets = Collections.emptyList();
+        assertThrows(NullPointerException.class, () -> new AsyncLogHandler(null, 1, OverflowPolicy.DROP));
+        assertThrows(NullPointerException.class, () -> new AsyncLogHandler(targets, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(targets, 0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void flush_publishedRecords_writtenInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 4, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.getMessages().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("record " + i, target.getMessages().get(i));
+        }
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(1, target.flushCount);
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_recordsDropped() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canWrite = new CountDownLatch(1);
+        target.isWriting = isWriting;
+        target.canWrite = canWrite;
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP);
+
+        // The first record is taken out of the buffer and held by the target, so two more fill the buffer
+        handler.publish(new LogRecord(Level.INFO, "written first"));
+        isWriting.await();
+        handler.publish(new LogRecord(Level.INFO, "buffered"));
+        handler.publish(new LogRecord(Level.INFO, "also buffered"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        canWrite.countDown();
+        handler.close();
+        assertEquals(List.of("written first", "buffered", "also buffered"), target.getMessages());
+    }
+
+    @Test
+    public void publish_belowLevel_recordIgnored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1, OverflowPolicy.DROP);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.close();
+
+        assertEquals(Collections.emptyList(), target.getMessages());
+    }
+
+    @Test
+    public void close_recordsPublishedAfterwards_ignoredAndTargetsLeftOpen() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1, OverflowPolicy.BLOCK);
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        handler.flush();
+
+        assertEquals(List.of("before close"), target.getMessages());
+        assertEquals(0, handler.getDroppedCount());
+        assertFalse(target.isClosed);
+    }
+
+    /**
+     * A handler that keeps the messages of the records it is given, optionally holding on to the first record until
+     * it is allowed to write it.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private CountDownLatch isWriting;
+        private CountDownLatch canWrite;
+        private int flushCount;
+        private boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            if (isWriting != null && isWriting.getCount() > 0) {
+                isWriting.countDown();
+                try {
+                    canWrite.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+}
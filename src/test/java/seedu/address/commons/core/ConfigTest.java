@@ -3,6 +3,7 @@ package seedu.address.commons.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TestUtil.basicEqualsTests;
 
 import java.nio.file.Paths;
@@ -26,10 +27,19 @@ public class ConfigTest {
         assertEquals(Paths.get("prefs.json"), defaultConfig.getUserPrefsFilePath());
     }
 
+    @Test
+    public void getLogSettings_returnsSetLogSettings() {
+        LogSettings logSettings = new LogSettings(true, 16, LogSettings.OverflowPolicy.DROP);
+        defaultConfig.setLogSettings(logSettings);
+        assertEquals(logSettings, defaultConfig.getLogSettings());
+        assertThrows(NullPointerException.class, () -> defaultConfig.setLogSettings(null));
+    }
+
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Log Settings : " + new LogSettings();
 
         assertEquals(defaultConfigAsString, defaultConfig.toString());
     }
@@ -48,6 +58,11 @@ public class ConfigTest {
         Config differentPath = new Config();
         differentPath.setUserPrefsFilePath(Paths.get("different path"));
         assertFalse(defaultConfig.equals(differentPath));
+
+        // different log settings -> not equal
+        Config differentLogSettings = new Config();
+        differentLogSettings.setLogSettings(new LogSettings(true, 16, LogSettings.OverflowPolicy.BLOCK));
+        assertFalse(defaultConfig.equals(differentLogSettings));
     }
 
     @Test
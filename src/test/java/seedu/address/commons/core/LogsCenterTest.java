@@ -0,0 +1,64 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void lazyFormat_formatsWhenCalled() {
+        assertEquals("note 1: hello", LogsCenter.lazyFormat("note %d: %s", 1, "hello").get());
+    }
+
+    @Test
+    public void getLogger_belowLogLevel_messageNotBuilt() {
+        Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+        assertEquals(Level.INFO, logger.getLevel());
+        assertFalse(logger.isLoggable(Level.FINE));
+        logger.fine(() -> fail("Message below the logging level should not be built"));
+    }
+
+    @Test
+    public void init_existingLogger_logLevelUpdated() {
+        Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+        Config config = new Config();
+        config.setLogLevel(Level.FINE);
+        try {
+            LogsCenter.init(config);
+            assertEquals(Level.FINE, logger.getLevel());
+            assertTrue(logger.isLoggable(Level.FINE));
+        } finally {
+            LogsCenter.init(new Config());
+        }
+
+        assertEquals(Level.INFO, logger.getLevel());
+        assertFalse(logger.isLoggable(Level.FINE));
+    }
+
+    @Test
+    public void init_asynchronousLogging_loggersUseAsyncHandlerUntilShutdown() {
+        Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+        Config config = new Config();
+        config.setLogSettings(new LogSettings(true, 16, LogSettings.OverflowPolicy.DROP));
+        try {
+            LogsCenter.init(config);
+            assertTrue(Arrays.stream(logger.getHandlers()).allMatch(handler -> handler instanceof AsyncLogHandler));
+            logger.info("logged asynchronously");
+            assertEquals(0, LogsCenter.getDroppedLogRecordCount());
+        } finally {
+            LogsCenter.shutdown();
+        }
+
+        assertTrue(logger.getHandlers().length > 0);
+        assertTrue(Arrays.stream(logger.getHandlers()).noneMatch(handler -> handler instanceof AsyncLogHandler));
+        assertEquals(0, LogsCenter.getDroppedLogRecordCount());
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,44 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openForReading_smallFile_readsWholeFile() throws Exception {
+        assertReadsWholeFile(FileUtil.MAPPED_READ_THRESHOLD - 1);
+    }
+
+    @Test
+    public void openForReading_largeFile_readsWholeFile() throws Exception {
+        assertReadsWholeFile(FileUtil.MAPPED_READ_THRESHOLD + 1);
+    }
+
+    @Test
+    public void openForReading_largeFile_singleBytesAndSkip() throws Exception {
+        Path file = testFolder.resolve("large.bin");
+        byte[] content = new byte[(int) FileUtil.MAPPED_READ_THRESHOLD];
+        content[0] = (byte) 0xFF;
+        content[content.length - 1] = 7;
+        Files.write(file, content);
+
+        try (InputStream in = FileUtil.openForReading(file)) {
+            assertEquals(content.length, in.available());
+            assertEquals(0xFF, in.read());
+            assertEquals(content.length - 2, in.skip(content.length - 2));
+            assertEquals(7, in.read());
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[1], 0, 1));
+            assertEquals(0, in.skip(1));
+        }
+    }
+
+    private void assertReadsWholeFile(long size) throws Exception {
+        Path file = testFolder.resolve("file.bin");
+        byte[] content = new byte[(int) size];
+        new Random(size).nextBytes(content);
+        Files.write(file, content);
+
+        try (InputStream in = FileUtil.openForReading(file)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
 }
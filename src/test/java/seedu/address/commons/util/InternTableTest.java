@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternTableTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new InternTable<String, String>(1, null));
+        assertThrows(IllegalArgumentException.class, () -> new InternTable<String, String>(0, String::new));
+    }
+
+    @Test
+    public void intern_equalKeys_sameValue() {
+        InternTable<String, String> table = new InternTable<>(2, String::new);
+        String value = table.intern("a");
+        assertSame(value, table.intern(new String("a")));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void intern_tableFull_freshValueNotAdded() {
+        InternTable<String, String> table = new InternTable<>(1, String::new);
+        String value = table.intern("a");
+        String otherValue = table.intern("b");
+
+        assertEquals("b", otherValue);
+        assertNotSame(otherValue, table.intern("b"));
+        assertSame(value, table.intern("a"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingAdded() {
+        InternTable<String, Integer> table = new InternTable<>(1, Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> table.intern("not a number"));
+        assertEquals(0, table.size());
+        assertThrows(NullPointerException.class, () -> table.intern(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,24 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "a"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("a", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(0, StringUtil.getEditDistance("add", "add"));
+        assertEquals(3, StringUtil.getEditDistance("", "add"));
+        assertEquals(1, StringUtil.getEditDistance("ad", "add")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("delette", "delete")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("edot", "edit")); // substitution
+        assertEquals(1, StringUtil.getEditDistance("veiw", "view")); // swap of adjacent characters
+        assertEquals(3, StringUtil.getEditDistance("ca", "abc")); // a swapped substring is not edited again
+        assertEquals(StringUtil.getEditDistance("client", "country"), StringUtil.getEditDistance("country", "client"));
+    }
 }
@@ -18,6 +18,9 @@ import static seedu.address.testutil.TypicalClients.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,8 +35,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.TbmManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
+import seedu.address.storage.AsyncTbmManagerSaver;
 import seedu.address.storage.JsonTbmManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -132,6 +137,85 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonTbmManagerStorage tbmManagerStorage =
+                new JsonTbmManagerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTbmManager.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(tbmManagerStorage, userPrefsStorage));
+        long lastSavedVersion = logicManager.getLastSavedVersion();
+
+        // storage would throw if it were called
+        logicManager.execute(ClientListCommand.COMMAND_WORD);
+        assertEquals(lastSavedVersion, logicManager.getLastSavedVersion());
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesNewVersion() throws Exception {
+        LogicManager logicManager = new LogicManager(model, storage);
+        long initialVersion = logicManager.getLastSavedVersion();
+        String addCommand = ClientAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + TIMEZONE_DESC_AMY + CONTRACT_EXPIRY_DATE_DESC_AMY;
+
+        logicManager.execute(addCommand);
+        assertNotEquals(initialVersion, logicManager.getLastSavedVersion());
+        assertEquals(model.getTbmManagerVersion(), logicManager.getLastSavedVersion());
+        assertTrue(storage.readTbmManager().isPresent());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_lastSavedVersionUnchanged() {
+        JsonTbmManagerStorage tbmManagerStorage =
+                new JsonTbmManagerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTbmManager.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(tbmManagerStorage, userPrefsStorage));
+        long lastSavedVersion = logicManager.getLastSavedVersion();
+        String addCommand = ClientAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + TIMEZONE_DESC_AMY + CONTRACT_EXPIRY_DATE_DESC_AMY;
+
+        assertThrows(CommandException.class, () -> logicManager.execute(addCommand));
+        assertEquals(lastSavedVersion, logicManager.getLastSavedVersion());
+    }
+
+    @Test
+    public void execute_withAsyncSaver_savesInBackground() throws Exception {
+        AsyncTbmManagerSaver saver = new AsyncTbmManagerSaver(storage, model.getTbmManagerVersion());
+        LogicManager logicManager = new LogicManager(model, storage, saver);
+        String addCommand = ClientAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + TIMEZONE_DESC_AMY + CONTRACT_EXPIRY_DATE_DESC_AMY;
+
+        logicManager.execute(addCommand);
+        saver.flush();
+        assertEquals(model.getTbmManagerVersion(), logicManager.getLastSavedVersion());
+        assertEquals(model.getTbmManager(), new TbmManager(storage.readTbmManager().get()));
+        saver.shutdown();
+    }
+
+    @Test
+    public void execute_asyncSaverThrowsIoException_failureReported() throws Exception {
+        JsonTbmManagerStorage tbmManagerStorage =
+                new JsonTbmManagerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTbmManager.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(tbmManagerStorage, userPrefsStorage);
+        AsyncTbmManagerSaver saver = new AsyncTbmManagerSaver(storage, model.getTbmManagerVersion());
+        LogicManager logicManager = new LogicManager(model, storage, saver);
+        List<String> failureMessages = Collections.synchronizedList(new ArrayList<>());
+        logicManager.setSaveFailureHandler(failureMessages::add);
+        long lastSavedVersion = logicManager.getLastSavedVersion();
+        String addCommand = ClientAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + TIMEZONE_DESC_AMY + CONTRACT_EXPIRY_DATE_DESC_AMY;
+
+        // The command itself succeeds, and the failure is reported once the save is attempted
+        logicManager.execute(addCommand);
+        saver.flush();
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), failureMessages);
+        assertEquals(lastSavedVersion, logicManager.getLastSavedVersion());
+        saver.shutdown();
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
@@ -27,6 +27,7 @@ import seedu.address.model.ReadOnlyTbmManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TbmManager;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
 import seedu.address.model.note.CountryNote;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.TagNoteMap;
@@ -164,13 +165,23 @@ public class ClientAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyTbmManager getTbmManagerSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTbmManagerVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasClient(Client client) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteClient(Client target) {
+        public void deleteClient(ClientId targetId) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -185,7 +196,7 @@ public class ClientAddCommandTest {
         }
 
         @Override
-        public void setClient(Client target, Client editedClient) {
+        public void setClient(ClientId targetId, Client editedClient) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -254,11 +265,6 @@ public class ClientAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void refreshSortedFilteredClientListOrder() {
-            throw new AssertionError("This method should not be called");
-        }
-
         @Override
         public ObservableList<CountryNote> getSortedFilteredCountryNoteList() {
             throw new AssertionError("This method should not be called.");
@@ -35,7 +35,7 @@ public class ClientDeleteCommandTest {
         String expectedMessage = String.format(ClientDeleteCommand.MESSAGE_DELETE_CLIENT_SUCCESS, clientToDelete);
 
         ModelManager expectedModel = new ModelManager(model.getTbmManager(), new UserPrefs());
-        expectedModel.deleteClient(clientToDelete);
+        expectedModel.deleteClient(clientToDelete.getClientId());
 
         assertCommandSuccess(clientDeleteCommand, model, expectedMessage, expectedModel);
     }
@@ -58,7 +58,7 @@ public class ClientDeleteCommandTest {
         String expectedMessage = String.format(ClientDeleteCommand.MESSAGE_DELETE_CLIENT_SUCCESS, clientToDelete);
 
         Model expectedModel = new ModelManager(model.getTbmManager(), new UserPrefs());
-        expectedModel.deleteClient(clientToDelete);
+        expectedModel.deleteClient(clientToDelete.getClientId());
         showNoClient(expectedModel);
 
         assertCommandSuccess(clientDeleteCommand, model, expectedMessage, expectedModel);
@@ -64,7 +64,7 @@ public class ClientEditCommandTest {
         ClientEditCommand clientEditCommand = new ClientEditCommand(INDEX_FIRST_CLIENT, descriptor);
         String expectedMessage = String.format(ClientEditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, editedClient);
         Model expectedModel = new ModelManager(new TbmManager(model.getTbmManager()), new UserPrefs());
-        expectedModel.setClient(model.getSortedFilteredClientList().get(0), editedClient);
+        expectedModel.setClient(model.getSortedFilteredClientList().get(0).getClientId(), editedClient);
         assertCommandSuccess(clientEditCommand, model, expectedMessage, expectedModel);
     }
 
@@ -85,7 +85,7 @@ public class ClientEditCommandTest {
         String expectedMessage = String.format(ClientEditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, editedClient);
 
         Model expectedModel = new ModelManager(new TbmManager(model.getTbmManager()), new UserPrefs());
-        expectedModel.setClient(lastClient, editedClient);
+        expectedModel.setClient(lastClient.getClientId(), editedClient);
         assertCommandSuccess(clientEditCommand, model, expectedMessage, expectedModel);
     }
 
@@ -107,7 +107,7 @@ public class ClientEditCommandTest {
                 new EditClientDescriptorBuilder().withName(VALID_NAME_BOB).build());
         String expectedMessage = String.format(ClientEditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, editedClient);
         Model expectedModel = new ModelManager(new TbmManager(model.getTbmManager()), new UserPrefs());
-        expectedModel.setClient(model.getSortedFilteredClientList().get(0), editedClient);
+        expectedModel.setClient(model.getSortedFilteredClientList().get(0).getClientId(), editedClient);
         assertCommandSuccess(clientEditCommand, model, expectedMessage, expectedModel);
     }
 
@@ -156,10 +156,9 @@ public class ClientEditCommandTest {
     // Editing a client's non-note related fields should retain existing notes.
     @Test
     public void execute_changeClientName_preserveExistingClientNotes() throws CommandException {
-        Note clientNote = new Note("this note needs to persist after client gets edited");
         Set<Tag> tags = new HashSet<>();
         tags.add(new Tag("niceTag"));
-        clientNote.setTags(tags);
+        Note clientNote = new Note("this note needs to persist after client gets edited", tags);
         Index indexLastClient = Index.fromOneBased(model.getSortedFilteredClientList().size());
         Client lastClient = model.getSortedFilteredClientList().get(indexLastClient.getZeroBased());
         model.addClientNote(lastClient, clientNote);
@@ -172,7 +171,7 @@ public class ClientEditCommandTest {
         ClientEditCommand clientEditCommand = new ClientEditCommand(indexLastClient, descriptor);
         String expectedMessage = String.format(ClientEditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, editedClient);
         Model expectedModel = new ModelManager(new TbmManager(model.getTbmManager()), new UserPrefs());
-        expectedModel.setClient(lastClient, editedClient);
+        expectedModel.setClient(lastClient.getClientId(), editedClient);
         assertCommandSuccess(clientEditCommand, model, expectedMessage, expectedModel);
         clientEditCommand.execute(model);
         assertTrue(model.hasClient(editedClient));
@@ -114,14 +114,12 @@ class ClientNoteEditCommandTest {
         model.addClient(client1);
         model.addClientNote(client1, clientNote1);
 
-        Note parsedNote = new Note("");
-        Note expectedNote = new Note(NOTE_CONTENT_1);
         Tag testTag = new Tag("testTag");
         Set<Tag> expectedTagSet = new HashSet<>();
         expectedTagSet.add(testTag);
 
-        parsedNote.setTags(expectedTagSet);
-        expectedNote.setTags(expectedTagSet);
+        Note parsedNote = new Note("", expectedTagSet);
+        Note expectedNote = new Note(NOTE_CONTENT_1, expectedTagSet);
         Model expectedModel = new ModelManager();
         Client client1Copy = new ClientBuilder().withName("client1").build();
         expectedModel.addClient(client1Copy);
@@ -140,8 +138,7 @@ class ClientNoteEditCommandTest {
         testTagSet.add(testTag);
         Index clientIdx = Index.fromOneBased(1);
         Index clientNoteIdx = Index.fromOneBased(1);
-        Note clientNote1 = new Note(NOTE_CONTENT_1);
-        clientNote1.setTags(testTagSet);
+        Note clientNote1 = new Note(NOTE_CONTENT_1, testTagSet);
         Client client1 = new ClientBuilder().withName("client1").build();
         model.addClient(client1);
         model.addClientNote(client1, clientNote1);
@@ -170,14 +167,12 @@ class ClientNoteEditCommandTest {
         Tag oldTag = Tag.UNTAGGED;
         Set<Tag> oldTagSet = new HashSet<>();
         oldTagSet.add(oldTag);
-        Note oldClientNote = new Note(NOTE_CONTENT_1);
-        oldClientNote.setTags(oldTagSet);
+        Note oldClientNote = new Note(NOTE_CONTENT_1, oldTagSet);
 
         Tag newTag = new Tag("FreshTag");
         Set<Tag> newTagSet = new HashSet<>();
         newTagSet.add(newTag);
-        Note newClientNote = new Note(NOTE_CONTENT_2);
-        newClientNote.setTags(newTagSet);
+        Note newClientNote = new Note(NOTE_CONTENT_2, newTagSet);
 
         Client client = new ClientBuilder().withName("client1").build();
         model.addClient(client);
@@ -210,11 +205,9 @@ class ClientNoteEditCommandTest {
         oldTagSet.add(oldTag);
         Set<Tag> expectedTags = new HashSet<>(oldTagSet); // expected to preserve old tags and have new tags
         expectedTags.add(newTag);
-        Note oldClientNote = new Note(NOTE_CONTENT_1);
-        oldClientNote.setTags(oldTagSet);
+        Note oldClientNote = new Note(NOTE_CONTENT_1, oldTagSet);
         Note clientNote2 = new Note(NOTE_CONTENT_2);
-        Note newClientNote = new Note("dummy note to edit previous note");
-        newClientNote.setTags(newTagSet);
+        Note newClientNote = new Note("dummy note to edit previous note", newTagSet);
         Client client1 = new ClientBuilder().withName("client1").build();
         model.addClient(client1);
         model.addClientNote(client1, oldClientNote);
@@ -222,14 +215,14 @@ class ClientNoteEditCommandTest {
         Model expectedModel = new ModelManager();
         Client client1Copy = new ClientBuilder().withName("client1").build();
         expectedModel.addClient(client1Copy);
-        newClientNote.setTags(expectedTags); // containing old and new tags
-        expectedModel.addClientNote(client1Copy, newClientNote);
+        Note expectedClientNote = newClientNote.withTags(expectedTags); // containing old and new tags
+        expectedModel.addClientNote(client1Copy, expectedClientNote);
         expectedModel.addClientNote(client1Copy, clientNote2);
 
         Index clientIdx = Index.fromOneBased(1);
         Index clientNoteIdx = Index.fromOneBased(1);
         CommandResult expectedResult = new CommandResult(String.format(MESSAGE_EDIT_CLIENT_NOTE_SUCCESS,
-                client1.getName(), oldClientNote, newClientNote));
+                client1.getName(), oldClientNote, expectedClientNote));
         ClientNoteEditCommand clientNoteEditCommand = new ClientNoteEditCommand(clientIdx,
                 clientNoteIdx, newClientNote);
         assertCommandSuccess(clientNoteEditCommand, model, expectedResult, expectedModel);
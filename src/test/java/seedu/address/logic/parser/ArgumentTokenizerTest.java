@@ -6,10 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TestUtil.basicEqualsTests;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
 
+    private static final Prefix[] CLI_SYNTAX_PREFIXES = {CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE,
+        CliSyntax.PREFIX_EMAIL, CliSyntax.PREFIX_ADDRESS, CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_COUNTRY,
+        CliSyntax.PREFIX_TIMEZONE, CliSyntax.PREFIX_CONTRACT_EXPIRY_DATE, CliSyntax.PREFIX_NOTE,
+        CliSyntax.PREFIX_SUGGEST};
+
     private final Prefix unknownPrefix = new Prefix("--u");
     private final Prefix pSlash = new Prefix("p/");
     private final Prefix dashT = new Prefix("-t");
@@ -137,6 +144,49 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_sameAsLegacyTokenizer() {
+        String[] argsStrings = {"", " ", "n/", " n/", " n/Alice", "1 n/Alice p/98765432 t/friend t/colleague",
+            " n/Alice nt/note tz/UTC+08:00 t/tag ce/1-1-2021 c/SG", " nt/n/ t/tz/ p/ e/ a/ by/", "n/Alice\tp/123",
+            " n/ n/ n/", " e/hip/900", "  preamble  with  spaces  n/  value  ", " cn/SG c/ SG", " N/Alice"};
+        for (String argsString : argsStrings) {
+            assertSameAsLegacyTokenizer(argsString, CLI_SYNTAX_PREFIXES);
+            assertSameAsLegacyTokenizer(argsString, CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_TAG);
+        }
+    }
+
+    @Test
+    public void tokenize_randomArgsStrings_sameAsLegacyTokenizer() {
+        String[] fragments = {" ", "  ", "\t", "n", "t", "z", "/", "Alice", "1", "n/", "nt/", "t/", "tz/", "p/", "e/",
+            "c/", "ce/", "by/", "a/"};
+        Random random = new Random(2103);
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            int fragmentCount = random.nextInt(16);
+            for (int j = 0; j < fragmentCount; j++) {
+                argsString.append(fragments[random.nextInt(fragments.length)]);
+            }
+            assertSameAsLegacyTokenizer(argsString.toString(), CLI_SYNTAX_PREFIXES);
+            assertSameAsLegacyTokenizer(argsString.toString(), CliSyntax.PREFIX_NOTE, CliSyntax.PREFIX_TIMEZONE,
+                    CliSyntax.PREFIX_PHONE);
+        }
+    }
+
+    /**
+     * Asserts that {@code argsString} is tokenized with {@code prefixes} into the same arguments as by the legacy
+     * tokenizer, for the preamble and every prefix in {@link CliSyntax}.
+     */
+    private void assertSameAsLegacyTokenizer(String argsString, Prefix... prefixes) {
+        ArgumentMultimap expected = LegacyArgumentTokenizer.tokenize(argsString, prefixes);
+        ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString, prefixes);
+
+        assertEquals(expected.getAllValues(new Prefix("")), actual.getAllValues(new Prefix("")), argsString);
+        assertEquals(expected.getPreamble(), actual.getPreamble(), argsString);
+        for (Prefix prefix : CLI_SYNTAX_PREFIXES) {
+            assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString);
+        }
+    }
+
     @Test
     public void equals() {
         Prefix aaa = new Prefix("aaa");
@@ -66,8 +66,7 @@ class ClientNoteAddCommandParserTest {
 
     @Test
     public void parse_hasIndexHasNote_equalsExpected() {
-        Note expectedClientNote = new Note(NOTE_STRING);
-        expectedClientNote.setTags(untaggedTags);
+        Note expectedClientNote = new Note(NOTE_STRING, untaggedTags);
         ClientNoteAddCommand expected = new ClientNoteAddCommand(Index.fromOneBased(1), expectedClientNote);
         assertParseSuccess(parser, HAS_INDEX_HAS_NOTE, expected);
     }
@@ -95,8 +94,7 @@ class ClientNoteAddCommandParserTest {
 
     @Test
     void parse_validFormatUntaggedNote_parseSuccess() {
-        Note expectedClientNote = new Note(NOTE_STRING);
-        expectedClientNote.setTags(untaggedTags);
+        Note expectedClientNote = new Note(NOTE_STRING, untaggedTags);
         ClientNoteAddCommand expectedCommand = new ClientNoteAddCommand(Index.fromOneBased(1), expectedClientNote);
         String userInput = INDEX_STRING + SPACE + PREFIX_NOTE + NOTE_STRING;
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -104,8 +102,7 @@ class ClientNoteAddCommandParserTest {
 
     @Test
     void parse_validFormatTaggedNote_parseSuccess() {
-        Note expectedClientNote = new Note(NOTE_STRING);
-        expectedClientNote.setTags(tags);
+        Note expectedClientNote = new Note(NOTE_STRING, tags);
         ClientNoteAddCommand expectedCommand = new ClientNoteAddCommand(Index.fromOneBased(1), expectedClientNote);
         String userInput = INDEX_STRING + SPACE + PREFIX_TAG
                 + SPACE + testTag.tagName + SPACE + PREFIX_NOTE + NOTE_STRING;
@@ -114,8 +111,7 @@ class ClientNoteAddCommandParserTest {
 
     @Test
     void parse_hasTagPrefixNoTagString_parseFailure() {
-        Note expectedClientNote = new Note(NOTE_STRING);
-        expectedClientNote.setTags(untaggedTags);
+        Note expectedClientNote = new Note(NOTE_STRING, untaggedTags);
         String userInput = INDEX_STRING + SPACE + PREFIX_TAG + SPACE + PREFIX_NOTE + NOTE_STRING;
         ClientNoteAddCommandParser parser = new ClientNoteAddCommandParser(tagNoteMap);
         assertParseFailure(parser, userInput, Tag.MESSAGE_CONSTRAINTS);
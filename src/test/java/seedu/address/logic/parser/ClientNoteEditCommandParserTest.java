@@ -82,18 +82,16 @@ class ClientNoteEditCommandParserTest {
 
     @Test
     public void parse_hasClientIndexHasNoteIndexHasNote_equalsExpected() {
-        Note expectedClientNote = new Note(NOTE_STRING);
-        expectedClientNote.setTags(untaggedTags);
+        Note expectedClientNote = new Note(NOTE_STRING, untaggedTags);
         ClientNoteEditCommand expected = new ClientNoteEditCommand(CLIENT_INDEX, NOTE_INDEX, expectedClientNote);
         assertParseSuccess(parser, HAS_CLIENT_INDEX_HAS_NOTE_INDEX_HAS_NOTE, expected);
     }
 
     @Test
     public void parse_hasClientIndexHasNoteIndexOnlyTags_equalsExpected() {
-        Note expectedClientNote = new Note("");
         Set<Tag> expectedTags = new HashSet<>();
         expectedTags.add(testTag);
-        expectedClientNote.setTags(expectedTags);
+        Note expectedClientNote = new Note("", expectedTags);
         ClientNoteEditCommand expectedCommand = new ClientNoteEditCommand(CLIENT_INDEX, NOTE_INDEX, expectedClientNote);
         String userInput = CLIENT_INDEX_STRING + SPACE + NOTE_INDEX_STRING + SPACE + PREFIX_TAG + testTag.tagName;
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -101,10 +99,9 @@ class ClientNoteEditCommandParserTest {
 
     @Test
     public void parse_validUntaggedNote_parseSuccess() {
-        Note expectedClientNote = new Note(NOTE_STRING);
         Set<Tag> untaggedSet = new HashSet<>();
         untaggedSet.add(Tag.UNTAGGED);
-        expectedClientNote.setTags(untaggedSet);
+        Note expectedClientNote = new Note(NOTE_STRING, untaggedSet);
         ClientNoteEditCommand expectedCommand = new ClientNoteEditCommand(CLIENT_INDEX, NOTE_INDEX, expectedClientNote);
         String userInput = CLIENT_INDEX_STRING + SPACE + NOTE_INDEX_STRING + SPACE + PREFIX_NOTE + NOTE_STRING;
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -112,8 +109,7 @@ class ClientNoteEditCommandParserTest {
 
     @Test
     public void parse_validFormatTaggedNote_parseSuccess() {
-        Note expectedClientNote = new Note(NOTE_STRING);
-        expectedClientNote.setTags(tags);
+        Note expectedClientNote = new Note(NOTE_STRING, tags);
         ClientNoteEditCommand expectedCommand = new ClientNoteEditCommand(CLIENT_INDEX, NOTE_INDEX, expectedClientNote);
         String userInput = CLIENT_INDEX_STRING + SPACE + NOTE_INDEX_STRING + SPACE + PREFIX_TAG
                 + SPACE + testTag.tagName + SPACE + PREFIX_NOTE + NOTE_STRING;
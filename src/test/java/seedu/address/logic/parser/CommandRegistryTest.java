@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final List<String> parsedArgs = new ArrayList<>();
+    private final CommandRegistry registry = new CommandRegistry();
+
+    public CommandRegistryTest() {
+        registry.register("client note add", args -> {
+            parsedArgs.add(args);
+            return new ClearCommand();
+        });
+        registry.register("client note edit", args -> new ExitCommand());
+        registry.register("client add", args -> new HelpCommand());
+        registry.register("exit", args -> new ExitCommand());
+    }
+
+    @Test
+    public void register_invalidCommandWord_throwsException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, args -> new ExitCommand()));
+        assertThrows(NullPointerException.class, () -> registry.register("help", null));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("", args -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("client add", args -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("client note", args -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("exit now", args -> new ExitCommand()));
+    }
+
+    @Test
+    public void parse_knownCommandWord_restParsedByItsParser() throws Exception {
+        assertTrue(registry.parse("  client \t note  add 1 nt/likes cats  ") instanceof ClearCommand);
+        assertEquals(List.of(" 1 nt/likes cats"), parsedArgs);
+
+        assertTrue(registry.parse("client note edit") instanceof ExitCommand);
+        assertTrue(registry.parse("client add n/Bob") instanceof HelpCommand);
+        assertTrue(registry.parse("exit") instanceof ExitCommand);
+    }
+
+    @Test
+    public void parse_incompleteCommandWord_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, invalidFormat, () -> registry.parse(""));
+        assertThrows(ParseException.class, invalidFormat, () -> registry.parse("client"));
+        assertThrows(ParseException.class, invalidFormat, () -> registry.parse("client note  "));
+    }
+
+    @Test
+    public void parse_unknownCommandWord_nearestCommandWordSuggested() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "client add"), () ->
+                registry.parse("client ad n/Bob"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "client note"), () ->
+                registry.parse("client ntoe edit"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "client note edit"), ()
+                -> registry.parse("client note eddit 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "exit"), () ->
+                registry.parse("exti"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "client"), () ->
+                registry.parse("Client add"));
+    }
+
+    @Test
+    public void parse_unknownCommandWordFarFromAnyOther_noSuggestion() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("clear"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("client remove 1"));
+    }
+}
@@ -76,10 +76,9 @@ public class CountryNoteAddCommandParserTest {
     @Test
     public void parse_validCountryHasNoteHasUntagged_equalsExpected() {
         try {
-            CountryNote countryNote = new CountryNote("random string", new Country("SG"));
             Set<Tag> tags = new HashSet<>();
             tags.add(Tag.UNTAGGED);
-            countryNote.setTags(tags);
+            CountryNote countryNote = new CountryNote("random string", new Country("SG"), tags);
             CountryNoteAddCommand expected = new CountryNoteAddCommand(countryNote);
             assertEquals(expected, parser.parse(" c/SG nt/random string"));
         } catch (ParseException e) {
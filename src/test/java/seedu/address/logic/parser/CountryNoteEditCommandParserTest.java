@@ -31,10 +31,9 @@ public class CountryNoteEditCommandParserTest {
 
     @Test
     public void parse_withIndexWithNoteWithTag_returnsExpected() {
-        CountryNote c = new CountryNote("abc", Country.NULL_COUNTRY);
         Set<Tag> tags = new HashSet<>();
         tags.add(new Tag("a"));
-        c.setTags(tags);
+        CountryNote c = new CountryNote("abc", Country.NULL_COUNTRY, tags);
         CountryNoteEditCommand expected = new CountryNoteEditCommand(Index.fromOneBased(1), c);
 
         assertParseSuccess(parser, " 1 nt/abc t/a", expected);
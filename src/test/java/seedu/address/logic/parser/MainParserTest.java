@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNTRY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUGGEST;
@@ -154,8 +155,7 @@ public class MainParserTest {
                 + " " + PREFIX_NOTE + noteString;
         Set<Tag> tags = new HashSet<>();
         tags.add(Tag.UNTAGGED);
-        CountryNote expected = new CountryNote(noteString, new Country(countryString));
-        expected.setTags(tags);
+        CountryNote expected = new CountryNote(noteString, new Country(countryString), tags);
         CountryNoteAddCommand command = (CountryNoteAddCommand) parser.parseCommand(commandString);
         assertEquals(new CountryNoteAddCommand(expected), command);
     }
@@ -213,8 +213,7 @@ public class MainParserTest {
                 + " " + PREFIX_NOTE + noteString;
         TagNoteMap tagNoteMap = new TagNoteMap();
         Set<Tag> tags = tagNoteMap.getUniqueTags(Collections.emptyList());
-        final Note note = new Note(noteString);
-        note.setTags(tags);
+        final Note note = new Note(noteString, tags);
         ClientNoteAddCommand command = (ClientNoteAddCommand) parser.parseCommand(commandString);
         assertEquals(new ClientNoteAddCommand(INDEX_FIRST_CLIENT, note), command);
     }
@@ -226,8 +225,7 @@ public class MainParserTest {
                 + " 1" + " " + PREFIX_NOTE + noteString;
         TagNoteMap tagNoteMap = new TagNoteMap();
         Set<Tag> tags = tagNoteMap.getUniqueTags(Collections.emptyList());
-        final Note note = new Note(noteString);
-        note.setTags(tags);
+        final Note note = new Note(noteString, tags);
 
         ClientNoteEditCommand command = (ClientNoteEditCommand) parser.parseCommand(commandString);
         assertEquals(new ClientNoteEditCommand(INDEX_FIRST_CLIENT, Index.fromOneBased(1), note), command);
@@ -307,4 +305,14 @@ public class MainParserTest {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
 
+    @Test
+    public void parseCommand_mistypedCommand_throwsParseExceptionWithSuggestion() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION,
+                ClientDeleteCommand.COMMAND_WORD), () -> parser.parseCommand("client delte 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION,
+                CountryNoteViewCommand.COMMAND_WORD), () -> parser.parseCommand("country note veiw"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION,
+                HelpCommand.COMMAND_WORD), () -> parser.parseCommand("hepl"));
+    }
+
 }
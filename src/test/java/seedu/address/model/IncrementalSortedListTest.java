@@ -0,0 +1,227 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+public class IncrementalSortedListTest {
+
+    private static final Comparator<IntegerProperty> BY_VALUE = Comparator.comparingInt(IntegerProperty::get);
+
+    private final ObservableList<IntegerProperty> source =
+            FXCollections.observableArrayList(property -> new Observable[] {property});
+    private final List<IntegerProperty> changedElements = new ArrayList<>();
+    private IncrementalSortedList<IntegerProperty> sortedList;
+    private List<IntegerProperty> replayedList;
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        for (int value : new int[] {5, 3, 8, 3, 1}) {
+            source.add(new SimpleIntegerProperty(value));
+        }
+        sortedList = new IncrementalSortedList<>(source);
+        replayedList = new ArrayList<>(sortedList);
+        sortedList.addListener((ListChangeListener<IntegerProperty>) this::replay);
+    }
+
+    @Test
+    public void constructor_noComparator_sourceOrder() {
+        assertSorted(null);
+    }
+
+    @Test
+    public void setComparator_sortsStably() {
+        sortedList.setComparator(BY_VALUE);
+        assertSorted(BY_VALUE);
+        assertEquals(source.get(1), sortedList.get(1));
+        assertEquals(source.get(3), sortedList.get(2));
+
+        sortedList.setComparator(null);
+        assertSorted(null);
+    }
+
+    @Test
+    public void sourceElementUpdated_movedWithSinglePermutation() {
+        sortedList.setComparator(BY_VALUE);
+        changeCount = 0;
+        changedElements.clear();
+
+        // moved to the end
+        source.get(4).set(10);
+        assertSorted(BY_VALUE);
+        assertEquals(source.get(4), sortedList.get(4));
+        assertEquals(1, changeCount);
+        assertEquals(List.of(source.get(4)), changedElements);
+
+        // moved to the front
+        source.get(2).set(0);
+        assertSorted(BY_VALUE);
+        assertEquals(source.get(2), sortedList.get(0));
+        assertEquals(2, changeCount);
+
+        // not moved
+        source.get(0).set(6);
+        assertSorted(BY_VALUE);
+        assertEquals(3, changeCount);
+    }
+
+    @Test
+    public void sourceElementsAddedAndRemoved_keptSorted() {
+        sortedList.setComparator(BY_VALUE);
+        source.add(new SimpleIntegerProperty(4));
+        source.add(0, new SimpleIntegerProperty(3));
+        assertSorted(BY_VALUE);
+
+        source.remove(2);
+        source.remove(0, 2);
+        assertSorted(BY_VALUE);
+
+        source.setAll(new SimpleIntegerProperty(2), new SimpleIntegerProperty(1));
+        assertSorted(BY_VALUE);
+    }
+
+    @Test
+    public void sourceSorted_keptSorted() {
+        FXCollections.sort(source, BY_VALUE.reversed());
+        assertSorted(null);
+
+        sortedList.setComparator(BY_VALUE);
+        FXCollections.sort(source, BY_VALUE);
+        assertSorted(BY_VALUE);
+    }
+
+    @Test
+    public void sourcePartlyPermuted_keptSorted() {
+        PermutableList permutableSource = new PermutableList(source);
+        sortedList = new IncrementalSortedList<>(permutableSource);
+        replayedList = new ArrayList<>(sortedList);
+        sortedList.addListener((ListChangeListener<IntegerProperty>) this::replay);
+
+        // swaps the elements at 2 and 3
+        permutableSource.permute(2, new int[] {3, 2});
+        assertSorted(permutableSource, null);
+
+        // reverses the elements from 1 to 3, which swaps the two elements of value 3
+        sortedList.setComparator(BY_VALUE);
+        IntegerProperty firstThree = permutableSource.get(1);
+        permutableSource.permute(1, new int[] {3, 2, 1});
+        assertSorted(permutableSource, BY_VALUE);
+        assertEquals(firstThree, sortedList.get(2));
+    }
+
+    @Test
+    public void randomChanges_sameAsSortingSource() {
+        Random random = new Random(2103);
+        sortedList.setComparator(BY_VALUE);
+        for (int i = 0; i < 1000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), new SimpleIntegerProperty(random.nextInt(20)));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else {
+                source.get(random.nextInt(source.size())).set(random.nextInt(20));
+            }
+            assertSorted(BY_VALUE);
+        }
+    }
+
+    /**
+     * Asserts that the sorted list is the source list stably sorted by {@code comparator}, and that its change
+     * events describe the same list.
+     */
+    private void assertSorted(Comparator<IntegerProperty> comparator) {
+        assertSorted(source, comparator);
+    }
+
+    /**
+     * Asserts that the sorted list is {@code source} stably sorted by {@code comparator}, and that its change events
+     * describe the same list.
+     */
+    private void assertSorted(List<IntegerProperty> source, Comparator<IntegerProperty> comparator) {
+        List<IntegerProperty> expected = new ArrayList<>(source);
+        if (comparator != null) {
+            expected.sort(comparator);
+        }
+        assertEquals(expected, sortedList);
+        assertEquals(expected, replayedList);
+        for (int i = 0; i < sortedList.size(); i++) {
+            assertEquals(sortedList.get(i), source.get(sortedList.getSourceIndex(i)));
+            assertEquals(i, sortedList.getViewIndex(sortedList.getSourceIndex(i)));
+        }
+    }
+
+    /**
+     * Applies {@code change} to the replayed list.
+     */
+    private void replay(ListChangeListener.Change<? extends IntegerProperty> change) {
+        changeCount++;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<IntegerProperty> permuted = new ArrayList<>(replayedList);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayedList.get(i));
+                }
+                replayedList = permuted;
+            } else if (change.wasUpdated()) {
+                changedElements.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+            } else {
+                replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedList.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * An observable list whose elements can be permuted within a range, which is reported as a permutation of only
+     * that range.
+     */
+    private static class PermutableList extends ObservableListBase<IntegerProperty> {
+        private final List<IntegerProperty> elements;
+
+        PermutableList(List<IntegerProperty> elements) {
+            this.elements = new ArrayList<>(elements);
+        }
+
+        /**
+         * Moves the element at each index {@code from + i} to {@code permutation[i]}.
+         */
+        void permute(int from, int[] permutation) {
+            List<IntegerProperty> permuted = new ArrayList<>(elements);
+            for (int i = 0; i < permutation.length; i++) {
+                permuted.set(permutation[i], elements.get(from + i));
+            }
+            elements.clear();
+            elements.addAll(permuted);
+
+            beginChange();
+            nextPermutation(from, from + permutation.length, permutation);
+            endChange();
+        }
+
+        @Override
+        public IntegerProperty get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
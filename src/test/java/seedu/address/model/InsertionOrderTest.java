@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class InsertionOrderTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("b", "d", "a");
+    private final Comparator<String> comparator = new InsertionOrder<>(list).comparator();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InsertionOrder<>(null));
+    }
+
+    @Test
+    public void comparator_initialElements_listOrder() {
+        assertListOrder();
+    }
+
+    @Test
+    public void comparator_elementsAppended_listOrder() {
+        list.add("c");
+        list.addAll("f", "e");
+        assertListOrder();
+    }
+
+    @Test
+    public void comparator_elementsInserted_listOrder() {
+        list.add(0, "c");
+        list.add(2, "e");
+        assertListOrder();
+    }
+
+    @Test
+    public void comparator_elementsRemoved_listOrder() {
+        list.remove("d");
+        list.add("c");
+        list.remove(0);
+        assertListOrder();
+    }
+
+    @Test
+    public void comparator_elementReplaced_listOrder() {
+        list.set(1, "c");
+        list.add("e");
+        assertListOrder();
+    }
+
+    @Test
+    public void comparator_listSortedAndReplaced_listOrder() {
+        FXCollections.sort(list);
+        assertListOrder();
+
+        list.setAll("z", "y", "x", "w");
+        assertListOrder();
+    }
+
+    private void assertListOrder() {
+        List<String> sorted = new ArrayList<>(list);
+        sorted.sort(comparator.reversed());
+        sorted.sort(comparator);
+        assertEquals(list, sorted);
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(comparator.compare(list.get(i - 1), list.get(i)) < 0);
+        }
+    }
+}
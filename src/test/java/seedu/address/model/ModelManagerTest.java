@@ -12,7 +12,10 @@ import static seedu.address.testutil.TypicalClients.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -89,7 +92,7 @@ public class ModelManagerTest {
         Client target = new ClientBuilder(ALICE).build();
         modelManager.addClient(target);
         assertTrue(modelManager.hasClient(ALICE));
-        modelManager.deleteClient(target);
+        modelManager.deleteClient(target.getClientId());
         assertFalse(modelManager.hasClient(target));
     }
 
@@ -188,7 +191,8 @@ public class ModelManagerTest {
 
         // different sortedList -> returns false
         modelManagerCopy = new ModelManager(tbmManager, userPrefs);
-        modelManagerCopy.updateSortedFilteredClientList((client1, client2) -> 1);
+        modelManagerCopy.updateSortedFilteredClientList(
+                Comparator.comparing((Client client) -> client.getName().fullName).reversed());
         assertFalse(modelManager.equals(modelManagerCopy));
 
         // different tagNoteMap -> returns false
@@ -201,8 +205,7 @@ public class ModelManagerTest {
     public void initializeTagNoteMap_validInputs_successful() {
         Set<Tag> tags = new HashSet<>();
         tags.add(new Tag("tagName"));
-        Note taggedNote = new Note("jurong hill was a nice place");
-        taggedNote.setTags(tags);
+        Note taggedNote = new Note("jurong hill was a nice place", tags);
         Client aliceTagged = new ClientBuilder(ALICE).build();
         aliceTagged.addClientNote(taggedNote);
         this.modelManager.addClient(aliceTagged);
@@ -285,6 +288,140 @@ public class ModelManagerTest {
         assertEquals(modelManagerCopy.getSortedFilteredClientList().get(0), client2);
     }
 
+    @Test
+    public void getSortedFilteredClientList_frequencyComparator_clientNoteAddedMovesClient() {
+        Client client1 = new ClientBuilder().withName("client1")
+                .withLastModifiedInstant("2020-01-01T00:00:00.000000Z").build();
+        Client client2 = new ClientBuilder().withName("client2")
+                .withLastModifiedInstant("2020-01-02T00:00:00.000000Z").build();
+        TbmManager tbmManager = new TbmManagerBuilder().withClient(client1).withClient(client2).build();
+        ModelManager modelManagerCopy = new ModelManager(tbmManager, new UserPrefs());
+        modelManagerCopy.updateSortedFilteredClientList(
+                new ClientSuggestionType(ClientSuggestionType.BY_FREQUENCY).getClientSuggestionComparator());
+        Client lastClient = modelManagerCopy.getSortedFilteredClientList().get(1);
+
+        modelManagerCopy.addClientNote(lastClient, new Note("note"));
+        assertEquals(lastClient, modelManagerCopy.getSortedFilteredClientList().get(0));
+
+        // back to the order of the client list
+        modelManagerCopy.resetSortedFilteredClientListOrder();
+        assertEquals(tbmManager.getClientList(), modelManagerCopy.getSortedFilteredClientList());
+    }
+
+    @Test
+    public void getSortedFilteredCountryNoteList_sameCountry_inOrderAdded() {
+        ModelManager modelManager = new ModelManager();
+        CountryNote first = new CountryNote("first", new Country("SG"));
+        CountryNote second = new CountryNote("second", new Country("MY"));
+        CountryNote third = new CountryNote("third", new Country("SG"));
+        CountryNote edited = new CountryNote("edited", new Country("SG"));
+        modelManager.addCountryNote(first);
+        modelManager.addCountryNote(second);
+        modelManager.addCountryNote(third);
+        assertEquals(Arrays.asList(second, first, third), modelManager.getSortedFilteredCountryNoteList());
+
+        // an edited country note keeps its place
+        modelManager.setCountryNote(first, edited);
+        assertEquals(Arrays.asList(second, edited, third), modelManager.getSortedFilteredCountryNoteList());
+
+        // a country note added again goes after the others
+        modelManager.deleteCountryNote(edited);
+        modelManager.addCountryNote(first);
+        assertEquals(Arrays.asList(second, third, first), modelManager.getSortedFilteredCountryNoteList());
+    }
+
+    @Test
+    public void setClient_sameClientNotes_tagNoteMapSameAsRebuilt() {
+        Note clientNote = getTaggedNote("client note", "vip");
+        CountryNote countryNote = new CountryNote("country note", new Country("SG"), Set.of(new Tag("vip")));
+        Client client = new ClientBuilder(ALICE).build();
+        client.addClientNote(clientNote);
+        modelManager = new ModelManager(new TbmManagerBuilder().withClient(client).withClient(BENSON).build(),
+                new UserPrefs());
+        modelManager.addCountryNote(countryNote);
+
+        Client target = modelManager.getSortedFilteredClientList().get(0);
+        Client editedClient = new ClientBuilder(target).withName("Alice Tan").build();
+        editedClient.addClientNote(clientNote);
+        modelManager.setClient(target.getClientId(), editedClient);
+        modelManager.setClient(editedClient.getClientId(), new ClientBuilder(editedClient).build());
+
+        assertTagNoteMapRebuilt(modelManager, clientNote, countryNote);
+    }
+
+    @Test
+    public void setClient_differentClientNotes_tagNoteMapSameAsRebuilt() {
+        Note clientNote = getTaggedNote("client note", "vip");
+        Note newClientNote = getTaggedNote("new client note", "golf");
+        Client client = new ClientBuilder(ALICE).build();
+        client.addClientNote(clientNote);
+        modelManager.addClient(client);
+
+        Client editedClient = new ClientBuilder(client).build();
+        editedClient.addClientNote(newClientNote);
+        modelManager.setClient(client.getClientId(), editedClient);
+
+        assertTagNoteMapRebuilt(modelManager, clientNote, newClientNote);
+        assertEquals(Collections.emptySet(), modelManager.getTagNoteMap().getTagsForNote(clientNote));
+    }
+
+    @Test
+    public void addAndDeleteClient_clientWithNotes_tagNoteMapSameAsRebuilt() {
+        Note clientNote = getTaggedNote("client note", "vip");
+        Note otherClientNote = getTaggedNote("other client note", "vip");
+        Client client = new ClientBuilder(ALICE).build();
+        client.addClientNote(clientNote);
+        Client otherClient = new ClientBuilder(BENSON).build();
+        otherClient.addClientNote(otherClientNote);
+
+        modelManager.addClient(client);
+        modelManager.addClient(otherClient);
+        assertTagNoteMapRebuilt(modelManager, clientNote, otherClientNote);
+
+        modelManager.deleteClient(client.getClientId());
+        assertTagNoteMapRebuilt(modelManager, clientNote, otherClientNote);
+        assertEquals(Set.of(otherClientNote), modelManager.getTagNoteMap().getNotesForTag(new Tag("vip")));
+    }
+
+    @Test
+    public void setTbmManager_clientsWithNotes_tagNoteMapSameAsRebuilt() {
+        Note clientNote = getTaggedNote("client note", "vip");
+        Note otherClientNote = getTaggedNote("other client note", "golf");
+        Client client = new ClientBuilder(ALICE).build();
+        client.addClientNote(clientNote);
+        Client otherClient = new ClientBuilder(BENSON).build();
+        otherClient.addClientNote(otherClientNote);
+        modelManager.addClient(client);
+
+        modelManager.setTbmManager(new TbmManagerBuilder().withClient(otherClient).build());
+        assertTagNoteMapRebuilt(modelManager, clientNote, otherClientNote);
+    }
+
+    private static Note getTaggedNote(String content, String tagName) {
+        Note note = new Note(content, Set.of(new Tag(tagName)));
+        return note;
+    }
+
+    /**
+     * Asserts that the tag note map of {@code modelManager} holds the same tags and notes for each of {@code notes}
+     * and their tags as a tag note map rebuilt from the clients and country notes of {@code modelManager}.
+     */
+    private static void assertTagNoteMapRebuilt(ModelManager modelManager, Note... notes) {
+        TagNoteMap rebuilt = new TagNoteMap();
+        rebuilt.initTagNoteMapFromClients(modelManager.getTbmManager().getClientList());
+        rebuilt.initTagNoteMapFromCountryNotes(new ArrayList<>(modelManager.getTbmManager().getCountryNoteList()));
+
+        TagNoteMap tagNoteMap = modelManager.getTagNoteMap();
+        Set<Tag> tags = new HashSet<>(Set.of(Tag.UNTAGGED));
+        for (Note note : notes) {
+            assertEquals(rebuilt.getTagsForNote(note), tagNoteMap.getTagsForNote(note));
+            tags.addAll(note.getTags());
+        }
+        for (Tag tag : tags) {
+            assertEquals(rebuilt.getNotesForTag(tag), tagNoteMap.getNotesForTag(tag));
+        }
+    }
+
     @Test
     public void countryNotesListPanelIsVisible_setterAndGetter() {
         // default is false
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -25,6 +27,7 @@ import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.model.country.Country;
 import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
 import seedu.address.testutil.ClientBuilder;
 
 public class TbmManagerTest {
@@ -60,6 +63,39 @@ public class TbmManagerTest {
         assertEquals(tbmManager.getClientList().get(0), CLIENT);
     }
 
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        TbmManager typicalTbmManager = getTypicalTbmManager();
+        CountryNote countryNote = new CountryNote("country note", new Country("SG"));
+        typicalTbmManager.addCountryNote(countryNote);
+        ReadOnlyTbmManager snapshot = typicalTbmManager.getSnapshot();
+        assertEquals(typicalTbmManager, new TbmManager(snapshot));
+
+        typicalTbmManager.removeClient(typicalTbmManager.getClientList().get(0));
+        typicalTbmManager.getClientList().get(0).addClientNote(new Note("note"));
+        typicalTbmManager.deleteCountryNote(countryNote);
+        assertEquals(getTypicalTbmManager().getClientList(), snapshot.getClientList());
+        assertTrue(snapshot.getClientList().get(1).getClientNotesAsUnmodifiableList().isEmpty());
+        assertEquals(List.of(countryNote), snapshot.getCountryNoteList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getClientList().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_unchangedClients_sharedWithEarlierSnapshot() {
+        TbmManager typicalTbmManager = getTypicalTbmManager();
+        ReadOnlyTbmManager first = typicalTbmManager.getSnapshot();
+        typicalTbmManager.getClientList().get(0).addClientNote(new Note("note"));
+        typicalTbmManager.setClient(typicalTbmManager.getClientList().get(1),
+                new ClientBuilder(typicalTbmManager.getClientList().get(1)).withAddress(VALID_ADDRESS_BOB).build());
+        ReadOnlyTbmManager second = typicalTbmManager.getSnapshot();
+
+        assertNotSame(first.getClientList().get(0), second.getClientList().get(0));
+        assertNotSame(first.getClientList().get(1), second.getClientList().get(1));
+        for (int i = 2; i < second.getClientList().size(); i++) {
+            assertSame(first.getClientList().get(i), second.getClientList().get(i));
+        }
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> tbmManager.resetData(null));
@@ -84,7 +120,7 @@ public class TbmManagerTest {
 
     @Test
     public void setClient_nullClients_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> tbmManager.setClient(null, CLIENT));
+        assertThrows(NullPointerException.class, () -> tbmManager.setClient((Client) null, CLIENT));
         assertThrows(NullPointerException.class, () -> tbmManager.setClient(CLIENT, null));
     }
 
@@ -103,7 +139,7 @@ public class TbmManagerTest {
 
     @Test
     public void removeClient_nullClient_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> tbmManager.removeClient(null));
+        assertThrows(NullPointerException.class, () -> tbmManager.removeClient((Client) null));
     }
 
     @Test
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
 
 public class UserPrefsTest {
 
@@ -21,11 +22,15 @@ public class UserPrefsTest {
     private final UserPrefs userPrefsDifferentGuiSettings = new UserPrefs();
     private final Path differentFilePath = Path.of("different/file/path");
     private final UserPrefs userPrefsDifferentFilePath = new UserPrefs();
+    private final StorageSettings differentStorageSettings =
+            new StorageSettings(StorageSettings.Mode.JOURNAL, 1024, false);
+    private final UserPrefs userPrefsDifferentStorageSettings = new UserPrefs();
 
     @BeforeEach
     public void setUp() {
         userPrefsDifferentGuiSettings.setGuiSettings(differentGuiSettings);
         userPrefsDifferentFilePath.setTbmManagerFilePath(differentFilePath);
+        userPrefsDifferentStorageSettings.setStorageSettings(differentStorageSettings);
     }
 
     @Test
@@ -38,6 +43,9 @@ public class UserPrefsTest {
 
         newUserPrefs = new UserPrefs(userPrefsDifferentGuiSettings);
         assertEquals(newUserPrefs.getGuiSettings(), differentGuiSettings);
+
+        newUserPrefs = new UserPrefs(userPrefsDifferentStorageSettings);
+        assertEquals(newUserPrefs.getStorageSettings(), differentStorageSettings);
     }
 
     @Test
@@ -50,6 +58,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> defaultUserPrefs.setTbmManagerFilePath(null));
     }
 
+    @Test
+    public void setStorageSettings_nullStorageSettings_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> defaultUserPrefs.setStorageSettings(null));
+    }
+
     @Test
     public void equals() {
         // basic equals tests
@@ -63,6 +76,9 @@ public class UserPrefsTest {
 
         // different file paths -> returns false
         assertFalse(defaultUserPrefs.equals(userPrefsDifferentFilePath));
+
+        // different storage settings -> returns false
+        assertFalse(defaultUserPrefs.equals(userPrefsDifferentStorageSettings));
     }
 
     @Test
@@ -84,7 +100,8 @@ public class UserPrefsTest {
     public void toString_test() {
         assertEquals(defaultUserPrefs.toString(),
                 "Gui Settings : " + defaultUserPrefs.getGuiSettings().toString()
-                    + "\nLocal data file location : " + defaultUserPrefs.getTbmManagerFilePath().toString());
+                    + "\nLocal data file location : " + defaultUserPrefs.getTbmManagerFilePath().toString()
+                    + "\nStorage Settings : " + defaultUserPrefs.getStorageSettings().toString());
     }
 
 }
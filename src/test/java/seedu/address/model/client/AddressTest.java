@@ -63,4 +63,11 @@ public class AddressTest {
                 new Address("Blk 456, Den Road, #01-354").hashCode());
         assertNotEquals(new Address("-").hashCode(), new Address("+").hashCode());
     }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Address.parse(null));
+        assertTrue(Address.parse(" ").isEmpty());
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), Address.parse("Blk 456, Den Road, #01-355").get());
+    }
 }
@@ -0,0 +1,57 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.basicEqualsTests;
+
+import org.junit.jupiter.api.Test;
+
+class ClientIdTest {
+
+    private static final String VALID_CLIENT_ID = "3f2c1a9e-7b4d-4c1e-9a2b-5d6e7f809a1b";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ClientId((String) null));
+    }
+
+    @Test
+    public void constructor_invalidClientId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientId("1-1-1-1-1"));
+    }
+
+    @Test
+    public void isValidClientId() {
+        // invalid client IDs
+        assertFalse(ClientId.isValidClientId("")); // empty string
+        assertFalse(ClientId.isValidClientId("client")); // not a UUID
+        assertFalse(ClientId.isValidClientId("1-1-1-1-1")); // UUID in a shortened form
+
+        // valid client IDs
+        assertTrue(ClientId.isValidClientId(VALID_CLIENT_ID));
+        assertTrue(ClientId.isValidClientId(VALID_CLIENT_ID.toUpperCase()));
+    }
+
+    @Test
+    public void generate_returnsDifferentClientIds() {
+        assertNotEquals(ClientId.generate(), ClientId.generate());
+    }
+
+    @Test
+    public void toString_roundTrip() {
+        ClientId clientId = new ClientId(VALID_CLIENT_ID);
+        assertEquals(VALID_CLIENT_ID, clientId.toString());
+        assertEquals(clientId, new ClientId(clientId.toString()));
+    }
+
+    @Test
+    public void equals() {
+        ClientId clientId = new ClientId(VALID_CLIENT_ID);
+        basicEqualsTests(clientId);
+        assertEquals(clientId, new ClientId(VALID_CLIENT_ID));
+        assertNotEquals(clientId, ClientId.generate());
+    }
+}
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -18,10 +21,14 @@ import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BOB;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.client.exceptions.ClientNotesUnavailableException;
 import seedu.address.model.note.Note;
+import seedu.address.model.note.TagNoteMap;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.ClientBuilder;
 
 public class ClientTest {
@@ -197,5 +204,136 @@ public class ClientTest {
         assertEquals(expected, client.toString());
     }
 
+    @Test
+    public void equals_differentClientId_returnsTrue() {
+        Client aliceWithOtherId = new ClientBuilder(ALICE).withClientId(ClientId.generate()).build();
+        assertNotEquals(ALICE.getClientId(), aliceWithOtherId.getClientId());
+        assertEquals(ALICE, aliceWithOtherId);
+    }
+
+    @Test
+    public void copy_clientWithNotes_independentCopy() {
+        Client client = new ClientBuilder(BOB).build();
+        Note note = new Note("note");
+        client.addClientNote(note);
+
+        Client copy = client.copy();
+        assertEquals(client, copy);
+        assertEquals(client.getClientId(), copy.getClientId());
+        assertEquals(client.getLastModifiedInstant(), copy.getLastModifiedInstant());
+        assertEquals(client.getClientNotesAsUnmodifiableList(), copy.getClientNotesAsUnmodifiableList());
+
+        client.addClientNote(new Note("another note"));
+        assertEquals(List.of(note), copy.getClientNotesAsUnmodifiableList());
+    }
+
+    @Test
+    public void getSnapshot_sharedUntilClientNotesChange() {
+        Client client = new ClientBuilder(BOB).build();
+        Client snapshot = client.getSnapshot();
+        assertNotSame(client, snapshot);
+        assertEquals(client, snapshot);
+        assertSame(snapshot, client.getSnapshot());
+        assertSame(snapshot, snapshot.getSnapshot());
+
+        Note note = new Note("note");
+        client.addClientNote(note);
+        Client newSnapshot = client.getSnapshot();
+        assertNotSame(snapshot, newSnapshot);
+        assertEquals(List.of(note), newSnapshot.getClientNotesAsUnmodifiableList());
+        assertTrue(snapshot.getClientNotesAsUnmodifiableList().isEmpty());
+    }
+
+    @Test
+    public void getClientNotes_lazyClient_loadedOnceOnDemand() {
+        Note note = new Note("note");
+        int[] loadCount = {0};
+        Client client = getLazyClient(() -> {
+            loadCount[0]++;
+            return List.of(note);
+        }, Set.of(new Tag("indexed")));
+
+        // indexed tags are used until the client notes are loaded
+        assertFalse(client.isClientNotesLoaded());
+        assertEquals(Set.of(new Tag("indexed")), client.getClientNoteTags());
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(List.of(note), client.getClientNotesAsUnmodifiableList());
+        assertTrue(client.isClientNotesLoaded());
+        assertEquals(note.getTags(), client.getClientNoteTags());
+        client.getClientNotesAsObservableList();
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void copy_lazyClient_sharesLoaderWithoutLoading() {
+        ClientNotesLoader loader = () -> List.of(new Note("note"));
+        Client client = getLazyClient(loader, Set.of());
+
+        Client copy = client.copy();
+        assertFalse(copy.isClientNotesLoaded());
+        assertEquals(loader, copy.getClientNotesLoader());
+
+        // changing the client notes detaches them from the loader
+        copy.addClientNote(new Note("another note"));
+        assertNull(copy.getClientNotesLoader());
+        assertEquals(loader, client.getClientNotesLoader());
+        assertEquals(List.of(new Note("note")), client.getClientNotesAsUnmodifiableList());
+    }
+
+    @Test
+    public void pinClientNotes_loadedClientNotesCleared_sameNotesKept() {
+        // every load creates new note objects, as loading from storage does
+        Client client = getLazyClient(() -> List.of(new Note("note")), Set.of());
+        Note loadedNote = client.getClientNotesAsUnmodifiableList().get(0);
+        client.clearLoadedClientNotes();
+        assertNotSame(loadedNote, client.getClientNotesAsUnmodifiableList().get(0));
+
+        client.pinClientNotes();
+        Note pinnedNote = client.getClientNotesAsUnmodifiableList().get(0);
+        client.clearLoadedClientNotes();
+        assertSame(pinnedNote, client.getClientNotesAsUnmodifiableList().get(0));
+
+        client.unpinClientNotes();
+        client.clearLoadedClientNotes();
+        assertNotSame(pinnedNote, client.getClientNotesAsUnmodifiableList().get(0));
+    }
+
+    @Test
+    public void clearLoadedClientNotes_taggedNotesInTagNoteMap_editedAndDeletedByNoteId() {
+        Tag tag = new Tag("tag");
+        Client client = getLazyClient(() -> List.of(new Note("first", Set.of(tag)), new Note("second", Set.of(tag))),
+                Set.of(tag));
+        TagNoteMap tagNoteMap = new TagNoteMap();
+        tagNoteMap.addClient(client);
+        Set<Note> notesForTag = tagNoteMap.getNotesForTag(tag);
+
+        client.clearLoadedClientNotes();
+        Note firstNote = client.getClientNotesAsUnmodifiableList().get(0);
+        assertTrue(notesForTag.contains(firstNote));
+        tagNoteMap.deleteNote(firstNote);
+        client.deleteClientNote(firstNote);
+
+        client.clearLoadedClientNotes();
+        Note secondNote = client.getClientNotesAsUnmodifiableList().get(0);
+        Note editedNote = new Note("edited", Set.of(tag));
+        tagNoteMap.editNote(secondNote, editedNote);
+        client.editClientNote(secondNote, editedNote);
+        assertEquals(Set.of(editedNote), notesForTag);
+        assertEquals(Set.of(tag), tagNoteMap.getTagsForNote(editedNote));
+    }
+
+    @Test
+    public void getClientNotes_loaderFails_throwsClientNotesUnavailableException() {
+        Client client = getLazyClient(() -> {
+            throw new ClientNotesUnavailableException("unavailable", null);
+        }, Set.of());
+        assertThrows(ClientNotesUnavailableException.class, client::getClientNotesAsUnmodifiableList);
+    }
 
+    private static Client getLazyClient(ClientNotesLoader loader, Set<Tag> clientNoteTags) {
+        return new Client(ALICE.getClientId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getCountry(), ALICE.getTimezone(), ALICE.getContractExpiryDate(), ALICE.getLastModifiedInstant(),
+                loader, clientNoteTags);
+    }
 }
@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TestUtil.basicEqualsTests;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 import org.junit.jupiter.api.Test;
 
 public class ContractExpiryDateTest {
@@ -82,4 +85,33 @@ public class ContractExpiryDateTest {
         assertTrue(ContractExpiryDate.isValidDate("1-1-0000")); // smallest possible date
         assertTrue(ContractExpiryDate.isValidDate("31-12-9999")); // largest possible date
     }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> ContractExpiryDate.parse(null));
+        assertTrue(ContractExpiryDate.parse("29-2-2021").isEmpty());
+        assertTrue(ContractExpiryDate.parse("").isEmpty());
+
+        ContractExpiryDate date = ContractExpiryDate.parse("01-03-24").get();
+        assertEquals(new ContractExpiryDate("1-3-2024"), date);
+        assertEquals("1-3-2024", date.value);
+        assertEquals("1 Mar 2024", date.displayValue);
+    }
+
+    @Test
+    public void isValidDate_sameAsDateFormatter() {
+        String[] dates = {"00-1-2020", "1-00-2020", "31-4-2020", "31-5-2020", "29-2-1900", "29-2-2000", "29-2-00",
+            "29-2-01", "1|-1-2020", "1-1-2O20", "-1-2020", "1--2020", "1-1-", "1-1-2020-", " 1-1-2020",
+            "\u0661-1-2020"};
+        for (String date : dates) {
+            boolean isParsed;
+            try {
+                LocalDate.parse(date, ContractExpiryDate.DATE_FORMATTER);
+                isParsed = date.matches(ContractExpiryDate.VALIDATION_REGEX);
+            } catch (DateTimeParseException e) {
+                isParsed = false;
+            }
+            assertEquals(isParsed, ContractExpiryDate.isValidDate(date), date);
+        }
+    }
 }
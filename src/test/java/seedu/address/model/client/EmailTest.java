@@ -68,4 +68,11 @@ public class EmailTest {
 
         assertNotEquals(new Email("PeterJack_1190@example.com").hashCode(), new Email("a@bc").hashCode());
     }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Email.parse(null));
+        assertTrue(Email.parse("peterjack@-example.com").isEmpty());
+        assertEquals(new Email("PeterJack_1190@example.com"), Email.parse("PeterJack_1190@example.com").get());
+    }
 }
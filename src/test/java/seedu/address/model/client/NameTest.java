@@ -48,4 +48,11 @@ public class NameTest {
         assertNotEquals(new Name("peter jack").hashCode(), new Name("peter jacc").hashCode());
         assertNotEquals(new Name("12345").hashCode(), new Name("123456").hashCode());
     }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Name.parse(null));
+        assertTrue(Name.parse("peter*").isEmpty());
+        assertEquals(new Name("peter jack"), Name.parse("peter jack").get());
+    }
 }
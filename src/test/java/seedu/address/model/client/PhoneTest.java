@@ -80,4 +80,22 @@ public class PhoneTest {
         assertNotEquals(new Phone("911").hashCode(), new Phone("93121534").hashCode());
         assertNotEquals(new Phone("911").hashCode(), new Phone("12429384203").hashCode());
     }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Phone.parse(null));
+        assertTrue(Phone.parse("+1234 81867752").isEmpty());
+        assertEquals(new Phone("+65 81867752"), Phone.parse("+65 81867752").get());
+    }
+
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        String[] phones = {"", "+", "+-", "12", "123", "+123", "+1234", "+12 34", "+12 345", "+12\t345",
+            "+12\u000B345", "+12_345", "+12--345", "+1234 567", "+1234567", "+123456789012345",
+            "+1234567890123456", "+123 456789012345", "123456789012", "1234567890123", "1 234", "123+", "+12 345 ",
+            "+12.3456a", "\u0661\u0662\u0663"};
+        for (String phone : phones) {
+            assertEquals(phone.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(phone), phone);
+        }
+    }
 }
@@ -3,10 +3,14 @@ package seedu.address.model.client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
 import java.util.TimeZone;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,27 @@ public class TimezoneTest {
         assertThrows(IllegalArgumentException.class, () -> new Timezone(invalidTimezone));
     }
 
+    @Test
+    public void of_validTimezone_sameTimezoneForSameString() {
+        Timezone timezone = Timezone.of("UTC+08:00");
+        assertSame(timezone, Timezone.of("UTC+08:00"));
+        assertEquals(new Timezone("UTC+08:00"), timezone);
+    }
+
+    @Test
+    public void of_invalidTimezone_throwsException() {
+        assertThrows(NullPointerException.class, () -> Timezone.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Timezone.of("UTC+15:00"));
+    }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Timezone.parse(null));
+        assertTrue(Timezone.parse("UTC+15:00").isEmpty());
+        assertTrue(Timezone.parse("UTC+08:0").isEmpty());
+        assertSame(Timezone.of("UTC+08:00"), Timezone.parse("UTC+08:00").get());
+    }
+
     @Test
     public void isValidTimezone() {
         // null timezone
@@ -45,6 +70,13 @@ public class TimezoneTest {
         assertFalse(Timezone.isValidTimezone("UTC+0:00")); // wrong format
         assertFalse(Timezone.isValidTimezone("UTC+00:0")); // wrong format
         assertFalse(Timezone.isValidTimezone("UTC+0")); // wrong format
+        assertFalse(Timezone.isValidTimezone("UTC-00:00")); // zero offset written with minus sign
+        assertFalse(Timezone.isValidTimezone("UTC+08:60")); // minutes out of range
+        assertFalse(Timezone.isValidTimezone("UTC+08:15")); // unrecognised timezone in range
+        assertFalse(Timezone.isValidTimezone("UTC*08:00")); // wrong sign
+        assertFalse(Timezone.isValidTimezone("UTC+08-00")); // wrong separator
+        assertFalse(Timezone.isValidTimezone("UTC+0a:00")); // non-digit hours
+        assertFalse(Timezone.isValidTimezone("UTC+08:00 ")); // trailing space
 
         // all valid timezones
         assertTrue(Timezone.isValidTimezone("UTC+14:00"));
@@ -85,6 +117,21 @@ public class TimezoneTest {
         assertTrue(Timezone.isValidTimezone("UTC-10:00"));
         assertTrue(Timezone.isValidTimezone("UTC-11:00"));
         assertTrue(Timezone.isValidTimezone("UTC-12:00"));
+        assertTrue(Timezone.isValidTimezone("UTC+12:45"));
+        assertTrue(Timezone.isValidTimezone("UTC-02:30"));
+    }
+
+    @Test
+    public void validTimezones_containOffsetsOfAllZonesThroughoutYear() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        for (String zoneId : ZoneId.getAvailableZoneIds()) {
+            ZoneRules rules = ZoneId.of(zoneId).getRules();
+            for (int month = 0; month < 12; month++) {
+                String offset = rules.getOffset(now.plusMonths(month).toInstant()).getId();
+                String timezone = Timezone.UTC_STRING + (offset.equals("Z") ? "+00:00" : offset);
+                assertTrue(Timezone.isValidTimezone(timezone), zoneId + " " + timezone);
+            }
+        }
     }
 
     @Test
@@ -2,8 +2,11 @@ package seedu.address.model.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BOB;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.note.Note;
 import seedu.address.testutil.ClientBuilder;
 
 public class UniqueClientListTest {
@@ -58,7 +62,7 @@ public class UniqueClientListTest {
 
     @Test
     public void setClient_nullTargetClient_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniqueClientList.setClient(null, ALICE));
+        assertThrows(NullPointerException.class, () -> uniqueClientList.setClient((Client) null, ALICE));
     }
 
     @Test
@@ -106,9 +110,67 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(ALICE, BOB));
     }
 
+    @Test
+    public void setClient_editedClientSharesEmailWithAnotherClient_throwsDuplicateClientException() {
+        Client aliceWithBobPhone = new ClientBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(aliceWithBobPhone);
+        // same identity as the target by phone, but the same identity as ALICE by email
+        Client editedClient = new ClientBuilder(aliceWithBobPhone).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(aliceWithBobPhone,
+                editedClient));
+    }
+
+    @Test
+    public void setClient_identityChanged_oldIdentityNoLongerContained() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, BOB);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
+        uniqueClientList.add(ALICE);
+    }
+
+    @Test
+    public void setClient_byClientId_replacesClientAndKeepsPosition() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        Client editedAlice = new ClientBuilder(ALICE).withClientId(ALICE.getClientId()).withName("Edited Alice")
+                .build();
+        uniqueClientList.setClient(ALICE.getClientId(), editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BOB), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(editedAlice, uniqueClientList.get(ALICE.getClientId()));
+    }
+
+    @Test
+    public void setClient_clientIdNotInList_throwsClientNotFoundException() {
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.setClient(ALICE.getClientId(), ALICE));
+    }
+
+    @Test
+    public void add_clientIdInList_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        Client bobWithAliceId = new ClientBuilder(BOB).withClientId(ALICE.getClientId()).build();
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.add(bobWithAliceId));
+    }
+
+    @Test
+    public void remove_byClientId_laterClientsStillFound() {
+        Client carl = new ClientBuilder().withName("Carl").build();
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        uniqueClientList.add(carl);
+        uniqueClientList.remove(ALICE.getClientId());
+        assertFalse(uniqueClientList.containsClientId(ALICE.getClientId()));
+        assertEquals(BOB, uniqueClientList.get(BOB.getClientId()));
+        assertEquals(carl, uniqueClientList.get(carl.getClientId()));
+        uniqueClientList.remove(carl.getClientId());
+        assertEquals(Collections.singletonList(BOB), uniqueClientList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullClient_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniqueClientList.remove(null));
+        assertThrows(NullPointerException.class, () -> uniqueClientList.remove((Client) null));
     }
 
     @Test
@@ -122,6 +184,7 @@ public class UniqueClientListTest {
         uniqueClientList.remove(ALICE);
         UniqueClientList expectedUniqueClientList = new UniqueClientList();
         assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertFalse(uniqueClientList.contains(ALICE));
     }
 
     @Test
@@ -164,4 +227,48 @@ public class UniqueClientListTest {
         assertThrows(UnsupportedOperationException.class, () ->
                 uniqueClientList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getVersion_listModified_versionIncreases() {
+        long version = uniqueClientList.getVersion();
+        Client alice = new ClientBuilder(ALICE).build();
+        uniqueClientList.add(alice);
+        assertNotEquals(version, uniqueClientList.getVersion());
+
+        version = uniqueClientList.getVersion();
+        uniqueClientList.setClient(alice, BOB);
+        assertNotEquals(version, uniqueClientList.getVersion());
+
+        version = uniqueClientList.getVersion();
+        uniqueClientList.remove(BOB);
+        assertNotEquals(version, uniqueClientList.getVersion());
+    }
+
+    @Test
+    public void getVersion_clientNotesModified_versionIncreases() {
+        Client alice = new ClientBuilder(ALICE).build();
+        uniqueClientList.add(alice);
+        long version = uniqueClientList.getVersion();
+        Note note = new Note("note");
+        alice.addClientNote(note);
+        assertNotEquals(version, uniqueClientList.getVersion());
+
+        version = uniqueClientList.getVersion();
+        alice.editClientNote(note, new Note("edited note"));
+        assertNotEquals(version, uniqueClientList.getVersion());
+
+        version = uniqueClientList.getVersion();
+        alice.deleteClientNote(new Note("edited note"));
+        assertNotEquals(version, uniqueClientList.getVersion());
+    }
+
+    @Test
+    public void getVersion_readOnlyOperations_versionUnchanged() {
+        uniqueClientList.add(ALICE);
+        long version = uniqueClientList.getVersion();
+        uniqueClientList.contains(BOB);
+        uniqueClientList.asUnmodifiableObservableList().size();
+        uniqueClientList.iterator().next();
+        assertEquals(version, uniqueClientList.getVersion());
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.model.country;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Locale;
@@ -24,6 +27,28 @@ public class CountryCodeVerifierTest {
         assertFalse(CountryCodeVerifier.isValidCountryCode("az"));
         assertFalse(CountryCodeVerifier.isValidCountryCode("bd"));
         assertFalse(CountryCodeVerifier.isValidCountryCode("bdc"));
+        assertFalse(CountryCodeVerifier.isValidCountryCode("B"));
+        assertFalse(CountryCodeVerifier.isValidCountryCode("[A"));
+        assertFalse(CountryCodeVerifier.isValidCountryCode("A@"));
+        assertFalse(CountryCodeVerifier.isValidCountryCode(""));
+        assertFalse(CountryCodeVerifier.isValidCountryCode(null));
+    }
+
+    @Test
+    public void getCountry_validCode_returnsCanonicalCountry() {
+        for (String countryCode : CountryCodeVerifier.getCountryCodes()) {
+            Country country = CountryCodeVerifier.getCountry(countryCode);
+            assertEquals(countryCode, country.getCountryCode());
+            assertEquals(new Locale("", countryCode).getDisplayName(), country.getCountryName());
+            assertSame(country, Country.of(countryCode));
+        }
+    }
+
+    @Test
+    public void getCountry_invalidCode_returnsNull() {
+        assertNull(CountryCodeVerifier.getCountry("ZZ"));
+        assertNull(CountryCodeVerifier.getCountry("sg"));
+        assertNull(CountryCodeVerifier.getCountry("SGP"));
     }
 
     @Test
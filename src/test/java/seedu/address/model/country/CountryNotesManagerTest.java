@@ -161,4 +161,24 @@ public class CountryNotesManagerTest {
                 countryNotesManager.setCountryNote(oldCountryNote, newCountryNote));
     }
 
+    @Test
+    public void getVersion_countryNotesModified_versionIncreases() {
+        CountryNote countryNote = new CountryNote("random", new Country("SG"));
+        long version = countryNotesManager.getVersion();
+        countryNotesManager.addCountryNote(countryNote);
+        assertNotEquals(version, countryNotesManager.getVersion());
+
+        version = countryNotesManager.getVersion();
+        CountryNote newCountryNote = new CountryNote("random2", new Country("SG"));
+        countryNotesManager.setCountryNote(countryNote, newCountryNote);
+        assertNotEquals(version, countryNotesManager.getVersion());
+
+        version = countryNotesManager.getVersion();
+        countryNotesManager.hasCountryNote(newCountryNote);
+        assertEquals(version, countryNotesManager.getVersion());
+
+        countryNotesManager.deleteCountryNote(newCountryNote);
+        assertNotEquals(version, countryNotesManager.getVersion());
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.model.country;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -32,6 +33,22 @@ public class CountryTest {
         assertThrows(AssertionError.class, () -> new Country("AA"));
     }
 
+    @Test
+    public void of_validCountryCode_sameCountryForSameCode() {
+        for (String countryCode : COUNTRY_CODES) {
+            Country country = Country.of(countryCode);
+            assertEquals(new Country(countryCode), country);
+            assertEquals(new Country(countryCode).getCountryName(), country.getCountryName());
+            assertSame(country, Country.of(countryCode));
+        }
+    }
+
+    @Test
+    public void of_invalidCountryCode_throwsAssertionError() {
+        assertThrows(AssertionError.class, () -> Country.of("abc"));
+        assertThrows(AssertionError.class, () -> Country.of("AA"));
+    }
+
     @Test
     public void getCountryName_differentCountry_differentCountryName() {
         for (int i = 0; i < COUNTRY_CODES.length - 1; i++) {
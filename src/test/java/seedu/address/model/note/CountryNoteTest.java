@@ -36,10 +36,12 @@ public class CountryNoteTest {
     }
 
     @Test
-    public void setTags() {
+    public void withTags() {
         Set<Tag> tags = Set.of(new Tag("tag1"));
-        countryNote.setTags(tags);
-        assertEquals(countryNote.getTags(), tags);
+        CountryNote taggedCountryNote = countryNote.withTags(tags);
+        assertEquals(tags, taggedCountryNote.getTags());
+        assertEquals(new CountryNote(COUNTRY_NOTE_CONTENT, COUNTRY, tags), taggedCountryNote);
+        assertEquals(Set.of(), countryNote.getTags());
     }
 
     @Test
@@ -62,8 +64,7 @@ public class CountryNoteTest {
         assertFalse(countryNote.equals(new CountryNote("new country note", COUNTRY)));
 
         // different tags -> return false
-        CountryNote countryNoteWithTags = new CountryNote(COUNTRY_NOTE_CONTENT, COUNTRY);
-        countryNoteWithTags.setTags(Set.of(new Tag("tag1")));
+        CountryNote countryNoteWithTags = new CountryNote(COUNTRY_NOTE_CONTENT, COUNTRY, Set.of(new Tag("tag1")));
         assertFalse(countryNote.equals(countryNoteWithTags));
     }
 
@@ -80,8 +81,7 @@ public class CountryNoteTest {
         assertNotEquals(countryNote.hashCode(), new CountryNote("new country note", COUNTRY).hashCode());
 
         // different tags -> different hashcode
-        CountryNote countryNoteWithTags = new CountryNote(COUNTRY_NOTE_CONTENT, COUNTRY);
-        countryNoteWithTags.setTags(Set.of(new Tag("tag1")));
+        CountryNote countryNoteWithTags = new CountryNote(COUNTRY_NOTE_CONTENT, COUNTRY, Set.of(new Tag("tag1")));
         assertNotEquals(countryNote.hashCode(), countryNoteWithTags.hashCode());
     }
 
@@ -67,21 +67,42 @@ class NoteTest {
 
     @Test
     public void equals_sameNoteContentSameTags_returnTrue() {
-        Note note1Duplicate = new Note(NOTE_CONTENT_1);
-        note1.setTags(tags);
-        note1Duplicate.setTags(tags);
-        assertEquals(note1, note1Duplicate);
+        Note taggedNote1 = new Note(NOTE_CONTENT_1, tags);
+        Note note1Duplicate = new Note(NOTE_CONTENT_1, tags);
+        assertEquals(taggedNote1, note1Duplicate);
+        assertEquals(taggedNote1.hashCode(), note1Duplicate.hashCode());
     }
 
     @Test
     public void equals_sameNoteContentDifferentTags_returnFalse() {
-        Note note1Duplicate = new Note(NOTE_CONTENT_1);
-        note1.setTags(tags);
-        note1Duplicate.setTags(tags);
+        Note taggedNote1 = new Note(NOTE_CONTENT_1, tags);
         Set<Tag> rougeTags = new HashSet<>();
         rougeTags.add(new Tag("rogueTag"));
-        note1Duplicate.setTags(rougeTags);
-        assertNotEquals(note1, note1Duplicate);
+        Note note1Duplicate = new Note(NOTE_CONTENT_1, rougeTags);
+        assertNotEquals(taggedNote1, note1Duplicate);
+    }
+
+    @Test
+    public void constructor_tagsChangedAfterwards_noteUnchanged() {
+        Note taggedNote1 = new Note(NOTE_CONTENT_1, tags);
+        int hashCode = taggedNote1.hashCode();
+        tags.add(new Tag("laterTag"));
+        assertEquals(Set.of(TAG_1, TAG_2), taggedNote1.getTags());
+        assertEquals(hashCode, taggedNote1.hashCode());
+        assertThrows(UnsupportedOperationException.class, () -> taggedNote1.getTags().add(new Tag("laterTag")));
+    }
+
+    @Test
+    public void withTags_returnsNewNoteWithTags() {
+        Note taggedNote1 = note1.withTags(tags);
+        assertEquals(new Note(NOTE_CONTENT_1, tags), taggedNote1);
+        assertEquals(Set.of(), note1.getTags());
+        assertNotEquals(note1.getNoteId(), taggedNote1.getNoteId());
+    }
+
+    @Test
+    public void getNoteId_equalNotes_differentNoteIds() {
+        assertNotEquals(note1.getNoteId(), new Note(NOTE_CONTENT_1).getNoteId());
     }
 
 }
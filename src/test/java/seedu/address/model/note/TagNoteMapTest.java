@@ -18,12 +18,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientNotesLoader;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.ClientBuilder;
 
 class TagNoteMapTest {
 
-    private static final Note TAGGED_NOTE = new Note("jurong hill was a nice place");
+    private static final String TAGGED_NOTE_CONTENT = "jurong hill was a nice place";
     private static final Tag TEST_TAG = new Tag("tagName");
     private TagNoteMap tagNoteMap;
     private Client client;
@@ -39,8 +40,8 @@ class TagNoteMapTest {
 
     @Test
     public void initTagNoteMapFromClients_addClientWithTaggedNotes_doesNotThrowException() {
-        TAGGED_NOTE.setTags(tags);
-        client.addClientNote(TAGGED_NOTE);
+        Note taggedNote = new Note(TAGGED_NOTE_CONTENT, tags);
+        client.addClientNote(taggedNote);
         List<Client> clients = new ArrayList<>();
         clients.add(client);
         assertDoesNotThrow(() -> tagNoteMap.initTagNoteMapFromClients(clients));
@@ -49,24 +50,135 @@ class TagNoteMapTest {
     @Test
     public void initTagNoteMapFromCountryNotes_validSetOfTaggedCountryNotes_doesNotThrowException() {
         List<Note> inputList = new ArrayList<>();
-        Note countryNote1 = new Note("this country note will be tagged");
-        countryNote1.setTags(tags);
+        Note countryNote1 = new Note("this country note will be tagged", tags);
         inputList.add(countryNote1);
         assertDoesNotThrow(() -> this.tagNoteMap.initTagNoteMapFromCountryNotes(inputList));
     }
 
     @Test
     public void getNotesForTag_usesInitialisedMap_returnsTrue() {
-        TAGGED_NOTE.setTags(tags);
-        client.addClientNote(TAGGED_NOTE);
+        Note taggedNote = new Note(TAGGED_NOTE_CONTENT, tags);
+        client.addClientNote(taggedNote);
         List<Client> clients = new ArrayList<>();
         clients.add(client);
         tagNoteMap.initTagNoteMapFromClients(clients);
-        List<Note> expectedNotes = new ArrayList<>();
-        expectedNotes.add(TAGGED_NOTE);
+        Set<Note> expectedNotes = new HashSet<>();
+        expectedNotes.add(taggedNote);
         assertEquals(tagNoteMap.getNotesForTag(TEST_TAG), expectedNotes);
     }
 
+    @Test
+    public void initTagNoteMapFromClients_unloadedClientNotes_indexedTagsUsedUntilNeeded() throws ParseException {
+        Note note = new Note("stored note", tags);
+        int[] loadCount = {0};
+        ClientNotesLoader loader = () -> {
+            loadCount[0]++;
+            return List.of(note);
+        };
+        Client lazyClient = new Client(ALICE.getClientId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getCountry(), ALICE.getTimezone(), ALICE.getContractExpiryDate(),
+                ALICE.getLastModifiedInstant(), loader, tags);
+
+        tagNoteMap.initTagNoteMapFromClients(List.of(lazyClient));
+        assertEquals(0, loadCount[0]);
+        assertEquals(tags, tagNoteMap.getUniqueTags(List.of(TEST_TAG.tagName)));
+
+        assertEquals(Set.of(note), tagNoteMap.getNotesForTag(TEST_TAG));
+        assertEquals(1, loadCount[0]);
+        assertEquals(tags, tagNoteMap.getTagsForNote(note));
+
+        // client notes already added are not added again
+        tagNoteMap.loadClientNotes(lazyClient);
+        assertEquals(Set.of(note), tagNoteMap.getNotesForTag(TEST_TAG));
+    }
+
+    @Test
+    public void addAndRemoveClient_unloadedClientNotes_notLoaded() {
+        int[] loadCount = {0};
+        ClientNotesLoader loader = () -> {
+            loadCount[0]++;
+            return List.of();
+        };
+        Client lazyClient = new Client(ALICE.getClientId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getCountry(), ALICE.getTimezone(), ALICE.getContractExpiryDate(),
+                ALICE.getLastModifiedInstant(), loader, tags);
+
+        tagNoteMap.addClient(lazyClient);
+        Client editedClient = lazyClient.copy();
+        tagNoteMap.setClient(lazyClient, editedClient);
+        tagNoteMap.removeClient(editedClient);
+        assertEquals(0, loadCount[0]);
+        assertEquals(new TagNoteMap(), tagNoteMap);
+    }
+
+    @Test
+    public void addAndRemoveClient_clientWithNotes_sameAsEmptyMap() {
+        Note note = new Note("client note", tags);
+        client.addClientNote(note);
+
+        tagNoteMap.addClient(client);
+        assertEquals(Set.of(note), tagNoteMap.getNotesForTag(TEST_TAG));
+        tagNoteMap.removeClient(client);
+        assertEquals(new TagNoteMap(), tagNoteMap);
+    }
+
+    @Test
+    public void setClient_sameClientNotes_notesNotAddedAgain() {
+        Note note = new Note("client note", tags);
+        client.addClientNote(note);
+        Client editedClient = new ClientBuilder(client).withName("Alice Tan").build();
+        editedClient.addClientNote(note);
+
+        tagNoteMap.addClient(client);
+        tagNoteMap.setClient(client, editedClient);
+        assertEquals(Set.of(note), tagNoteMap.getNotesForTag(TEST_TAG));
+    }
+
+    @Test
+    public void clear_notesAdded_sameAsEmptyMap() {
+        Note note = new Note("client note", tags);
+        client.addClientNote(note);
+        tagNoteMap.addClient(client);
+
+        tagNoteMap.clear();
+        assertEquals(new TagNoteMap(), tagNoteMap);
+    }
+
+    @Test
+    public void getNotesForTag_notesAddedAndDeleted_liveViewInOrderAdded() {
+        Note firstNote = new Note("first note", tags);
+        Note secondNote = new Note("second note", tags);
+        Set<Note> notesForTag = tagNoteMap.getNotesForTag(TEST_TAG);
+        assertTrue(notesForTag.isEmpty());
+
+        tagNoteMap.addTagsForNote(tags, secondNote);
+        tagNoteMap.addTagsForNote(tags, firstNote);
+        assertEquals(List.of(secondNote, firstNote), new ArrayList<>(notesForTag));
+        assertThrows(UnsupportedOperationException.class, () -> notesForTag.remove(firstNote));
+        assertThrows(UnsupportedOperationException.class, () -> notesForTag.iterator().remove());
+
+        tagNoteMap.deleteNote(secondNote);
+        assertEquals(List.of(firstNote), new ArrayList<>(notesForTag));
+        tagNoteMap.deleteNote(firstNote);
+        assertTrue(notesForTag.isEmpty());
+    }
+
+    @Test
+    public void deleteNote_equalNoteOfAnotherClient_otherNoteKept() {
+        Note note = new Note("birthday tomorrow", tags);
+        Note equalNote = new Note("birthday tomorrow", tags);
+        tagNoteMap.addTagsForNote(tags, note);
+        tagNoteMap.addTagsForNote(tags, equalNote);
+        assertEquals(2, tagNoteMap.getNotesForTag(TEST_TAG).size());
+
+        tagNoteMap.deleteNote(note);
+        Set<Note> notesForTag = tagNoteMap.getNotesForTag(TEST_TAG);
+        assertEquals(List.of(equalNote), new ArrayList<>(notesForTag));
+        assertTrue(notesForTag.contains(equalNote));
+        assertFalse(notesForTag.contains(note));
+        assertEquals(tags, tagNoteMap.getTagsForNote(equalNote));
+    }
+
     @Test
     public void getUniqueTags_emptyList_returnsSetContainingOnlyUntaggedTag() throws ParseException {
         Set<Tag> untaggedTagSet = new HashSet<>();
@@ -93,16 +205,16 @@ class TagNoteMapTest {
     // also tests that when a tag doesn't have associated notes then it is removed from tagToNotesMap and uniqueTagsMap
     @Test
     public void deleteNote_deleteSoleNoteWithSoleTag_clearsTagToNotesMapAndUniqueTagEntriesReturnsTrue() {
-        TAGGED_NOTE.setTags(tags);
-        List<Note> expectedNotesSet = new ArrayList<>();
-        expectedNotesSet.add(TAGGED_NOTE);
-        client.addClientNote(TAGGED_NOTE);
+        Note taggedNote = new Note(TAGGED_NOTE_CONTENT, tags);
+        Set<Note> expectedNotesSet = new HashSet<>();
+        expectedNotesSet.add(taggedNote);
+        client.addClientNote(taggedNote);
         List<Client> clients = new ArrayList<>();
         clients.add(client);
         tagNoteMap.initTagNoteMapFromClients(clients);
-        assertTrue(tagNoteMap.getTagsForNote(TAGGED_NOTE).equals(tags));
+        assertTrue(tagNoteMap.getTagsForNote(taggedNote).equals(tags));
         assertTrue(tagNoteMap.getNotesForTag(TEST_TAG).equals(expectedNotesSet));
-        tagNoteMap.deleteNote(TAGGED_NOTE);
+        tagNoteMap.deleteNote(taggedNote);
         assertFalse(tagNoteMap.getNotesForTag(TEST_TAG).equals(expectedNotesSet));
     }
 
@@ -113,20 +225,19 @@ class TagNoteMapTest {
 
     @Test
     public void editNote_validInputs_replacesExistingNoteWithNewNote() {
-        TAGGED_NOTE.setTags(tags);
-        Note newNote = new Note("new content");
+        Note taggedNote = new Note(TAGGED_NOTE_CONTENT, tags);
         Set<Tag> newTagSet = new HashSet<>();
         Tag newTag = new Tag("unprecedentedTag");
         newTagSet.add(newTag);
-        newNote.setTags(newTagSet);
-        List<Note> expectedNotesList = new ArrayList<>();
+        Note newNote = new Note("new content", newTagSet);
+        Set<Note> expectedNotesList = new HashSet<>();
         expectedNotesList.add(newNote);
-        client.addClientNote(TAGGED_NOTE);
+        client.addClientNote(taggedNote);
         List<Client> clients = new ArrayList<>();
         clients.add(client);
         tagNoteMap.initTagNoteMapFromClients(clients);
-        assertTrue(tagNoteMap.getTagsForNote(TAGGED_NOTE).equals(tags));
-        tagNoteMap.editNote(TAGGED_NOTE, newNote);
+        assertTrue(tagNoteMap.getTagsForNote(taggedNote).equals(tags));
+        tagNoteMap.editNote(taggedNote, newNote);
         assertFalse(tagNoteMap.getNotesForTag(TEST_TAG).equals(expectedNotesList));
         assertTrue(tagNoteMap.getNotesForTag(newTag).equals(expectedNotesList));
     }
@@ -135,15 +246,15 @@ class TagNoteMapTest {
     public void getTagsForNote_useNoteWithTwoTags_returnsTrue() {
         Tag tag2 = new Tag("tag2");
         tags.add(tag2);
-        TAGGED_NOTE.setTags(tags);
-        client.addClientNote(TAGGED_NOTE);
+        Note taggedNote = new Note(TAGGED_NOTE_CONTENT, tags);
+        client.addClientNote(taggedNote);
         List<Client> clients = new ArrayList<>();
         clients.add(client);
         tagNoteMap.initTagNoteMapFromClients(clients);
         Set<Tag> expectedTags = new HashSet<>();
         expectedTags.add(tag2);
         expectedTags.add(TEST_TAG);
-        Set<Tag> actualTags = tagNoteMap.getTagsForNote(TAGGED_NOTE);
+        Set<Tag> actualTags = tagNoteMap.getTagsForNote(taggedNote);
         assertTrue(expectedTags.equals(actualTags));
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TestUtil.basicEqualsTests;
@@ -25,6 +27,21 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, Tag.MESSAGE_CONSTRAINTS, () -> new Tag(invalidTagName2));
     }
 
+    @Test
+    public void of_sameTagName_sameTag() {
+        Tag tag = Tag.of("sharedTag");
+        assertSame(tag, Tag.of("sharedTag"));
+        assertEquals(new Tag("sharedTag"), tag);
+        assertNotSame(tag, new Tag("sharedTag"));
+        assertSame(Tag.UNTAGGED, Tag.of("untagged"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, Tag.MESSAGE_CONSTRAINTS, () -> Tag.of("not valid"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
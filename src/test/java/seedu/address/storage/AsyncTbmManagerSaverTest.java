@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalTbmManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.TbmManager;
+
+public class AsyncTbmManagerSaverTest {
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncTbmManagerSaver(null, 0));
+    }
+
+    @Test
+    public void save_snapshot_writtenAfterFlush() {
+        TbmManagerStorageStub storage = new TbmManagerStorageStub();
+        AsyncTbmManagerSaver saver = new AsyncTbmManagerSaver(storage, 0);
+        ReadOnlyTbmManager snapshot = getTypicalTbmManager().getSnapshot();
+
+        saver.save(snapshot, 1);
+        assertEquals(1, saver.getLastRequestedVersion());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(snapshot), storage.savedSnapshots);
+        assertEquals(1, saver.getLastSavedVersion());
+        saver.shutdown();
+    }
+
+    @Test
+    public void save_burstWhileWriting_onlyNewestSnapshotWritten() throws Exception {
+        TbmManagerStorageStub storage = new TbmManagerStorageStub();
+        storage.blockNextSave();
+        AsyncTbmManagerSaver saver = new AsyncTbmManagerSaver(storage, 0);
+        ReadOnlyTbmManager first = new TbmManager().getSnapshot();
+        ReadOnlyTbmManager second = new TbmManager().getSnapshot();
+        ReadOnlyTbmManager third = getTypicalTbmManager().getSnapshot();
+
+        saver.save(first, 1);
+        assertTrue(storage.saveStarted.await(5, TimeUnit.SECONDS));
+        saver.save(second, 2);
+        saver.save(third, 3);
+        storage.releaseSave.countDown();
+        saver.flush();
+
+        List<ReadOnlyTbmManager> expected = new ArrayList<>();
+        expected.add(first);
+        expected.add(third);
+        assertEquals(expected, storage.savedSnapshots);
+        assertEquals(3, saver.getLastSavedVersion());
+        saver.shutdown();
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReported() {
+        TbmManagerStorageStub storage = new TbmManagerStorageStub();
+        storage.failSaves = true;
+        AsyncTbmManagerSaver saver = new AsyncTbmManagerSaver(storage, 5);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new TbmManager().getSnapshot(), 6);
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertEquals(5, saver.getLastSavedVersion());
+        assertEquals(5, saver.getLastRequestedVersion());
+        saver.shutdown();
+    }
+
+    @Test
+    public void shutdown_pendingSnapshot_written() {
+        TbmManagerStorageStub storage = new TbmManagerStorageStub();
+        AsyncTbmManagerSaver saver = new AsyncTbmManagerSaver(storage, 0);
+        ReadOnlyTbmManager snapshot = getTypicalTbmManager().getSnapshot();
+
+        saver.save(snapshot, 1);
+        saver.shutdown();
+
+        assertEquals(Collections.singletonList(snapshot), storage.savedSnapshots);
+    }
+
+    /**
+     * A {@code TbmManagerStorage} stub that records the snapshots it is asked to save.
+     */
+    private static class TbmManagerStorageStub implements TbmManagerStorage {
+        private final List<ReadOnlyTbmManager> savedSnapshots = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private CountDownLatch releaseSave = new CountDownLatch(0);
+        private volatile boolean failSaves;
+
+        /**
+         * Makes the next save wait until {@code releaseSave} is counted down.
+         */
+        private void blockNextSave() {
+            releaseSave = new CountDownLatch(1);
+        }
+
+        @Override
+        public Path getTbmManagerFilePath() {
+            return Paths.get("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTbmManager> readTbmManager() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTbmManager> readTbmManager(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTbmManager(ReadOnlyTbmManager tbmManager) throws IOException {
+            saveStarted.countDown();
+            try {
+                releaseSave.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failSaves) {
+                throw new IOException("dummy exception");
+            }
+            savedSnapshots.add(tbmManager);
+        }
+
+        @Override
+        public void saveTbmManager(ReadOnlyTbmManager tbmManager, Path filePath) throws IOException {
+            saveTbmManager(tbmManager);
+        }
+    }
+}
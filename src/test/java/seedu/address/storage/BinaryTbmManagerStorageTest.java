@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalTbmManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ContractExpiryDate;
+import seedu.address.model.country.Country;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+
+public class BinaryTbmManagerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTbmManager_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTbmManagerStorage(testFolder.resolve("data.bin")).readTbmManager(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTbmManagerStorage(testFolder.resolve("NonExistentFile.bin")).readTbmManager()
+                .isPresent());
+    }
+
+    @Test
+    public void saveTbmManager_nullTbmManager_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTbmManagerStorage(testFolder.resolve("data.bin")).saveTbmManager(null));
+    }
+
+    @Test
+    public void readAndSaveTbmManager_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryTbmManagerStorage storage = new BinaryTbmManagerStorage(filePath);
+        TbmManager original = getTbmManagerWithNotes();
+
+        storage.saveTbmManager(original);
+        ReadOnlyTbmManager readBack = storage.readTbmManager().get();
+
+        assertEquals(original, new TbmManager(readBack));
+        assertEquals(original.getCountryNoteList(), readBack.getCountryNoteList());
+        List<Client> originalClients = original.getClientList();
+        for (int i = 0; i < originalClients.size(); i++) {
+            assertEquals(originalClients.get(i).getClientNotesAsUnmodifiableList(),
+                    readBack.getClientList().get(i).getClientNotesAsUnmodifiableList());
+        }
+
+        // The last modified instant is kept to the millisecond
+        Client benson = originalClients.get(1);
+        assertEquals(benson.getLastModifiedInstant().value.truncatedTo(ChronoUnit.MILLIS),
+                readBack.getClientList().get(1).getLastModifiedInstant().value);
+
+        // The client IDs are kept
+        for (int i = 0; i < originalClients.size(); i++) {
+            assertEquals(originalClients.get(i).getClientId(), readBack.getClientList().get(i).getClientId());
+        }
+
+        // Modify data, overwrite existing file, and read back
+        original.removeClient(originalClients.get(0));
+        storage.saveTbmManager(original);
+        assertEquals(original, new TbmManager(storage.readTbmManager().get()));
+    }
+
+    @Test
+    public void saveTbmManager_interruptedSave_oldSnapshotKept() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryTbmManagerStorage storage = new BinaryTbmManagerStorage(filePath);
+        TbmManager original = getTypicalTbmManager();
+        storage.saveTbmManager(original);
+
+        // fails after the clients have been written
+        ReadOnlyTbmManager failingTbmManager = new ReadOnlyTbmManager() {
+            @Override
+            public ObservableList<Client> getClientList() {
+                return original.getClientList();
+            }
+
+            @Override
+            public ObservableList<CountryNote> getCountryNoteList() {
+                throw new IllegalStateException();
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> storage.saveTbmManager(failingTbmManager));
+
+        assertEquals(original, new TbmManager(storage.readTbmManager().get()));
+    }
+
+    @Test
+    public void saveTbmManager_typicalTbmManager_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        Path jsonFilePath = testFolder.resolve("data.json");
+
+        new BinaryTbmManagerStorage(binaryFilePath).saveTbmManager(getTypicalTbmManager());
+        new JsonTbmManagerStorage(jsonFilePath, false).saveTbmManager(getTypicalTbmManager());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        Path jsonFilePath = testFolder.resolve("data.json");
+        new BinaryTbmManagerStorage(binaryFilePath).saveTbmManager(new TbmManager());
+        new JsonTbmManagerStorage(jsonFilePath).saveTbmManager(new TbmManager());
+
+        assertTrue(BinaryTbmManagerStorage.isBinaryFile(binaryFilePath));
+        assertFalse(BinaryTbmManagerStorage.isBinaryFile(jsonFilePath));
+        assertFalse(BinaryTbmManagerStorage.isBinaryFile(testFolder.resolve("NonExistentFile.bin")));
+        assertFalse(BinaryTbmManagerStorage.isBinaryFile(testFolder));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryTbmManagerStorage(filePath).saveTbmManager(getTypicalTbmManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryTbmManagerStorage.MAGIC.length + 1]++;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryTbmManagerStorage(filePath).saveTbmManager(getTypicalTbmManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    @Test
+    public void read_trailingData_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryTbmManagerStorage(filePath).saveTbmManager(getTypicalTbmManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length + 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    @Test
+    public void read_invalidClient_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        TbmManager tbmManager = new TbmManager();
+        tbmManager.addClient(new ClientBuilder(ALICE).build());
+        new BinaryTbmManagerStorage(filePath).saveTbmManager(tbmManager);
+        byte[] bytes = Files.readAllBytes(filePath);
+        // Replaces the first letter of the client's name with a character that names cannot contain
+        int nameStart = new String(bytes, ISO_8859_1).indexOf(ALICE.getName().fullName);
+        bytes[nameStart] = '*';
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    /**
+     * Returns a TbmManager with clients that have client notes and no contract expiry date, and country notes.
+     */
+    private static TbmManager getTbmManagerWithNotes() {
+        TbmManager tbmManager = new TbmManager();
+        Client alice = new ClientBuilder(ALICE).build();
+        Note aliceNote = new Note("likes café au lait", new HashSet<>(Arrays.asList(new Tag("vip"), new Tag("golf"))));
+        alice.addClientNote(aliceNote);
+        alice.addClientNote(new Note("prefers email"));
+        tbmManager.addClient(alice);
+        tbmManager.addClient(new ClientBuilder(BENSON).withContractExpiryDate(ContractExpiryDate.NULL_DATE).build());
+        tbmManager.addCountryNote(new CountryNote("hot weather", new Country("SG"),
+                new HashSet<>(Arrays.asList(new Tag("vip"), new Tag("weather")))));
+        tbmManager.addCountryNote(new CountryNote("public holiday", new Country("JP")));
+        return tbmManager;
+    }
+}
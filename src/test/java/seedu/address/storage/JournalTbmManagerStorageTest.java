@@ -0,0 +1,224 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalTbmManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTbmManager;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.country.Country;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.testutil.ClientBuilder;
+
+public class JournalTbmManagerStorageTest {
+
+    private static final long NEVER_COMPACT = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTbmManager_nullFilePath_throwsNullPointerException() {
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(testFolder.resolve("data.json"),
+                NEVER_COMPACT);
+        assertThrows(NullPointerException.class, () -> storage.readTbmManager(null));
+    }
+
+    @Test
+    public void saveTbmManager_nullTbmManager_throwsNullPointerException() {
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(testFolder.resolve("data.json"),
+                NEVER_COMPACT);
+        assertThrows(NullPointerException.class, () -> storage.saveTbmManager(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().isPresent());
+    }
+
+    @Test
+    public void read_jsonSnapshotWithoutJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TbmManager original = getTypicalTbmManager();
+        new JsonTbmManagerStorage(filePath).saveTbmManager(original);
+
+        ReadOnlyTbmManager readBack = new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().get();
+        assertSameData(original, readBack);
+    }
+
+    @Test
+    public void save_afterRead_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalTbmManagerStorage(filePath, NEVER_COMPACT).saveTbmManager(getTypicalTbmManager());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(filePath, NEVER_COMPACT);
+        TbmManager model = new TbmManager(storage.readTbmManager().get());
+        applyMutations(model);
+        storage.saveTbmManager(model);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(JournalTbmManagerStorage.getJournalPath(filePath)) > 0);
+
+        // An unchanged TbmManager appends nothing
+        long journalSize = Files.size(JournalTbmManagerStorage.getJournalPath(filePath));
+        storage.saveTbmManager(model);
+        assertEquals(journalSize, Files.size(JournalTbmManagerStorage.getJournalPath(filePath)));
+
+        assertSameData(model, new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().get());
+    }
+
+    @Test
+    public void save_eachMutationSeparately_replaysToSameData() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(filePath, NEVER_COMPACT);
+        TbmManager model = getTypicalTbmManager();
+        storage.saveTbmManager(model);
+
+        model.addClient(HOON);
+        storage.saveTbmManager(model);
+        model.removeClient(model.getClientList().get(0));
+        storage.saveTbmManager(model);
+        Client carl = model.getClientList().get(1);
+        Note note = new Note("likes golf");
+        carl.addClientNote(note);
+        storage.saveTbmManager(model);
+        carl.editClientNote(note, new Note("likes tennis"));
+        storage.saveTbmManager(model);
+        model.setClient(carl, new ClientBuilder(carl).withPhone("99999999").build());
+        storage.saveTbmManager(model);
+        CountryNote countryNote = new CountryNote("hot weather", new Country("SG"));
+        model.addCountryNote(countryNote);
+        storage.saveTbmManager(model);
+        model.setCountryNote(countryNote, new CountryNote("humid weather", new Country("SG")));
+        storage.saveTbmManager(model);
+        model.addClient(IDA);
+        storage.saveTbmManager(model);
+
+        assertSameData(model, new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().get());
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(filePath, 1);
+        TbmManager model = getTypicalTbmManager();
+        storage.saveTbmManager(model);
+
+        applyMutations(model);
+        storage.saveTbmManager(model);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournalTbmManagerStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournalTbmManagerStorage.getCompactingJournalPath(filePath)));
+        assertFalse(Files.exists(JournalTbmManagerStorage.getSnapshotTempPath(filePath)));
+        assertSameData(model, new JsonTbmManagerStorage(filePath).readTbmManager().get());
+
+        // Journaling resumes against the compacted snapshot
+        model.removeClient(CARL);
+        storage.saveTbmManager(model);
+        storage.awaitCompaction();
+        assertSameData(model, new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().get());
+    }
+
+    @Test
+    public void read_interruptedCompaction_discardsIncompleteSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(filePath, NEVER_COMPACT);
+        TbmManager model = getTypicalTbmManager();
+        storage.saveTbmManager(model);
+        applyMutations(model);
+        storage.saveTbmManager(model);
+
+        // Simulate a compaction that was killed while writing the new snapshot
+        Files.move(JournalTbmManagerStorage.getJournalPath(filePath),
+                JournalTbmManagerStorage.getCompactingJournalPath(filePath));
+        Files.write(JournalTbmManagerStorage.getSnapshotTempPath(filePath), "{ \"clients\": [".getBytes(UTF_8));
+
+        assertSameData(model, new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().get());
+        assertFalse(Files.exists(JournalTbmManagerStorage.getSnapshotTempPath(filePath)));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_recordDropped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(filePath, NEVER_COMPACT);
+        TbmManager model = getTypicalTbmManager();
+        storage.saveTbmManager(model);
+        model.addClient(HOON);
+        storage.saveTbmManager(model);
+
+        Path journal = JournalTbmManagerStorage.getJournalPath(filePath);
+        Files.write(journal, "{\"op\":\"ADD_CLI".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        JournalTbmManagerStorage reopened = new JournalTbmManagerStorage(filePath, NEVER_COMPACT);
+        TbmManager readBack = new TbmManager(reopened.readTbmManager().get());
+        assertSameData(model, readBack);
+
+        // Records appended after the dropped record are still readable
+        readBack.addClient(IDA);
+        reopened.saveTbmManager(readBack);
+        assertSameData(readBack, new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager().get());
+    }
+
+    @Test
+    public void read_corruptedRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalTbmManagerStorage storage = new JournalTbmManagerStorage(filePath, NEVER_COMPACT);
+        storage.saveTbmManager(getTypicalTbmManager());
+
+        Path journal = JournalTbmManagerStorage.getJournalPath(filePath);
+        Files.write(journal, "{\"op\":\"REMOVE_CLIENT\",\"index\":100,\"count\":1}\n".getBytes(UTF_8));
+
+        assertThrows(DataConversionException.class, () ->
+                new JournalTbmManagerStorage(filePath, NEVER_COMPACT).readTbmManager());
+    }
+
+    /**
+     * Adds, edits and deletes clients, client notes and country notes in {@code tbmManager}.
+     */
+    private static void applyMutations(TbmManager tbmManager) {
+        tbmManager.addClient(HOON);
+        tbmManager.removeClient(ALICE);
+        Client client = tbmManager.getClientList().get(2);
+        client.addClientNote(new Note("prefers email"));
+        tbmManager.setClient(tbmManager.getClientList().get(0),
+                new ClientBuilder(tbmManager.getClientList().get(0)).withAddress("new address").build());
+        tbmManager.addCountryNote(new CountryNote("public holiday tomorrow", new Country("JP")));
+    }
+
+    /**
+     * Asserts that {@code expected} and {@code actual} contain the same clients, including their client notes, and
+     * the same country notes.
+     */
+    private static void assertSameData(ReadOnlyTbmManager expected, ReadOnlyTbmManager actual) {
+        assertEquals(new TbmManager(expected), new TbmManager(actual));
+        List<Client> expectedClients = expected.getClientList();
+        List<Client> actualClients = actual.getClientList();
+        for (int i = 0; i < expectedClients.size(); i++) {
+            assertEquals(expectedClients.get(i).getClientNotesAsUnmodifiableList(),
+                    actualClients.get(i).getClientNotesAsUnmodifiableList());
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
 import seedu.address.model.client.ContractExpiryDate;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.Name;
@@ -58,16 +60,35 @@ public class JsonAdaptedClientTest {
     @Test
     public void toModelType_validClientWithTaggedClientNote_returnsTrue() throws IllegalValueException {
         Client taggedClient = new ClientBuilder(BENSON).build();
-        Note taggedClientNote = new Note("some note");
         Set<Tag> associatedTags = new HashSet<>();
         associatedTags.add(new Tag("someTag"));
-        taggedClientNote.setTags(associatedTags);
+        Note taggedClientNote = new Note("some note", associatedTags);
         taggedClient.addClientNote(taggedClientNote);
         JsonAdaptedClient client = new JsonAdaptedClient(taggedClient);
         assertDoesNotThrow(client::toModelType);
         assertTrue(taggedClient.equals(client.toModelType()));
     }
 
+    @Test
+    public void toModelType_validClientDetails_keepsClientId() throws Exception {
+        assertEquals(BENSON.getClientId(), new JsonAdaptedClient(BENSON).toModelType().getClientId());
+    }
+
+    @Test
+    public void toModelType_missingClientId_clientIdGenerated() throws Exception {
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_COUNTRY, VALID_TIMEZONE, VALID_CONTRACT_EXPIRY_DATE, VALID_LAST_MODIFIED_INSTANT, clientNotes);
+        assertNotNull(client.toModelType().getClientId());
+    }
+
+    @Test
+    public void toModelType_invalidClientId_throwsIllegalValueException() {
+        JsonAdaptedClient client = new JsonAdaptedClient("not-a-uuid", VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_COUNTRY, VALID_TIMEZONE, VALID_CONTRACT_EXPIRY_DATE, VALID_LAST_MODIFIED_INSTANT,
+                clientNotes);
+        assertThrows(IllegalValueException.class, ClientId.MESSAGE_CONSTRAINTS, client::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedClient client = new JsonAdaptedClient(INVALID_NAME, VALID_PHONE, VALID_EMAIL,
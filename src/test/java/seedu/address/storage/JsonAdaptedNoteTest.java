@@ -42,9 +42,8 @@ public class JsonAdaptedNoteTest {
 
     @Test
     public void toModelType_validTaggedClientNote_returnsTaggedClientNote() throws IllegalValueException {
-        Note taggedClientNote = new Note(VALID_NOTE);
         Set<Tag> associatedTags = getDefaultTagSet();
-        taggedClientNote.setTags(associatedTags);
+        Note taggedClientNote = new Note(VALID_NOTE, associatedTags);
         JsonAdaptedNote jsonAdaptedNote = new JsonAdaptedNote(taggedClientNote);
         Note deserializedNote = jsonAdaptedNote.toModelType();
         assertTrue(deserializedNote.isClientNote());
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TbmManager;
+import seedu.address.model.country.Country;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TypicalClients;
+
+public class JsonTbmManagerReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTbmManagerReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableTbmManagerTest");
+
+    @Test
+    public void read_typicalClientsFile_success() throws Exception {
+        TbmManager tbmManagerFromFile = read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalClientsTbmManager.json"));
+        TbmManager typicalClientsTbmManager = TypicalClients.getTypicalTbmManager();
+        assertEquals(typicalClientsTbmManager.getClientList(), tbmManagerFromFile.getClientList());
+    }
+
+    @Test
+    public void read_invalidClientFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidClientTbmManager.json")));
+    }
+
+    @Test
+    public void read_duplicateClients_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTbmManager.MESSAGE_DUPLICATE_CLIENT, () ->
+                read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateClientTbmManager.json")));
+    }
+
+    @Test
+    public void read_unknownFields_fieldsSkipped() throws Exception {
+        TbmManager tbmManagerFromFile = read(TEST_DATA_FOLDER.resolve("unknownFieldsTbmManager.json"));
+        assertEquals(1, tbmManagerFromFile.getClientList().size());
+        CountryNote expectedNote = new CountryNote("hot weather", new Country("SG"),
+                Collections.singleton(new Tag("weather")));
+        assertEquals(Collections.singletonList(expectedNote), tbmManagerFromFile.getCountryNoteList());
+    }
+
+    @Test
+    public void read_notObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read(TEST_DATA_FOLDER.resolve("notObjectTbmManager.json")));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> read(TEST_DATA_FOLDER.resolve("truncatedTbmManager.json")));
+    }
+
+    private TbmManager read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonTbmManagerReader.read(parser);
+        }
+    }
+}
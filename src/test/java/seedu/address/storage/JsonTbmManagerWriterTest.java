@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.country.Country;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+
+public class JsonTbmManagerWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyPrinted_sameAsSerializableTbmManager() throws Exception {
+        TbmManager tbmManager = getTbmManagerWithNotes(Collections.singleton(new Tag("vip")));
+        Path filePath = testFolder.resolve("data.json");
+
+        write(tbmManager, filePath, true);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTbmManager(tbmManager)),
+                Files.readString(filePath));
+    }
+
+    @Test
+    public void write_compact_sameAsCompactSerializableTbmManager() throws Exception {
+        TbmManager tbmManager = getTbmManagerWithNotes(Collections.singleton(new Tag("vip")));
+        Path filePath = testFolder.resolve("data.json");
+
+        write(tbmManager, filePath, false);
+
+        String written = Files.readString(filePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableTbmManager(tbmManager)), written);
+        assertFalse(written.contains("\n"));
+    }
+
+    @Test
+    public void write_multipleTags_readBackSame() throws Exception {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("vip"));
+        tags.add(new Tag("golf"));
+        tags.add(new Tag("urgent"));
+        TbmManager tbmManager = getTbmManagerWithNotes(tags);
+        Path filePath = testFolder.resolve("data.json");
+
+        write(tbmManager, filePath, false);
+
+        TbmManager readBack;
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            readBack = JsonTbmManagerReader.read(parser);
+        }
+        assertEquals(tbmManager, readBack);
+        List<Client> clients = tbmManager.getClientList();
+        for (int i = 0; i < clients.size(); i++) {
+            assertEquals(clients.get(i).getClientNotesAsUnmodifiableList(),
+                    readBack.getClientList().get(i).getClientNotesAsUnmodifiableList());
+        }
+    }
+
+    @Test
+    public void write_existingLongerFile_fileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.writeString(filePath, " ".repeat(100_000));
+
+        write(new TbmManager(), filePath, true);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTbmManager(new TbmManager())),
+                Files.readString(filePath));
+    }
+
+    private static void write(TbmManager tbmManager, Path filePath, boolean prettyPrint) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, prettyPrint)) {
+            JsonTbmManagerWriter.write(generator, tbmManager);
+        }
+    }
+
+    /**
+     * Returns a TbmManager with two clients that have client notes and a country note, all tagged with {@code tags}.
+     */
+    private static TbmManager getTbmManagerWithNotes(Set<Tag> tags) {
+        TbmManager tbmManager = new TbmManager();
+        Client alice = new ClientBuilder(ALICE).build();
+        Note aliceNote = new Note("likes \"quoted\" text", tags);
+        alice.addClientNote(aliceNote);
+        tbmManager.addClient(alice);
+        tbmManager.addClient(new ClientBuilder(BENSON).build());
+        CountryNote countryNote = new CountryNote("hot weather", new Country("SG"), tags);
+        tbmManager.addCountryNote(countryNote);
+        return tbmManager;
+    }
+}
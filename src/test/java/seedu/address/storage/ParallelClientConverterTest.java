@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.JsonSerializableTbmManager.MESSAGE_DUPLICATE_CLIENT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Name;
+
+public class ParallelClientConverterTest {
+
+    // Large enough for the conversion to be split between several tasks
+    private static final int CLIENT_COUNT = 2000;
+    private static final String INVALID_NAME = "R@chel";
+    private static final String[] COUNTRY_CODES = {"SG", "MY", "JP", "US", "GB", "AU", "IN", "DE"};
+    private static final String[] TAG_NAMES = {"vip", "golf", "urgent", "family", "renewal"};
+
+    @Test
+    public void addClients_validClients_addedInOrder() throws Exception {
+        List<JsonAdaptedClient> adaptedClients = getAdaptedClients(CLIENT_COUNT);
+        TbmManager expected = new TbmManager();
+        for (JsonAdaptedClient adaptedClient : adaptedClients) {
+            expected.addClient(adaptedClient.toModelType());
+        }
+
+        TbmManager tbmManager = new TbmManager();
+        ParallelClientConverter.addClients(adaptedClients, tbmManager);
+
+        assertEquals(expected.getClientList(), tbmManager.getClientList());
+    }
+
+    @Test
+    public void addClients_noClients_nothingAdded() throws Exception {
+        TbmManager tbmManager = new TbmManager();
+        ParallelClientConverter.addClients(Collections.emptyList(), tbmManager);
+        assertTrue(ParallelClientConverter.convert(Collections.emptyList()).isEmpty());
+        assertEquals(new TbmManager(), tbmManager);
+    }
+
+    @Test
+    public void addClients_invalidClientBeforeDuplicate_throwsInvalidClient() {
+        List<JsonAdaptedClient> adaptedClients = new ArrayList<>(
+                getAdaptedClients(CLIENT_COUNT));
+        adaptedClients.set(500, getClientWithInvalidName(500));
+        adaptedClients.set(1500, adaptedClients.get(0));
+
+        TbmManager tbmManager = new TbmManager();
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                ParallelClientConverter.addClients(adaptedClients, tbmManager));
+        assertEquals(500, tbmManager.getClientList().size());
+    }
+
+    @Test
+    public void addClients_duplicateBeforeInvalidClient_throwsDuplicate() {
+        List<JsonAdaptedClient> adaptedClients = new ArrayList<>(
+                getAdaptedClients(CLIENT_COUNT));
+        adaptedClients.set(500, adaptedClients.get(0));
+        adaptedClients.set(1500, getClientWithInvalidName(1500));
+
+        TbmManager tbmManager = new TbmManager();
+        assertThrows(IllegalValueException.class, MESSAGE_DUPLICATE_CLIENT, () ->
+                ParallelClientConverter.addClients(adaptedClients, tbmManager));
+        assertEquals(500, tbmManager.getClientList().size());
+    }
+
+    /**
+     * Returns {@code clientCount} distinct adapted clients, each with a tagged client note.
+     */
+    private static List<JsonAdaptedClient> getAdaptedClients(int clientCount) {
+        List<JsonAdaptedClient> clients = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            List<JsonAdaptedNote> clientNotes = Collections.singletonList(new JsonAdaptedNote("note " + i,
+                    "NULL_CC", Collections.singleton(new JsonAdaptedTag(TAG_NAMES[i % TAG_NAMES.length]))));
+            clients.add(getAdaptedClient(i + " Kim Lim", i, clientNotes));
+        }
+        return clients;
+    }
+
+    /**
+     * Returns an adapted client with an invalid name, and otherwise the details of the {@code i}-th client.
+     */
+    private static JsonAdaptedClient getClientWithInvalidName(int i) {
+        return getAdaptedClient(INVALID_NAME, i, null);
+    }
+
+    private static JsonAdaptedClient getAdaptedClient(String name, int i, List<JsonAdaptedNote> clientNotes) {
+        return new JsonAdaptedClient(name, String.valueOf(80000000 + i), "client" + i + "@example.com",
+                i + ", Jurong West Ave 6", COUNTRY_CODES[i % COUNTRY_CODES.length], "UTC+08:00", "1-4-2030", null,
+                clientNotes);
+    }
+}
@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalTbmManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TbmManager;
+import seedu.address.model.client.Client;
+import seedu.address.model.country.Country;
+import seedu.address.model.note.CountryNote;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+
+public class ShardedTbmManagerStorageTest {
+
+    private static final int MAX_CLIENTS_PER_SHARD = 4;
+    // The number of shards that the typical clients are spread over
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTbmManager_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedTbmManagerStorage(testFolder.resolve("data.json")).readTbmManager(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedTbmManagerStorage(testFolder.resolve("NonExistentFile.json")).readTbmManager()
+                .isPresent());
+    }
+
+    @Test
+    public void saveTbmManager_nullTbmManager_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedTbmManagerStorage(testFolder.resolve("data.json")).saveTbmManager(null));
+    }
+
+    @Test
+    public void readAndSaveTbmManager_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        TbmManager original = getTypicalTbmManager();
+        original.addCountryNote(new CountryNote("hot weather", new Country("SG")));
+
+        storage.saveTbmManager(original);
+        TbmManager readBack = new TbmManager(storage.readTbmManager().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getCountryNoteList(), readBack.getCountryNoteList());
+
+        // Modify data, overwrite existing shards, and read back with a new storage
+        original.removeClient(original.getClientList().get(0));
+        original.addClient(HOON);
+        original.setClient(original.getClientList().get(2), new ClientBuilder(IDA).build());
+        storage.saveTbmManager(original);
+        assertEquals(original, new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get()));
+
+        // Save to a new file
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveTbmManager(original, otherFilePath);
+        assertEquals(original, new TbmManager(storage.readTbmManager(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveTbmManager_oneClientEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        TbmManager tbmManager = getTypicalTbmManager();
+        tbmManager.addCountryNote(new CountryNote("hot weather", new Country("SG")));
+        storage.saveTbmManager(tbmManager);
+        Set<String> shardsBefore = getShardNames(filePath);
+
+        Client edited = new ClientBuilder(tbmManager.getClientList().get(1)).withPhone("99999999").build();
+        tbmManager.setClient(tbmManager.getClientList().get(1), edited);
+        storage.saveTbmManager(tbmManager);
+        Set<String> shardsAfter = getShardNames(filePath);
+
+        Set<String> removedShards = new HashSet<>(shardsBefore);
+        removedShards.removeAll(shardsAfter);
+        Set<String> addedShards = new HashSet<>(shardsAfter);
+        addedShards.removeAll(shardsBefore);
+        assertEquals(Set.of("clients-1-1.json"), removedShards);
+        assertEquals(Set.of("clients-1-2.json"), addedShards);
+        assertEquals(tbmManager, new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get()));
+    }
+
+    @Test
+    public void saveTbmManager_twoDistantClientsEdited_onlyTheirShardsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        TbmManager tbmManager = getTypicalTbmManager();
+        storage.saveTbmManager(tbmManager);
+        Set<String> shardsBefore = getShardNames(filePath);
+
+        for (int index : new int[] {1, 6}) {
+            Client client = tbmManager.getClientList().get(index);
+            tbmManager.setClient(client.getClientId(), new ClientBuilder(client).withClientId(client.getClientId())
+                    .withPhone("99999999").build());
+        }
+        storage.saveTbmManager(tbmManager);
+        Set<String> shardsAfter = getShardNames(filePath);
+
+        Set<String> addedShards = new HashSet<>(shardsAfter);
+        addedShards.removeAll(shardsBefore);
+        assertEquals(Set.of("clients-1-2.json", "clients-2-2.json"), addedShards);
+        assertTrue(shardsAfter.containsAll(Set.of("clients-0-1.json", "clients-3-1.json")));
+        assertEquals(tbmManager, new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get()));
+    }
+
+    @Test
+    public void saveTbmManager_clientsOutgrowShards_shardsSplit() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        TbmManager tbmManager = getTypicalTbmManager();
+        storage.saveTbmManager(tbmManager);
+
+        // up to MAX_CLIENTS_PER_SHARD clients per shard on average are added to the existing shards
+        for (int i = tbmManager.getClientList().size(); i < MAX_CLIENTS_PER_SHARD * SHARD_COUNT; i++) {
+            tbmManager.addClient(new ClientBuilder().withName("Client " + i).withPhone(String.valueOf(90000000 + i))
+                    .build());
+        }
+        storage.saveTbmManager(tbmManager);
+        assertEquals(SHARD_COUNT, getShardNames(filePath).size());
+
+        tbmManager.addClient(new ClientBuilder().withName("Client outgrowing").build());
+        storage.saveTbmManager(tbmManager);
+        assertTrue(getShardNames(filePath).size() > SHARD_COUNT);
+        assertTrue(Files.readString(filePath).contains("\"shardCount\" : 9"));
+        assertEquals(tbmManager, new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get()));
+    }
+
+    @Test
+    public void saveTbmManager_clientNoteAddedInPlace_shardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        TbmManager tbmManager = getTypicalTbmManager();
+        storage.saveTbmManager(tbmManager);
+
+        tbmManager.getClientList().get(0).addClientNote(new Note("prefers email"));
+        storage.saveTbmManager(tbmManager);
+
+        Client readBack = new ShardedTbmManagerStorage(filePath).readTbmManager().get().getClientList().get(0);
+        assertEquals(tbmManager.getClientList().get(0).getClientNotesAsUnmodifiableList(),
+                readBack.getClientNotesAsUnmodifiableList());
+    }
+
+    @Test
+    public void saveTbmManager_nothingChanged_noShardsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        storage.saveTbmManager(getTypicalTbmManager());
+        Set<String> shardsBefore = getShardNames(filePath);
+
+        storage.saveTbmManager(getTypicalTbmManager());
+
+        assertEquals(shardsBefore, getShardNames(filePath));
+    }
+
+    @Test
+    public void saveTbmManager_allClientsRemoved_emptyBucketsHaveNoShard() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD);
+        storage.saveTbmManager(getTypicalTbmManager());
+
+        storage.saveTbmManager(new TbmManager());
+
+        assertEquals(Set.of(), getShardNames(filePath));
+        assertEquals(new TbmManager(), new TbmManager(storage.readTbmManager().get()));
+    }
+
+    @Test
+    public void readTbmManager_interruptedSave_unlistedShardsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TbmManager original = getTypicalTbmManager();
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(original);
+        Set<String> listedShards = getShardNames(filePath);
+        // A shard left behind by a save that was interrupted before the manifest was replaced
+        Files.writeString(ShardedTbmManagerStorage.getShardDirectory(filePath).resolve("clients-0-2.json"), "{");
+
+        assertEquals(original, new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get()));
+        assertEquals(listedShards, getShardNames(filePath));
+    }
+
+    @Test
+    public void read_invalidManifest_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(getTypicalTbmManager());
+        Files.writeString(filePath, Files.readString(filePath).replace("\"shardCount\" : 4", "\"shardCount\" : 5"));
+
+        assertThrows(DataConversionException.class, () -> new ShardedTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    @Test
+    public void read_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(getTypicalTbmManager());
+        Files.delete(ShardedTbmManagerStorage.getShardDirectory(filePath).resolve("clients-0-1.json"));
+
+        assertThrows(DataConversionException.class, () -> new ShardedTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    @Test
+    public void read_clientInWrongShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(getTypicalTbmManager());
+        Path shardDirectory = ShardedTbmManagerStorage.getShardDirectory(filePath);
+        Files.copy(shardDirectory.resolve("clients-0-1.json"), shardDirectory.resolve("clients-1-1.json"),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertThrows(DataConversionException.class, () -> new ShardedTbmManagerStorage(filePath).readTbmManager());
+    }
+
+    @Test
+    public void readTbmManager_clientNotesStoredBesideClients_loadedOnDemand() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TbmManager original = getTypicalTbmManagerWithClientNotes();
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(original);
+
+        TbmManager readBack = new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get());
+        Client client = readBack.getClientList().get(0);
+        assertFalse(client.isClientNotesLoaded());
+        assertEquals(Set.of(new Tag("tag0")), client.getClientNoteTags());
+        assertEquals(original.getClientList().get(0).getClientNotesAsUnmodifiableList(),
+                client.getClientNotesAsUnmodifiableList());
+        assertTrue(client.isClientNotesLoaded());
+    }
+
+    @Test
+    public void loadClientNotes_duringSave_notBlocked() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TbmManager original = getTypicalTbmManagerWithClientNotes();
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(original);
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath);
+        Client client = storage.readTbmManager().get().getClientList().get(0);
+
+        // a save holds the lock of the storage while it runs
+        Thread loadingThread = new Thread(client::getClientNotesAsUnmodifiableList);
+        synchronized (storage) {
+            loadingThread.start();
+            loadingThread.join(10000);
+            assertFalse(loadingThread.isAlive());
+        }
+        assertTrue(client.isClientNotesLoaded());
+    }
+
+    @Test
+    public void saveTbmManager_shardOfUnloadedClientRewritten_clientNotesStillLoad() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TbmManager original = getTypicalTbmManagerWithClientNotes();
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(original);
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath);
+        TbmManager tbmManager = new TbmManager(storage.readTbmManager().get());
+
+        // clients 0 and SHARD_COUNT share a shard
+        Client edited = new ClientBuilder(tbmManager.getClientList().get(SHARD_COUNT)).withPhone("99999999").build();
+        tbmManager.setClient(tbmManager.getClientList().get(SHARD_COUNT), edited);
+        storage.saveTbmManager(tbmManager);
+        assertFalse(getShardNames(filePath).contains("clients-0-1.json"));
+
+        Client unloadedClient = tbmManager.getClientList().get(0);
+        assertFalse(unloadedClient.isClientNotesLoaded());
+        assertEquals(original.getClientList().get(0).getClientNotesAsUnmodifiableList(),
+                unloadedClient.getClientNotesAsUnmodifiableList());
+        TbmManager readBack = new TbmManager(new ShardedTbmManagerStorage(filePath).readTbmManager().get());
+        assertEquals(original.getClientList().get(0).getClientNotesAsUnmodifiableList(),
+                readBack.getClientList().get(0).getClientNotesAsUnmodifiableList());
+    }
+
+    @Test
+    public void saveTbmManager_unloadedClientRemoved_clientNotesStillLoad() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TbmManager original = getTypicalTbmManagerWithClientNotes();
+        new ShardedTbmManagerStorage(filePath, MAX_CLIENTS_PER_SHARD).saveTbmManager(original);
+        ShardedTbmManagerStorage storage = new ShardedTbmManagerStorage(filePath);
+        TbmManager tbmManager = new TbmManager(storage.readTbmManager().get());
+
+        // a removed client can still be brought back by undo, so its client notes must outlive its shard
+        Client removedClient = tbmManager.getClientList().get(0);
+        tbmManager.removeClient(removedClient);
+        storage.saveTbmManager(tbmManager);
+        assertFalse(getShardNames(filePath).contains("clients-0-1.json"));
+
+        assertEquals(original.getClientList().get(0).getClientNotesAsUnmodifiableList(),
+                removedClient.getClientNotesAsUnmodifiableList());
+    }
+
+    @Test
+    public void isManifestFile() throws Exception {
+        Path manifestPath = testFolder.resolve("data.json");
+        Path jsonFilePath = testFolder.resolve("other.json");
+        TbmManager tbmManager = new TbmManager();
+        tbmManager.addClient(ALICE);
+        new ShardedTbmManagerStorage(manifestPath).saveTbmManager(tbmManager);
+        new JsonTbmManagerStorage(jsonFilePath).saveTbmManager(tbmManager);
+
+        assertTrue(ShardedTbmManagerStorage.isManifestFile(manifestPath));
+        assertFalse(ShardedTbmManagerStorage.isManifestFile(jsonFilePath));
+        assertFalse(ShardedTbmManagerStorage.isManifestFile(testFolder.resolve("NonExistentFile.json")));
+        assertFalse(ShardedTbmManagerStorage.isManifestFile(testFolder));
+    }
+
+    /**
+     * Returns the typical TbmManager with a tagged client note added to every client.
+     */
+    private static TbmManager getTypicalTbmManagerWithClientNotes() {
+        TbmManager tbmManager = getTypicalTbmManager();
+        for (int i = 0; i < tbmManager.getClientList().size(); i++) {
+            Note note = new Note("note of client " + i, Set.of(new Tag("tag" + i)));
+            tbmManager.getClientList().get(i).addClientNote(note);
+        }
+        return tbmManager;
+    }
+
+    /**
+     * Returns the names of the files in the shard directory of the manifest at {@code filePath}.
+     */
+    private static Set<String> getShardNames(Path filePath) throws IOException {
+        try (Stream<Path> shardFiles = Files.list(ShardedTbmManagerStorage.getShardDirectory(filePath))) {
+            return shardFiles.map(shardFile -> shardFile.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
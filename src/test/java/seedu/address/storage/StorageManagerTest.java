@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.HOON;
 import static seedu.address.testutil.TypicalClients.getTypicalTbmManager;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.ReadOnlyTbmManager;
 import seedu.address.model.TbmManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.note.Note;
 
 public class StorageManagerTest {
 
@@ -61,6 +66,95 @@ public class StorageManagerTest {
         assertEquals(original, new TbmManager(retrieved));
     }
 
+    @Test
+    public void readTbmManager_binaryFileWithJsonStorage_readAndConvertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("tm");
+        TbmManager original = getTypicalTbmManager();
+        new BinaryTbmManagerStorage(filePath).saveTbmManager(original);
+
+        assertEquals(original, new TbmManager(storageManager.readTbmManager().get()));
+        storageManager.saveTbmManager(original);
+        assertFalse(BinaryTbmManagerStorage.isBinaryFile(filePath));
+        assertEquals(original, new TbmManager(new JsonTbmManagerStorage(filePath).readTbmManager().get()));
+    }
+
+    @Test
+    public void readTbmManager_jsonFileWithBinaryStorage_readAndConvertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("tm");
+        StorageManager binaryStorageManager = new StorageManager(new BinaryTbmManagerStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TbmManager original = getTypicalTbmManager();
+        new JsonTbmManagerStorage(filePath).saveTbmManager(original);
+
+        assertEquals(original, new TbmManager(binaryStorageManager.readTbmManager().get()));
+        binaryStorageManager.saveTbmManager(original);
+        assertTrue(BinaryTbmManagerStorage.isBinaryFile(filePath));
+        assertEquals(original, new TbmManager(binaryStorageManager.readTbmManager().get()));
+    }
+
+    @Test
+    public void readTbmManager_jsonFileWithShardedStorage_readAndConvertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("tm");
+        StorageManager shardedStorageManager = new StorageManager(new ShardedTbmManagerStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TbmManager original = getTypicalTbmManager();
+        new JsonTbmManagerStorage(filePath).saveTbmManager(original);
+
+        assertEquals(original, new TbmManager(shardedStorageManager.readTbmManager().get()));
+        shardedStorageManager.saveTbmManager(original);
+        assertTrue(ShardedTbmManagerStorage.isManifestFile(filePath));
+        assertEquals(original, new TbmManager(shardedStorageManager.readTbmManager().get()));
+    }
+
+    @Test
+    public void readTbmManager_shardedFileWithJsonStorage_readAndConvertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("tm");
+        TbmManager original = getTypicalTbmManager();
+        original.getClientList().get(0).addClientNote(new Note("prefers email"));
+        new ShardedTbmManagerStorage(filePath).saveTbmManager(original);
+
+        TbmManager readBack = new TbmManager(storageManager.readTbmManager().get());
+        assertEquals(original, readBack);
+        storageManager.saveTbmManager(readBack);
+        assertFalse(ShardedTbmManagerStorage.isManifestFile(filePath));
+        assertEquals(original, new TbmManager(new JsonTbmManagerStorage(filePath).readTbmManager().get()));
+
+        // the shards are removed, but the client notes read from them can still be loaded
+        assertFalse(Files.exists(ShardedTbmManagerStorage.getShardDirectory(filePath)));
+        assertEquals(original.getClientList().get(0).getClientNotesAsUnmodifiableList(),
+                readBack.getClientList().get(0).getClientNotesAsUnmodifiableList());
+    }
+
+    @Test
+    public void readTbmManager_journalSwitchedToJsonAndBack_journalFoldedInAndDeleted() throws Exception {
+        Path filePath = getTempFilePath("tm");
+        StorageManager journalStorageManager = new StorageManager(new JournalTbmManagerStorage(filePath,
+                Long.MAX_VALUE), new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TbmManager tbmManager = getTypicalTbmManager();
+        journalStorageManager.saveTbmManager(tbmManager);
+        tbmManager.removeClient(tbmManager.getClientList().get(0));
+        journalStorageManager.saveTbmManager(tbmManager);
+        assertTrue(Files.exists(JournalTbmManagerStorage.getJournalPath(filePath)));
+
+        // the changes that are only in the journal are read and kept by the json storage
+        assertEquals(tbmManager, new TbmManager(storageManager.readTbmManager().get()));
+        storageManager.saveTbmManager(tbmManager);
+        assertFalse(JournalTbmManagerStorage.hasJournal(filePath));
+        tbmManager.addClient(HOON);
+        storageManager.saveTbmManager(tbmManager);
+
+        StorageManager otherJournalStorageManager = new StorageManager(new JournalTbmManagerStorage(filePath,
+                Long.MAX_VALUE), new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(tbmManager, new TbmManager(otherJournalStorageManager.readTbmManager().get()));
+    }
+
+    @Test
+    public void readTbmManager_missingFileWithBinaryStorage_emptyResult() throws Exception {
+        StorageManager binaryStorageManager = new StorageManager(new BinaryTbmManagerStorage(getTempFilePath("tm")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertFalse(binaryStorageManager.readTbmManager().isPresent());
+    }
+
     @Test
     public void getTbmManagerFilePath() {
         assertNotNull(storageManager.getTbmManagerFilePath());
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import seedu.address.model.client.Address;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
 import seedu.address.model.client.ContractExpiryDate;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.LastModifiedInstant;
@@ -31,6 +32,7 @@ public class ClientBuilder {
     private Timezone timezone;
     private ContractExpiryDate contractExpiryDate;
     private LastModifiedInstant lastModifiedInstant;
+    private ClientId clientId;
 
     /**
      * Creates a {@code ClientBuilder} with the default details.
@@ -140,12 +142,22 @@ public class ClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code ClientId} of the {@code Client} that we are building.
+     * Clients are otherwise given a new client ID every time they are built.
+     */
+    public ClientBuilder withClientId(ClientId clientId) {
+        this.clientId = clientId;
+        return this;
+    }
+
     /**
      * Builds a client with the specified fields in {@code ClientBuilder}.
      * @return Client with fields in {@code ClientBuilder}.
      */
     public Client build() {
-        return new Client(name, phone, email, address, country, timezone, contractExpiryDate, lastModifiedInstant);
+        return new Client(clientId == null ? ClientId.generate() : clientId, name, phone, email, address, country,
+                timezone, contractExpiryDate, lastModifiedInstant);
     }
 
 }